@@ -0,0 +1,119 @@
+package click.bitbank.api.domain.service;
+
+import click.bitbank.api.application.response.AccountBookSearchResponse;
+import click.bitbank.api.application.response.DTO.AccountBookByCategoryDTO;
+import click.bitbank.api.application.response.DTO.AccountBookInfoDTO;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.infrastructure.util.RequestTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가계부 검색 결과 만들기 벤치마크
+ * ./gradlew jmh 로 실행하며 gc 프로파일러의 gc.alloc.rate.norm (연산 당 할당 byte) 으로
+ * 기존 방식(행마다 DateTimeFormatter, 날짜별 DTO, LocalDateTime.now() 생성)과 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountBookSearchResponseBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private List<AccountBookByCategoryDTO> accountBooks;
+
+    private AccountBookSearchService accountBookSearchService;
+
+    @Setup
+    public void setUp() {
+        accountBookSearchService = new AccountBookSearchService(null, null);
+        accountBooks = new ArrayList<>(rows);
+
+        LocalDateTime date = LocalDateTime.now();
+        for (int i = 0; i < rows; i++) {
+            if (i % 20 == 0) date = date.minusDays(1);   // 하루 20건, 최신순
+
+            AccountBookType accountBookType = i % 3 == 0 ? AccountBookType.I : AccountBookType.P;
+            long money = 1000L + i;
+            accountBooks.add(AccountBookByCategoryDTO.builder()
+                .accountBookId(i)
+                .date(date.minusMinutes(i % 20))
+                .info("거래처" + (i % 50))
+                .money(accountBookType == AccountBookType.I ? money : -money)
+                .accountBookType(accountBookType)
+                .build());
+        }
+    }
+
+    @Benchmark
+    public AccountBookSearchResponse current() {
+        return accountBookSearchService.makeAccountBookSearchResponse(accountBooks, RequestTime.now());
+    }
+
+    @Benchmark
+    public AccountBookSearchResponse legacy() {
+        long incomeTotal = 0;
+        long expenditureTotal = 0;
+
+        Map<String, AccountBookSearchByDailyDTO> accountBookMap = new LinkedHashMap<>();
+
+        for (AccountBookByCategoryDTO accountBook : accountBooks) {
+            String date = accountBook.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+
+            AccountBookSearchByDailyDTO accountBookSearchByDailyDTO = legacyDailyDTO(accountBook.getDate());
+
+            if (!accountBookMap.containsKey(date)) {
+                accountBookMap.put(date, accountBookSearchByDailyDTO);
+            }
+            accountBookSearchByDailyDTO = accountBookMap.get(date);
+            accountBookSearchByDailyDTO.setAccountBookTotalByDaily(accountBook.getMoney());
+            accountBookSearchByDailyDTO.setAccountBookInfoDTOList(AccountBookInfoDTO.builder()
+                .accountBookId(accountBook.getAccountBookId())
+                .accountBookDate(accountBook.getDate())
+                .accountBookType(accountBook.getAccountBookType())
+                .accountBookInfo(accountBook.getInfo())
+                .accountMoney(accountBook.getMoney())
+                .build());
+
+            accountBookMap.put(date, accountBookSearchByDailyDTO);
+
+            if (accountBook.getAccountBookType() == AccountBookType.I) {
+                incomeTotal += accountBook.getMoney();
+            } else {
+                expenditureTotal -= accountBook.getMoney();
+            }
+        }
+
+        return new AccountBookSearchResponse(new ArrayList<>(accountBookMap.values()), incomeTotal, expenditureTotal);
+    }
+
+    // 기존 AccountBookSearchByDailyDTO(LocalDateTime) 생성자와 같은 방식
+    private static AccountBookSearchByDailyDTO legacyDailyDTO(LocalDateTime date) {
+        LocalDateTime firstDayThisYear = LocalDateTime.now().with(TemporalAdjusters.firstDayOfYear());
+        String formattedDate = date.isBefore(firstDayThisYear)
+            ? date.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일"))
+            : date.format(DateTimeFormatter.ofPattern("MM월 dd일"));
+
+        return new AccountBookSearchByDailyDTO(
+            formattedDate,
+            date.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.KOREAN),
+            0,
+            new ArrayList<>()
+        );
+    }
+}
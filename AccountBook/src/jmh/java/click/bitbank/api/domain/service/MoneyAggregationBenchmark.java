@@ -0,0 +1,101 @@
+package click.bitbank.api.domain.service;
+
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가계부 금액 집계 벤치마크
+ * 가계부 검색 결과 만들기의 금액 계산(지출, 이체 음수 변환, 날짜별 합계, 총 수입, 지출)만 떼어
+ * 기존 BigInteger 방식과 long(Math.addExact) 방식을 비교한다.
+ * ./gradlew jmh 로 실행하며 gc 프로파일러의 gc.alloc.rate.norm (연산 당 할당 byte) 을 함께 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAggregationBenchmark {
+
+    private static final int ROWS_PER_DAY = 20; // 하루 20건, 최신순
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private AccountBookType[] accountBookTypes;
+
+    private long[] moneys;  // DB 에서 조회한 금액 (long)
+
+    private BigInteger[] bigIntegerMoneys;  // DB 에서 조회한 금액 (BigInteger)
+
+    @Setup
+    public void setUp() {
+        accountBookTypes = new AccountBookType[rows];
+        moneys = new long[rows];
+        bigIntegerMoneys = new BigInteger[rows];
+
+        for (int i = 0; i < rows; i++) {
+            accountBookTypes[i] = i % 3 == 0 ? AccountBookType.I : AccountBookType.P;
+            moneys[i] = 1000L + i * 37L;
+            bigIntegerMoneys[i] = BigInteger.valueOf(moneys[i]);
+        }
+    }
+
+    @Benchmark
+    public void bigInteger(Blackhole blackhole) {
+        BigInteger incomeTotal = BigInteger.ZERO;
+        BigInteger expenditureTotal = BigInteger.ZERO;
+        BigInteger dailyTotal = BigInteger.ZERO;
+
+        for (int i = 0; i < rows; i++) {
+            if (i % ROWS_PER_DAY == 0) {    // 날짜가 바뀌면 날짜별 합계 전달 후 초기화
+                blackhole.consume(dailyTotal);
+                dailyTotal = BigInteger.ZERO;
+            }
+
+            BigInteger money = accountBookTypes[i] == AccountBookType.I ? bigIntegerMoneys[i] : bigIntegerMoneys[i].negate();
+            dailyTotal = dailyTotal.add(money);
+
+            if (accountBookTypes[i] == AccountBookType.I) {
+                incomeTotal = incomeTotal.add(money);
+            } else {
+                expenditureTotal = expenditureTotal.subtract(money);
+            }
+        }
+
+        blackhole.consume(dailyTotal);
+        blackhole.consume(incomeTotal);
+        blackhole.consume(expenditureTotal);
+    }
+
+    @Benchmark
+    public void primitive(Blackhole blackhole) {
+        long incomeTotal = 0;
+        long expenditureTotal = 0;
+        long dailyTotal = 0;
+
+        for (int i = 0; i < rows; i++) {
+            if (i % ROWS_PER_DAY == 0) {    // 날짜가 바뀌면 날짜별 합계 전달 후 초기화
+                blackhole.consume(dailyTotal);
+                dailyTotal = 0;
+            }
+
+            long money = accountBookTypes[i] == AccountBookType.I ? moneys[i] : Math.negateExact(moneys[i]);
+            dailyTotal = Math.addExact(dailyTotal, money);
+
+            if (accountBookTypes[i] == AccountBookType.I) {
+                incomeTotal = Math.addExact(incomeTotal, money);
+            } else {
+                expenditureTotal = Math.subtractExact(expenditureTotal, money);
+            }
+        }
+
+        blackhole.consume(dailyTotal);
+        blackhole.consume(incomeTotal);
+        blackhole.consume(expenditureTotal);
+    }
+}
@@ -1,17 +1,24 @@
 package click.bitbank.api.application.accountBook;
 
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookSearchResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface AccountBookApplicationService {
 
     Mono<AccountBookWriteResponse> accountBookWrite(ServerRequest serverRequest); // 가계부 작성
 
+    Mono<AccountBookBulkWriteResponse> accountBookBulkWrite(ServerRequest serverRequest); // 가계부 일괄 작성
+
     Mono<AccountBookSearchResponse> accountBookSearch(ServerRequest serverRequest);   // 가계부 목록 검색
 
+    Flux<AccountBookSearchByDailyDTO> accountBookSearchStream(ServerRequest serverRequest); // 가계부 목록 커서 기반 스트리밍 검색
+
     Mono<AccountBookStatisticResponse> accountBookStatistic(ServerRequest serverRequest); // 월 별 통계
 
 }
@@ -1,16 +1,21 @@
 package click.bitbank.api.application.accountBook;
 
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookSearchResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import click.bitbank.api.domain.accountBook.AccountBookFindSpecification;
 import click.bitbank.api.domain.accountBook.MemberSpecification;
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.domain.accountBook.specification.AccountBookBulkWriteSpecification;
+import click.bitbank.api.domain.accountBook.specification.AccountBookIdempotencySpecification;
 import click.bitbank.api.domain.accountBook.specification.AccountBookWriteSpecification;
 import click.bitbank.api.domain.service.AccountBookSearchService;
 import click.bitbank.api.infrastructure.exception.status.BadRequestException;
 import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
 import click.bitbank.api.infrastructure.kafka.KafkaProducerService;
+import click.bitbank.api.infrastructure.util.AuthenticatedMember;
 import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
 import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
 import click.bitbank.api.presentation.shared.response.CommonResponse;
@@ -19,9 +24,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -31,32 +38,88 @@ public class AccountBookApplicationServiceImpl implements AccountBookApplication
     private final MemberSpecification memberSpecification;
     private final AccountBookSearchService accountBookSearchService;
     private final AccountBookWriteSpecification accountBookWriteSpecification;
+    private final AccountBookBulkWriteSpecification accountBookBulkWriteSpecification;
+    private final AccountBookIdempotencySpecification accountBookIdempotencySpecification;
     private final AccountBookFindSpecification accountBookFindSpecification;
     private final KafkaProducerService kafkaProducerService;
 
     /**
      * 가계부 작성
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청은 회원 검증, 가계부 작성 없이 처음 작성된 가계부 번호로 응답
+     * 회원 검증(Member 서비스 호출)은 트랜잭션 밖에서 처리하고, 가계부 작성만 트랜잭션으로 처리한다.
      * @param serverRequest: ServerRequest
      * @return Mono<AccountBookWriteResponse>
      */
     @Override
-    @Transactional(rollbackFor = Exception.class)
     public Mono<AccountBookWriteResponse> accountBookWrite(ServerRequest serverRequest) {
 
         return serverRequest.bodyToMono(AccountBookWriteRequest.class).flatMap(
             request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                 request.verify(); // 유효성 검사
 
-                Mono<CommonResponse> memberVerifyMono = memberSpecification.memberExistVerify(request.getMemberId());
+                String idempotencyKey = serverRequest.headers().firstHeader(AccountBookIdempotencySpecification.IDEMPOTENCY_KEY_HEADER);
+                if (idempotencyKey == null) return this.memberVerifyAndWrite(serverRequest, request);
 
-                return memberVerifyMono.flatMap(commonResponse -> { // 회원 인증 처리
-                    if (commonResponse.getRt() != 200) return Mono.error(new BadRequestException(commonResponse.getRtMsg()));
-
-                    return accountBookWriteSpecification.accountBookExistCheckAndWrite(request); // 가계부 작성 처리
-                });
+                accountBookIdempotencySpecification.idempotencyKeyVerify(idempotencyKey);
+                return accountBookIdempotencySpecification.findCompleted(idempotencyKey, request) // 최근 처리된 재요청
+                    .switchIfEmpty(Mono.defer(() -> accountBookIdempotencySpecification.reserveOrReplay(idempotencyKey, request))) // 이미 선점된 키
+                    .switchIfEmpty(Mono.defer(() -> this.memberVerify(request.getMemberId())
+                        .then(Mono.defer(() -> accountBookIdempotencySpecification.writeAndComplete(
+                            idempotencyKey, request, () -> accountBookWriteSpecification.accountBookExistCheckAndWrite(request)
+                        )))
+                        .onErrorResume(throwable -> accountBookIdempotencySpecification.release(idempotencyKey, request.getMemberId())
+                            .then(Mono.error(throwable)))));
             }
-        ).doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+        ).doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
+    }
+
+    /**
+     * 회원 검증 후 가계부 작성
+     * @param serverRequest: ServerRequest
+     * @param request: 유효성 검사가 끝난 AccountBookWriteRequest
+     * @return Mono<AccountBookWriteResponse>
+     */
+    private Mono<AccountBookWriteResponse> memberVerifyAndWrite(ServerRequest serverRequest, AccountBookWriteRequest request) {
+        return this.memberVerify(request.getMemberId())
+            .then(Mono.defer(() -> accountBookWriteSpecification.accountBookExistCheckAndWrite(request))); // 가계부 작성 처리
+    }
+
+    /**
+     * 작성 전 회원 검증 (트랜잭션 밖에서 호출)
+     * 탈퇴한 회원의 토큰으로 작성되지 않도록 Gateway 에서 검증된 회원도 확인한다. (로컬 캐시에 결과가 있으면 Member 서비스 호출 생략)
+     * @param memberId: 회원 고유번호
+     * @return Mono<CommonResponse> : 검증 성공 (실패하면 BadRequestException)
+     */
+    private Mono<CommonResponse> memberVerify(int memberId) {
+        return memberSpecification.memberExistVerify(memberId).flatMap(commonResponse -> { // 회원 인증 처리
+            if (commonResponse.getRt() != 200) return Mono.error(new BadRequestException(commonResponse.getRtMsg()));
+
+            return Mono.just(commonResponse);
+        });
+    }
+
+    /**
+     * 가계부 일괄 작성
+     * JSON 배열 또는 NDJSON 으로 전달된 한 회원의 가계부 내역을 회원 검증 1회 후 한 트랜잭션으로 저장
+     * 본문 수신과 회원 검증은 트랜잭션 밖에서 처리하고, 저장(AccountBookBulkWriteSpecification)만 트랜잭션으로 처리한다.
+     * @param serverRequest: ServerRequest
+     * @return Mono<AccountBookBulkWriteResponse>
+     */
+    @Override
+    public Mono<AccountBookBulkWriteResponse> accountBookBulkWrite(ServerRequest serverRequest) {
+
+        return serverRequest.bodyToFlux(AccountBookWriteRequest.class)
+            .take(accountBookBulkWriteSpecification.getMaxSize() + 1L)  // 최대 건수를 넘으면 나머지는 읽지 않음
+            .collectList()
+            .flatMap(requests -> {
+                int memberId = accountBookBulkWriteSpecification.bulkVerify(requests); // 유효성 검사
+                kafkaProducerService.sendRequestTopic(serverRequest, Map.of("memberId", memberId, "count", requests.size()));
+
+                return this.memberVerify(memberId)
+                    .then(Mono.defer(() -> accountBookBulkWriteSpecification.accountBookBulkWrite(requests))); // 가계부 일괄 작성 처리
+            })
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, Map.of("count", response.getCount())));
     }
 
     /**
@@ -71,13 +134,36 @@ public class AccountBookApplicationServiceImpl implements AccountBookApplication
         
         return serverRequest.bodyToMono(AccountBookSearchRequest.class).flatMap(
             request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                 request.verify();
 
-                return memberSpecification.memberExistenceCheck(request.getMemberId())
+                boolean verified = AuthenticatedMember.isVerified(serverRequest, request.getMemberId());
+                return memberSpecification.memberExistenceCheck(request.getMemberId(), verified)
                     .flatMap(m -> accountBookSearchService.makeAccountBookSearchByDail(request).log()).log();
             }).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
+    }
+    
+    /**
+     * 가계부 목록 커서 기반 스트리밍 검색
+     *
+     * @param serverRequest : 전달된 Request (커서, 페이지 크기 포함)
+     * @return Flux<AccountBookSearchByDailyDTO> : 날짜별 가계부 정보 (페이지 크기 이내)
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class, readOnly = true)
+    public Flux<AccountBookSearchByDailyDTO> accountBookSearchStream(ServerRequest serverRequest) {
+
+        return serverRequest.bodyToMono(AccountBookSearchRequest.class)
+            .switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
+            .flatMapMany(request -> {
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
+                request.verify();
+
+                boolean verified = AuthenticatedMember.isVerified(serverRequest, request.getMemberId());
+                return memberSpecification.memberExistenceCheck(request.getMemberId(), verified)
+                    .flatMapMany(m -> accountBookSearchService.makeAccountBookSearchPageByDaily(request));
+            });
     }
     
     /**
@@ -100,8 +186,11 @@ public class AccountBookApplicationServiceImpl implements AccountBookApplication
      */
     private int getMonthByRequest(ServerRequest serverRequest) {
         // 회원 고유번호 추출
-        return Integer.parseInt(serverRequest.queryParam("month")
+        int month = Integer.parseInt(serverRequest.queryParam("month")
             .orElse(String.valueOf(LocalDateTime.now().getMonthValue())));
+        if (month < 1 || month > 12) throw new BadRequestException(ExceptionMessage.IsInvalidMonth.getMessage());
+
+        return month;
     }
     
     /**
@@ -112,15 +201,17 @@ public class AccountBookApplicationServiceImpl implements AccountBookApplication
     @Override
     @Transactional(rollbackFor = Exception.class, readOnly = true)
     public Mono<AccountBookStatisticResponse> accountBookStatistic(ServerRequest serverRequest) {
-        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap().toString());
+        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap());
         // 지출(expenditure), 수입(income) 경로에 따라 조회할 가계부 유형 분기 처리
         AccountBookType accountBookType = serverRequest.path().contains("expenditure") ? AccountBookType.P : AccountBookType.I;
         
         int memberId = this.getMemberIdByRequest(serverRequest); // 회원 고유번호 추출
         int month = this.getMonthByRequest(serverRequest); // 조회할 월 추출
     
-        return accountBookFindSpecification.statisticVerify(memberId, month, accountBookType)
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+        boolean verified = AuthenticatedMember.isVerified(serverRequest, memberId); // Gateway 에서 검증된 회원 여부
+
+        return accountBookFindSpecification.statisticVerify(memberId, month, accountBookType, verified)
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
     
 }
@@ -0,0 +1,18 @@
+package click.bitbank.api.application.response;
+
+import click.bitbank.api.presentation.shared.response.CreatedSuccessResponse;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBookBulkWriteResponse extends CreatedSuccessResponse {
+
+    private int count; // 저장된 내역 수
+
+    private List<Integer> accountBookIds; // 저장된 가계부 번호 (요청 순서)
+}
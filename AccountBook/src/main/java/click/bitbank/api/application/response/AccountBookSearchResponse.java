@@ -4,7 +4,6 @@ import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import lombok.*;
 
-import java.math.BigInteger;
 import java.util.List;
 
 @Getter
@@ -16,7 +15,7 @@ public class AccountBookSearchResponse extends SuccessResponse {
 
     List<AccountBookSearchByDailyDTO> accountBookSearchByDailyDTOList;
 
-    BigInteger incomeTotal;  // 수입 총 금액
+    long incomeTotal;  // 수입 총 금액 (원)
 
-    BigInteger expenditureTotal;  // 지출 총 금액
+    long expenditureTotal;  // 지출 총 금액 (원)
 }
@@ -3,7 +3,6 @@ package click.bitbank.api.application.response.DTO;
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
 import lombok.*;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,11 +13,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class AccountBookByCategoryDTO {
 
+    private int accountBookId;  // 가계부 번호 (수입, 지출, 이체 번호)
+
     private LocalDateTime date; // 가계부 날짜
 
     private String info;    // 가계부 정보
 
-    private BigInteger money;   // 가계부 금액
+    private long money;   // 가계부 금액 (원, 지출, 이체는 음수)
 
     private AccountBookType accountBookType;    // 가계부 타입 (수입, 지출, 이체)
 }
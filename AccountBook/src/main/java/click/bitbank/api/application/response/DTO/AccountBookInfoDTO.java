@@ -1,9 +1,10 @@
 package click.bitbank.api.application.response.DTO;
 
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 
-import java.math.BigInteger;
+import java.time.LocalDateTime;
 
 @Getter
 @Builder
@@ -12,10 +13,15 @@ import java.math.BigInteger;
 @AllArgsConstructor
 public class AccountBookInfoDTO {
 
+    Integer accountBookId;  // 가계부 번호 (수입, 지출, 이체 번호)
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime accountBookDate;  // 가계부 날짜 (다음 페이지 커서로 사용)
+
     AccountBookType accountBookType;    // 가계부 내역 유형
 
     String accountBookInfo;     // 가계부 내역 정보
 
-    BigInteger accountMoney;  // 가계부 금액
+    long accountMoney;  // 가계부 금액 (원)
 
 }
@@ -1,15 +1,13 @@
 package click.bitbank.api.application.response.DTO;
 
+import click.bitbank.api.infrastructure.util.DateTimeUtils;
+import click.bitbank.api.infrastructure.util.RequestTime;
 import lombok.*;
 
-import java.math.BigInteger;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.TextStyle;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 @Getter
 @Builder
@@ -22,13 +20,16 @@ public class AccountBookSearchByDailyDTO {
 
     String day;     // 요일
 
-    BigInteger accountBookTotalByDaily;   // 해당 날짜 가계부 총 금액
+    long accountBookTotalByDaily;   // 해당 날짜 가계부 총 금액 (원)
 
     List<AccountBookInfoDTO> accountBookInfoDTOList;    // 해당 날짜 가계부 내역 리스트
 
     public AccountBookSearchByDailyDTO(LocalDateTime date) {
-        setAccountBookDate(date);   // 날짜, 요일 세팅
-        this.accountBookTotalByDaily = BigInteger.valueOf(0);
+        this(date, RequestTime.now());
+    }
+
+    public AccountBookSearchByDailyDTO(LocalDateTime date, RequestTime requestTime) {
+        setAccountBookDate(date.toLocalDate(), requestTime);   // 날짜, 요일 세팅
         accountBookInfoDTOList = new ArrayList<>();
     }
 
@@ -38,18 +39,21 @@ public class AccountBookSearchByDailyDTO {
      * @param date : LocalDateTime 타입의 가계부 날짜
      */
     public void setAccountBookDate(LocalDateTime date) {
-        LocalDateTime firstDayThisYear = LocalDateTime.now().with(TemporalAdjusters.firstDayOfYear());
-
-        if (date.isBefore(firstDayThisYear)) {  // 올해의 가계부 내역이 아니라면, 년도 추가
-            this.date = date.format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일"));
-        } else {
-            this.date = date.format(DateTimeFormatter.ofPattern("MM월 dd일"));
-        }
-        this.day = date.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.KOREAN);   // 요일 지정
+        setAccountBookDate(date.toLocalDate(), RequestTime.now());
+    }
+
+    /**
+     * `[yyyy년] MM월 dd일 O요일`로 세팅 (올해의 가계부 내역이 아니라면, 년도 추가)
+     * @param date : 가계부 날짜
+     * @param requestTime : 요청 시각
+     */
+    private void setAccountBookDate(LocalDate date, RequestTime requestTime) {
+        this.date = DateTimeUtils.formatKoreanDate(date, requestTime);
+        this.day = DateTimeUtils.koreanDayOfWeek(date);   // 요일 지정
     }
 
-    public void setAccountBookTotalByDaily(BigInteger moneyByDaily) {
-        this.accountBookTotalByDaily = this.accountBookTotalByDaily.add(moneyByDaily);  // 해당 날짜 가계부 누적 금액
+    public void setAccountBookTotalByDaily(long moneyByDaily) {
+        this.accountBookTotalByDaily = Math.addExact(this.accountBookTotalByDaily, moneyByDaily);  // 해당 날짜 가계부 누적 금액 (overflow 시 ArithmeticException)
     }
 
     public void setAccountBookInfoDTOList(AccountBookInfoDTO accountBookInfoDTO) {
@@ -1,92 +1,126 @@
 package click.bitbank.api.domain.accountBook;
 
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
-import click.bitbank.api.application.response.DTO.DailyTotalDTO;
 import click.bitbank.api.application.response.DTO.DonutGraphDTO;
 import click.bitbank.api.application.response.DTO.WeeklyTotalDTO;
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
-import click.bitbank.api.domain.accountBook.repository.ExpenditureRepository;
-import click.bitbank.api.domain.accountBook.repository.IncomeRepository;
+import click.bitbank.api.domain.accountBook.model.statistic.AccountBookStatistic;
+import click.bitbank.api.domain.accountBook.repository.AccountBookStatisticRepository;
 import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import click.bitbank.api.infrastructure.r2dbc.RepositoryRetryPolicy;
 import click.bitbank.api.presentation.shared.response.CommonResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class AccountBookFindSpecification {
     
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("MM.dd");  // 일자 표기 (MM.dd)
+
     private final MemberSpecification memberSpecification;
-    private final ExpenditureRepository expenditureRepository;
-    private final IncomeRepository incomeRepository;
+    private final AccountBookStatisticRepository accountBookStatisticRepository;
+    private final RepositoryRetryPolicy repositoryRetryPolicy;
     
     /**
      * 웗 별 수입/지출 통계 검증 및 조회 처리
+     * 가계부 작성 시 누적된 집계 테이블을 한 번 조회해 월 합계, 주차 별, 카테고리 별, 일자 별 통계를 구성
+     *
      * @param memberId : 회원 고유번호
      * @param month : 조회할 월
      * @param accountBookType : 조회할 가계부 유형(수입(I), 지출(P))
+     * @param verified : Gateway 에서 검증된 회원 여부
      * @return Mono<AccountBookStatisticResponse> : 월 별 수입/지출 통계
      */
-    public Mono<AccountBookStatisticResponse> statisticVerify(int memberId, int month, AccountBookType accountBookType) {
+    public Mono<AccountBookStatisticResponse> statisticVerify(int memberId, int month, AccountBookType accountBookType, boolean verified) {
         
-        Mono<CommonResponse> memberVerifyMono = memberSpecification.memberExistVerify(memberId);
-        Mono<Long> monthlyTotalMono = accountBookType.equals(AccountBookType.P) ? expenditureRepository.monthlyTotal(memberId, month) : incomeRepository.monthlyTotal(memberId, month);
-        Flux<WeeklyTotalDTO> weeklyTotalFlux = accountBookType.equals(AccountBookType.P) ? expenditureRepository.weeklyTotal(memberId, month) : incomeRepository.weeklyTotal(memberId, month);
-        Flux<DonutGraphDTO> categoryTotalFlux = accountBookType.equals(AccountBookType.P) ? expenditureRepository.categoryTotal(memberId, month) : incomeRepository.categoryTotal(memberId, month);
-        Flux<DailyTotalDTO> dailyTotalFlux = accountBookType.equals(AccountBookType.P) ? expenditureRepository.dailyTotal(memberId, month) : incomeRepository.dailyTotal(memberId, month);
-    
-        Mono<List<DonutGraphDTO>> getDonutGraphDTOList = categoryTotalFlux.collectList()
-            .map(donutGraphDTOList ->
-                donutGraphDTOList.stream()
-                    .peek(donutGraphDTO -> donutGraphDTO.setName(accountBookType, donutGraphDTO.getName()))
-                    .collect(Collectors.toList())
-            );
-    
-        Mono<List<WeeklyTotalDTO>> getWeeklyTotalDTOList = weeklyTotalFlux.collectList()
-            .map(weeklyTotalDTOList -> {
-                for (int i = 0; i < weeklyTotalDTOList.size(); i++) {
-                    weeklyTotalDTOList.get(i).setWeek(String.format("%s월 %s주", month, i + 1));
-                }
-                return weeklyTotalDTOList;
-            });
-    
-        Mono<List<Long>> getDailyTotalList = dailyTotalFlux.collectList()
-            .map(dailyTotalDTOList ->
-                dailyTotalDTOList.stream()
-                    .map(DailyTotalDTO::getTotal)
-                    .collect(Collectors.toList())
-            );
-    
-        Mono<List<String>> getDayList = dailyTotalFlux.collectList()
-            .map(dailyTotalDTOList ->
-                dailyTotalDTOList.stream()
-                    .map(DailyTotalDTO::getDay)
-                    .collect(Collectors.toList())
-            );
+        Mono<CommonResponse> memberVerifyMono = memberSpecification.memberExistVerify(memberId, verified);
+        String statisticMonth = YearMonth.now().withMonth(month).toString();    // 집계 월 (yyyy-MM)
     
         return memberVerifyMono
             .flatMap(successResponse -> {
                 if (successResponse.getRt() != 200) return Mono.error(new BadRequestException(successResponse.getRtMsg()));
             
-                return Mono.zip(monthlyTotalMono, getWeeklyTotalDTOList, getDonutGraphDTOList, getDailyTotalList, getDayList)
-                    .map(objects ->
-                        AccountBookStatisticResponse.builder()
-                            .monthlyTotal(objects.getT1())
-                            .weeklyTotalDTOList(objects.getT2())
-                            .donutGraphDTOList(objects.getT3())
-                            .lineGraphDailyTotalList(objects.getT4())
-                            .lineGraphDayList(objects.getT5())
-                            .build()
-                    ).switchIfEmpty(Mono.just(new AccountBookStatisticResponse())).retry();
+                // 일시적인 DB 장애에 한해 제한된 횟수만 재시도
+                return repositoryRetryPolicy.apply(
+                        accountBookStatisticRepository.findMonthlyStatistic(memberId, accountBookType.name(), statisticMonth).collectList(),
+                        "accountBookStatistic"
+                    )
+                    .map(statisticList -> makeStatisticResponse(statisticList, month, accountBookType));
             });
     }
+
+    /**
+     * 월 별 집계 목록으로 통계 Response 구성
+     *
+     * @param statisticList : 일자, 카테고리 별 합계 목록 (일자 순)
+     * @param month : 조회할 월
+     * @param accountBookType : 조회할 가계부 유형(수입(I), 지출(P))
+     * @return AccountBookStatisticResponse : 월 별 수입/지출 통계
+     */
+    private AccountBookStatisticResponse makeStatisticResponse(List<AccountBookStatistic> statisticList, int month, AccountBookType accountBookType) {
+        if (statisticList.isEmpty()) return new AccountBookStatisticResponse();
+
+        long monthlyTotal = 0;
+        Map<LocalDate, Long> weeklyTotalMap = new LinkedHashMap<>();    // 주 시작일(일요일) 별 합계
+        Map<String, Long> categoryTotalMap = new HashMap<>();   // 카테고리 별 합계
+        Map<LocalDate, Long> dailyTotalMap = new LinkedHashMap<>(); // 일자 별 합계
+
+        for (AccountBookStatistic statistic : statisticList) {
+            monthlyTotal = Math.addExact(monthlyTotal, statistic.getTotal());
+            weeklyTotalMap.merge(statistic.getStatisticDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY)), statistic.getTotal(), Math::addExact);    // WEEK(date, 2) 와 동일하게 일요일 시작
+            categoryTotalMap.merge(statistic.getCategory(), statistic.getTotal(), Math::addExact);
+            dailyTotalMap.merge(statistic.getStatisticDate(), statistic.getTotal(), Math::addExact);
+        }
+
+        // 주차 별
+        List<WeeklyTotalDTO> weeklyTotalDTOList = new ArrayList<>();
+        for (long weeklyTotal : weeklyTotalMap.values()) {
+            weeklyTotalDTOList.add(new WeeklyTotalDTO(String.format("%s월 %s주", month, weeklyTotalDTOList.size() + 1), weeklyTotal));
+        }
+
+        // 카테고리 별 (금액 내림차순)
+        List<DonutGraphDTO> donutGraphDTOList = new ArrayList<>();
+        List<Map.Entry<String, Long>> categoryTotalList = new ArrayList<>(categoryTotalMap.entrySet());
+        categoryTotalList.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        for (Map.Entry<String, Long> categoryTotal : categoryTotalList) {
+            DonutGraphDTO donutGraphDTO = new DonutGraphDTO();
+            donutGraphDTO.setId(donutGraphDTOList.size() + 1);
+            donutGraphDTO.setName(accountBookType, categoryTotal.getKey());
+            donutGraphDTO.setQuantity(categoryTotal.getValue());
+            donutGraphDTO.setPercentage(monthlyTotal == 0 ? 0 : (int) Math.round(categoryTotal.getValue() * 100.0 / monthlyTotal));
+            donutGraphDTOList.add(donutGraphDTO);
+        }
+
+        // 일자 별
+        List<Long> dailyTotalList = new ArrayList<>(dailyTotalMap.values());
+        List<String> dayList = dailyTotalMap.keySet().stream()
+            .map(date -> date.format(DAY_FORMATTER))
+            .collect(Collectors.toList());
+
+        return AccountBookStatisticResponse.builder()
+            .monthlyTotal(monthlyTotal)
+            .weeklyTotalDTOList(weeklyTotalDTOList)
+            .donutGraphDTOList(donutGraphDTOList)
+            .lineGraphDailyTotalList(dailyTotalList)
+            .lineGraphDayList(dayList)
+            .build();
+    }
     
     /**
      * 해당 월의 주차 별 워딩 가져오기
@@ -9,12 +9,11 @@ import click.bitbank.api.domain.accountBook.model.income.IncomeType;
 import click.bitbank.api.domain.accountBook.model.transfer.Transfer;
 import click.bitbank.api.domain.accountBook.model.transfer.TransferType;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 public interface AccountBookFactory {
-    AccountBook builder(AccountBookType accountBookType, LocalDateTime accountBookDate, String accountBookInfo, BigInteger accountBookMoney);
-    Income incomeBuilder(String incomeInfo, LocalDateTime incomeDate, IncomeType incomeType, BigInteger incomeMoney, int memberId);
-    Expenditure expenditureBuilder(String expenditureInfo, LocalDateTime expenditureDate, ExpenditureType expenditureType, BigInteger expenditureMoney, int memberId);
-    Transfer transferBuilder(String transferInfo, LocalDateTime transferDate, TransferType transferType, BigInteger transferMoney, int memberId);
+    AccountBook builder(AccountBookType accountBookType, LocalDateTime accountBookDate, String accountBookInfo, long accountBookMoney);
+    Income incomeBuilder(String incomeInfo, LocalDateTime incomeDate, IncomeType incomeType, long incomeMoney, int memberId);
+    Expenditure expenditureBuilder(String expenditureInfo, LocalDateTime expenditureDate, ExpenditureType expenditureType, long expenditureMoney, int memberId);
+    Transfer transferBuilder(String transferInfo, LocalDateTime transferDate, TransferType transferType, long transferMoney, int memberId);
 }
@@ -11,14 +11,13 @@ import click.bitbank.api.domain.accountBook.model.transfer.TransferType;
 
 import org.springframework.stereotype.Component;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Component
 public class AccountBookFactoryImpl implements AccountBookFactory {
 
     @Override
-    public AccountBook builder(AccountBookType accountBookType, LocalDateTime accountBookDate, String accountBookInfo, BigInteger accountBookMoney) {
+    public AccountBook builder(AccountBookType accountBookType, LocalDateTime accountBookDate, String accountBookInfo, long accountBookMoney) {
         return AccountBook.builder()
             .accountBookDate(accountBookDate)
             .accountBookInfo(accountBookInfo)
@@ -27,7 +26,7 @@ public class AccountBookFactoryImpl implements AccountBookFactory {
     }
 
     @Override
-    public Income incomeBuilder(String incomeInfo, LocalDateTime incomeDate, IncomeType incomeType, BigInteger incomeMoney, int memberId) {
+    public Income incomeBuilder(String incomeInfo, LocalDateTime incomeDate, IncomeType incomeType, long incomeMoney, int memberId) {
         return Income.builder()
             .incomeInfo(incomeInfo)
             .incomeDate(incomeDate)
@@ -38,7 +37,7 @@ public class AccountBookFactoryImpl implements AccountBookFactory {
     }
 
     @Override
-    public Expenditure expenditureBuilder(String expenditureInfo, LocalDateTime expenditureDate, ExpenditureType expenditureType, BigInteger expenditureMoney, int memberId) {
+    public Expenditure expenditureBuilder(String expenditureInfo, LocalDateTime expenditureDate, ExpenditureType expenditureType, long expenditureMoney, int memberId) {
         return Expenditure.builder()
             .expenditureInfo(expenditureInfo)
             .expenditureDate(expenditureDate)
@@ -49,7 +48,7 @@ public class AccountBookFactoryImpl implements AccountBookFactory {
     }
 
     @Override
-    public Transfer transferBuilder(String transferInfo, LocalDateTime transferDate,TransferType transferType, BigInteger transferMoney, int memberId) {
+    public Transfer transferBuilder(String transferInfo, LocalDateTime transferDate,TransferType transferType, long transferMoney, int memberId) {
         return Transfer.builder()
             .transferInfo(transferInfo)
             .transferDate(transferDate)
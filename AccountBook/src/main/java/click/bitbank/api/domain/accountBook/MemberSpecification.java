@@ -2,6 +2,7 @@ package click.bitbank.api.domain.accountBook;
 
 import click.bitbank.api.domain.accountBook.model.Member;
 import click.bitbank.api.domain.accountBook.repository.MemberRepository;
+import click.bitbank.api.infrastructure.cache.MemberExistCache;
 import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
 import click.bitbank.api.infrastructure.exception.status.NotFoundDataException;
 import click.bitbank.api.infrastructure.webClient.WebClientService;
@@ -9,6 +10,7 @@ import click.bitbank.api.presentation.shared.response.CommonResponse;
 import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -19,6 +21,7 @@ public class MemberSpecification {
 
     private final MemberRepository memberRepository;
     private final WebClientService webClientService;
+    private final MemberExistCache memberExistCache;
 
     /**
      * 회원 존재 여부 확인
@@ -30,12 +33,39 @@ public class MemberSpecification {
                 .switchIfEmpty(Mono.error(new NotFoundDataException(ExceptionMessage.NotFoundLoginMember.getMessage()))).log();
     }
 
+    /**
+     * 회원 존재 여부 확인 (Gateway 에서 검증된 회원은 조회 생략)
+     * 조회 API 전용 (작성 API 는 탈퇴한 회원의 토큰으로 작성되지 않도록 memberExistVerify(int) 로 확인)
+     * @param memberId : 회원 고유 번호
+     * @param verified : Gateway 에서 검증된 회원 여부
+     * @return Mono<Member> : 회원 고유 번호
+     */
+    public Mono<Member> memberExistenceCheck(int memberId, boolean verified) {
+        if (verified) return Mono.just(Member.builder().memberId(memberId).build());
+
+        return this.memberExistenceCheck(memberId);
+    }
+
+    /**
+     * 회원 검증 (Gateway 에서 검증된 회원은 Member 서비스 호출 생략)
+     * 조회 API 전용 (작성 API 는 탈퇴한 회원의 토큰으로 작성되지 않도록 memberExistVerify(int) 로 확인)
+     * @param memberId : 회원 고유번호
+     * @param verified : Gateway 에서 검증된 회원 여부
+     * @return Mono<CommonResponse> : 검증 결과
+     */
+    public Mono<CommonResponse> memberExistVerify(int memberId, boolean verified) {
+        if (verified) return Mono.just(new CommonResponse(HttpStatus.OK.value(), HttpStatus.OK.getReasonPhrase()));
+
+        return this.memberExistVerify(memberId);
+    }
+
     /**
      * 회원 검증
+     * 로컬 캐시에 검증 결과가 있으면 Member 서비스를 호출하지 않음
      * @param memberId : 회원 고유번호
      * @return Mono<SuccessResponse> : 검증 성공
      */
     public Mono<CommonResponse> memberExistVerify(int memberId) {
-        return webClientService.callMemberVerify(memberId);
+        return memberExistCache.get(memberId, webClientService::callMemberVerify);
     }
 }
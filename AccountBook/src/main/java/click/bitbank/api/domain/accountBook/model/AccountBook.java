@@ -9,7 +9,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Getter
@@ -32,7 +31,7 @@ public class AccountBook extends Classification {
     private LocalDateTime accountBookDate; // 가계부 작성 날짜
 
     @Column(value = "accountBookMoney")
-    private BigInteger accountBookMoney; // 금액
+    private long accountBookMoney; // 금액 (원)
 
     @Column(value = "accountBookType")
     private IncomeType incomeType; // 수입 유형
@@ -9,7 +9,6 @@ import org.springframework.data.relational.core.mapping.Table;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Getter
@@ -33,7 +32,7 @@ public class Expenditure extends Classification {
 
     @Min(value = 1, message = "1원 이상 입력해야합니다.")
     @Column(value = "expenditureMoney")
-    private BigInteger expenditureMoney; // 지출 금액
+    private long expenditureMoney; // 지출 금액 (원)
 
     @Column(value = "expenditureType")
     private ExpenditureType expenditureType; // 지출 유형
@@ -51,17 +50,7 @@ public class Expenditure extends Classification {
     public AccountBookType getAccountBookType() {
         return AccountBookType.P;
     }
-    public BigInteger getNegateExpenditureMoney() {
-        return expenditureMoney.negate();
+    public long getNegateExpenditureMoney() {
+        return Math.negateExact(expenditureMoney);
     }
-//    /**
-//     * DTO Mapping method
-//     * 이름이 같은 필드명 끼리는 ModelMapper를 통해 mapping
-//     * @param expenditureDTO : ExpenditureDTO
-//     * @return
-//     */
-//    public static Expenditure of(ExpenditureDTO expenditureDTO) {
-//
-//       return ModelMapperUtils.getModelMapper().map(expenditureDTO, Expenditure.class);
-//    }
 }
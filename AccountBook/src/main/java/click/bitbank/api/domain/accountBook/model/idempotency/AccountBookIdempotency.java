@@ -0,0 +1,35 @@
+package click.bitbank.api.domain.accountBook.model.idempotency;
+
+import click.bitbank.api.domain.accountBook.model.Classification;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * 가계부 작성 Idempotency-Key (회원, 키 별 처음 작성된 가계부 번호)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(value = "accountBookIdempotency")
+public class AccountBookIdempotency extends Classification {
+
+    @Id
+    @Column(value = "idempotencyId")
+    private long idempotencyId; // 고유번호
+
+    @Column(value = "memberId")
+    private int memberId;   // 회원 고유번호
+
+    @Column(value = "idempotencyKey")
+    private String idempotencyKey;  // 클라이언트가 전달한 요청 키
+
+    @Column(value = "requestHash")
+    private byte[] requestHash;    // 요청 본문 SHA-256 (같은 키로 다른 요청을 보낸 경우 확인)
+
+    @Column(value = "accountBookId")
+    private Integer accountBookId;  // 작성된 가계부 번호 (작성 중이면 null)
+}
@@ -7,7 +7,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Getter
@@ -29,7 +28,7 @@ public class Income extends Classification {
     private LocalDateTime incomeDate; // 수입 날짜
 
     @Column(value = "incomeMoney")
-    private BigInteger incomeMoney; // 수입 금액
+    private long incomeMoney; // 수입 금액 (원)
 
     @Column(value = "incomeType")
     private IncomeType incomeType; // 수입 유형
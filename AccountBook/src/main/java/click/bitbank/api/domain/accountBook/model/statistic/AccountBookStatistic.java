@@ -0,0 +1,45 @@
+package click.bitbank.api.domain.accountBook.model.statistic;
+
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.domain.accountBook.model.Classification;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * 가계부 통계 집계 (회원, 월, 일자, 카테고리 별 합계)
+ * 가계부 작성 시 누적되며, 월 별 통계는 이 테이블만 조회한다.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(value = "accountBookStatistic")
+public class AccountBookStatistic extends Classification {
+
+    @Id
+    @Column(value = "statisticId")
+    private int statisticId; // 통계 번호
+
+    @Column(value = "memberId")
+    private int memberId;   // 회원 고유번호
+
+    @Column(value = "accountBookType")
+    private AccountBookType accountBookType;    // 가계부 유형 (수입, 지출)
+
+    @Column(value = "statisticMonth")
+    private String statisticMonth;  // 집계 월 (yyyy-MM)
+
+    @Column(value = "statisticDate")
+    private LocalDate statisticDate;    // 집계 일자
+
+    @Column(value = "category")
+    private String category;    // 카테고리 (수입 유형, 지출 유형)
+
+    @Column(value = "total")
+    private long total; // 일자, 카테고리 별 합계
+}
@@ -7,7 +7,6 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
-import java.math.BigInteger;
 import java.time.LocalDateTime;
 
 @Getter
@@ -29,7 +28,7 @@ public class Transfer extends Classification {
     private LocalDateTime transferDate; // 지출 날짜
 
     @Column(value = "transferMoney")
-    private BigInteger transferMoney; // 이체 금액
+    private long transferMoney; // 이체 금액 (원)
 
     @Column(value = "transferType")
     private TransferType transferType; // 이체 유형
@@ -40,7 +39,7 @@ public class Transfer extends Classification {
     public AccountBookType getAccountBookType() {
         return AccountBookType.T;
     }
-    public BigInteger getNegateExpenditureMoney() {
-        return transferMoney.negate();
+    public long getNegateExpenditureMoney() {
+        return Math.negateExact(transferMoney);
     }
 }
@@ -0,0 +1,119 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가계부(수입, 지출, 이체) 다중 행 INSERT 쿼리
+ * 같은 유형의 내역을 INSERT ... VALUES (...), (...) 한 문장으로 묶어 한 번에 저장한다.
+ */
+@Getter
+public class AccountBookBulkInsertQuery {
+
+    private final AccountBookType accountBookType; // 저장할 가계부 유형
+
+    private final String idColumn; // 자동 증가 번호 컬럼
+
+    private final String sql;   // 실행할 쿼리
+
+    private final Map<String, Object> bindings; // 바인딩 파라미터
+
+    private final int size; // 저장할 내역 수
+
+    private AccountBookBulkInsertQuery(Table table, String sql, Map<String, Object> bindings, int size) {
+        this.accountBookType = table.accountBookType;
+        this.idColumn = table.idColumn;
+        this.sql = sql;
+        this.bindings = Collections.unmodifiableMap(bindings);
+        this.size = size;
+    }
+
+    /**
+     * 같은 유형의 내역으로 다중 행 INSERT 쿼리 구성
+     *
+     * @param accountBookType : 가계부 유형
+     * @param rows : 저장할 내역 (1건 이상)
+     * @return AccountBookBulkInsertQuery : 다중 행 INSERT 쿼리
+     */
+    public static AccountBookBulkInsertQuery of(AccountBookType accountBookType, List<Row> rows) {
+        if (rows.isEmpty()) throw new IllegalArgumentException("저장할 내역이 없습니다.");
+
+        Table table = Table.of(accountBookType);
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(64 + rows.size() * 48)
+            .append("INSERT INTO ").append(table.name).append(" (")
+            .append(table.prefix).append("Info, ")
+            .append(table.prefix).append("Date, ")
+            .append(table.prefix).append("Money, ")
+            .append(table.prefix).append("Type, memberId) VALUES ");
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append("(:info").append(i)
+                .append(", :date").append(i)
+                .append(", :money").append(i)
+                .append(", :type").append(i)
+                .append(", :memberId").append(i).append(')');
+
+            bindings.put("info" + i, row.getInfo());
+            bindings.put("date" + i, row.getDate());
+            bindings.put("money" + i, row.getMoney());
+            bindings.put("type" + i, row.getType());
+            bindings.put("memberId" + i, row.getMemberId());
+        }
+
+        return new AccountBookBulkInsertQuery(table, sql.toString(), bindings, rows.size());
+    }
+
+    /**
+     * 저장할 내역 한 건
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+
+        private final String info; // 거래처명
+
+        private final LocalDateTime date; // 가계부 날짜
+
+        private final long money; // 금액 (원)
+
+        private final String type; // 세부 유형 (수입, 지출, 이체 유형)
+
+        private final int memberId; // 회원 고유번호
+    }
+
+    /**
+     * 가계부 유형 별 테이블
+     */
+    @AllArgsConstructor
+    private enum Table {
+
+        INCOME(AccountBookType.I, "income", "income", "incomeId"),
+        EXPENDITURE(AccountBookType.P, "expenditure", "expenditure", "expenditureId"),
+        TRANSFER(AccountBookType.T, "transfer", "transfer", "transferId");
+
+        private final AccountBookType accountBookType;
+
+        private final String name;  // 테이블명
+
+        private final String prefix;    // 컬럼 접두어
+
+        private final String idColumn;  // 자동 증가 번호 컬럼
+
+        private static Table of(AccountBookType accountBookType) {
+            for (Table table : values()) {
+                if (table.accountBookType == accountBookType) return table;
+            }
+            throw new IllegalArgumentException("지원하지 않는 가계부 유형입니다. " + accountBookType);
+        }
+    }
+}
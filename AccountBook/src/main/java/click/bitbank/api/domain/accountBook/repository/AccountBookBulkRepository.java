@@ -0,0 +1,77 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.model.statistic.AccountBookStatistic;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountBookBulkRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 다중 행 INSERT 실행
+     * 한 문장으로 저장된 행의 자동 증가 번호는 연속되므로 첫 번째 번호(LAST_INSERT_ID)만 반환한다.
+     * (innodb_autoinc_lock_mode 0, 1 에서 보장)
+     *
+     * @param query : 다중 행 INSERT 쿼리
+     * @return Mono<Integer> : 첫 번째 행의 자동 증가 번호
+     */
+    public Mono<Integer> insertAll(AccountBookBulkInsertQuery query) {
+        return bind(databaseClient.sql(query.getSql()), query.getBindings())
+            .filter(statement -> statement.returnGeneratedValues(query.getIdColumn()))
+            .map((row, rowMetadata) -> row.get(0, Long.class))
+            .first()
+            .map(Math::toIntExact);
+    }
+
+    /**
+     * 회원, 월, 일자, 카테고리 별 합계 일괄 누적 (없으면 생성)
+     *
+     * @param statistics : 누적할 합계 (total 은 더할 금액, 1건 이상)
+     * @return Mono<Integer> : 반영된 행 수
+     */
+    public Mono<Integer> accumulateAll(List<AccountBookStatistic> statistics) {
+        StringBuilder sql = new StringBuilder(128 + statistics.size() * 64)
+            .append("INSERT INTO accountBookStatistic (memberId, accountBookType, statisticMonth, statisticDate, category, total, regDate, modDate) VALUES ");
+
+        for (int i = 0; i < statistics.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(:memberId").append(i)
+                .append(", :accountBookType").append(i)
+                .append(", :statisticMonth").append(i)
+                .append(", :statisticDate").append(i)
+                .append(", :category").append(i)
+                .append(", :money").append(i)
+                .append(", NOW(), NOW())");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE total = total + VALUES(total), modDate = NOW()");
+
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < statistics.size(); i++) {
+            AccountBookStatistic statistic = statistics.get(i);
+            executeSpec = executeSpec
+                .bind("memberId" + i, statistic.getMemberId())
+                .bind("accountBookType" + i, statistic.getAccountBookType().name())
+                .bind("statisticMonth" + i, statistic.getStatisticMonth())
+                .bind("statisticDate" + i, statistic.getStatisticDate())
+                .bind("category" + i, statistic.getCategory())
+                .bind("money" + i, statistic.getTotal());
+        }
+
+        return executeSpec.fetch().rowsUpdated();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec executeSpec, Map<String, Object> bindings) {
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            executeSpec = executeSpec.bind(binding.getKey(), binding.getValue());
+        }
+        return executeSpec;
+    }
+}
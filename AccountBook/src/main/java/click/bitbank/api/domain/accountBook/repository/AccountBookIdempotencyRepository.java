@@ -0,0 +1,44 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.model.idempotency.AccountBookIdempotency;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface AccountBookIdempotencyRepository extends ReactiveCrudRepository<AccountBookIdempotency, Long> {
+
+    // 키 선점 (이미 있으면 0, 트랜잭션 밖에서 바로 커밋되므로 같은 키의 동시 요청은 잠금 대기 없이 0)
+    @Modifying
+    @Query(
+        "INSERT IGNORE INTO accountBookIdempotency (memberId, idempotencyKey, requestHash, regDate, modDate) " +
+        "VALUES (:memberId, :idempotencyKey, :requestHash, NOW(), NOW())"
+    )
+    Mono<Integer> reserve(@Param("memberId") int memberId, @Param("idempotencyKey") String idempotencyKey, @Param("requestHash") byte[] requestHash);
+
+    // 선점한 키에 작성된 가계부 번호 기록
+    @Modifying
+    @Query(
+        "UPDATE accountBookIdempotency " +
+        "SET accountBookId = :accountBookId, modDate = NOW() " +
+        "WHERE memberId = :memberId AND idempotencyKey = :idempotencyKey"
+    )
+    Mono<Integer> complete(@Param("memberId") int memberId, @Param("idempotencyKey") String idempotencyKey, @Param("accountBookId") int accountBookId);
+
+    // 가계부 작성에 실패한 키 선점 취소 (작성이 끝난 키는 유지)
+    @Modifying
+    @Query(
+        "DELETE FROM accountBookIdempotency " +
+        "WHERE memberId = :memberId AND idempotencyKey = :idempotencyKey AND accountBookId IS NULL"
+    )
+    Mono<Integer> release(@Param("memberId") int memberId, @Param("idempotencyKey") String idempotencyKey);
+
+    // 회원, 키로 조회
+    @Query(
+        "SELECT * " +
+        "FROM accountBookIdempotency " +
+        "WHERE memberId = :memberId AND idempotencyKey = :idempotencyKey"
+    )
+    Mono<AccountBookIdempotency> findByKey(@Param("memberId") int memberId, @Param("idempotencyKey") String idempotencyKey);
+}
@@ -0,0 +1,236 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.SearchDateType;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 가계부(수입, 지출, 이체) 통합 검색 쿼리
+ * 검색 조건에 따라 각 테이블의 WHERE 절을 조립하고 UNION ALL 로 묶어 한 번에 조회한다.
+ */
+@Getter
+public class AccountBookSearchQuery {
+
+    private static final String ORDER_BY = " ORDER BY accountBookDate DESC, accountBookType DESC, accountBookId DESC";
+
+    private final String sql;   // 실행할 쿼리
+
+    private final Map<String, Object> bindings; // 바인딩 파라미터
+
+    private AccountBookSearchQuery(String sql, Map<String, Object> bindings) {
+        this.sql = sql;
+        this.bindings = Collections.unmodifiableMap(bindings);
+    }
+
+    /**
+     * 검색 조건으로 통합 검색 쿼리 구성
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @return AccountBookSearchQuery : 통합 검색 쿼리
+     */
+    public static AccountBookSearchQuery of(AccountBookSearchRequest request) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        List<String> selectList = new ArrayList<>();
+
+        for (Source source : Source.values()) {
+            // 가계부 유형이 지정된 경우 해당 유형의 테이블만 조회
+            if (request.getAccountBookType() != null && request.getAccountBookType() != source.accountBookType) continue;
+
+            selectList.add(source.select(request, bindings).toString());
+        }
+
+        String sql = String.join(" UNION ALL ", selectList) + ORDER_BY;
+
+        return new AccountBookSearchQuery(sql, bindings);
+    }
+
+    /**
+     * 검색 조건으로 커서 기반 페이지 조회 쿼리 구성
+     * (날짜, 유형, 번호) 내림차순 keyset 으로 이전 페이지 마지막 내역 이후부터 페이지 크기만큼 조회한다.
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @return AccountBookSearchQuery : 페이지 조회 쿼리
+     */
+    public static AccountBookSearchQuery ofPage(AccountBookSearchRequest request) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        List<String> selectList = new ArrayList<>();
+        int pageSize = request.getLimitedPageSize();
+
+        for (Source source : Source.values()) {
+            // 가계부 유형이 지정된 경우 해당 유형의 테이블만 조회
+            if (request.getAccountBookType() != null && request.getAccountBookType() != source.accountBookType) continue;
+
+            StringBuilder select = source.select(request, bindings);
+            if (request.getCursorDate() != null) {
+                source.appendCursor(select, request.getCursorDate(), request.getCursorAccountBookType(), request.getCursorId(), bindings);
+            }
+
+            // 테이블 별로도 페이지 크기만큼만 읽도록 제한
+            select.append(" ORDER BY ").append(source.table).append("Date DESC, ").append(source.table).append("Id DESC")
+                .append(" LIMIT ").append(pageSize);
+            selectList.add('(' + select.toString() + ')');
+        }
+
+        String sql = String.join(" UNION ALL ", selectList) + ORDER_BY + " LIMIT " + pageSize;
+
+        return new AccountBookSearchQuery(sql, bindings);
+    }
+
+    /**
+     * 페이지 마지막 내역과 같은 날짜의 남은 내역 조회 쿼리 구성
+     * 페이지 경계가 하루 중간에 걸리면 그 날의 남은 내역까지 한 페이지로 전달해, 날짜별 합계가 두 페이지로 나뉘지 않도록 한다.
+     * 하루치 내역이 최대 페이지 크기를 넘으면 최대 페이지 크기까지만 조회하고, 나머지는 다음 페이지에서 (날짜, 유형, 번호) 커서로 이어서 조회한다.
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @param cursorDate : 페이지 마지막 내역 날짜
+     * @param cursorAccountBookType : 페이지 마지막 내역 유형
+     * @param cursorId : 페이지 마지막 내역 번호
+     * @return AccountBookSearchQuery : 같은 날짜의 남은 내역 조회 쿼리
+     */
+    public static AccountBookSearchQuery ofRestOfDay(AccountBookSearchRequest request, LocalDateTime cursorDate, AccountBookType cursorAccountBookType, int cursorId) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        List<String> selectList = new ArrayList<>();
+
+        for (Source source : Source.values()) {
+            // 가계부 유형이 지정된 경우 해당 유형의 테이블만 조회
+            if (request.getAccountBookType() != null && request.getAccountBookType() != source.accountBookType) continue;
+
+            StringBuilder select = source.select(request, bindings);
+            source.appendCursor(select, cursorDate, cursorAccountBookType, cursorId, bindings);
+
+            // 커서와 같은 날짜 [00:00, 커서] 까지만
+            select.append(" AND ").append(source.table).append("Date >= :").append(source.table).append("DayStart");
+            bindings.put(source.table + "DayStart", cursorDate.toLocalDate().atStartOfDay());
+
+            // 하루치 내역도 최대 페이지 크기만큼만 읽도록 제한
+            select.append(" ORDER BY ").append(source.table).append("Date DESC, ").append(source.table).append("Id DESC")
+                .append(" LIMIT ").append(AccountBookSearchRequest.MAX_PAGE_SIZE);
+            selectList.add('(' + select.toString() + ')');
+        }
+
+        String sql = String.join(" UNION ALL ", selectList) + ORDER_BY + " LIMIT " + AccountBookSearchRequest.MAX_PAGE_SIZE;
+
+        return new AccountBookSearchQuery(sql, bindings);
+    }
+
+    /**
+     * 검색 대상 테이블 정보
+     */
+    enum Source {
+        INCOME(AccountBookType.I, "income"),
+        EXPENDITURE(AccountBookType.P, "expenditure"),
+        TRANSFER(AccountBookType.T, "transfer");
+
+        private final AccountBookType accountBookType;  // 가계부 유형
+
+        private final String table; // 테이블명 (컬럼 prefix 와 동일)
+
+        Source(AccountBookType accountBookType, String table) {
+            this.accountBookType = accountBookType;
+            this.table = table;
+        }
+
+        /**
+         * 테이블 별 SELECT 절 구성
+         *
+         * @param request : 전달된 Request
+         * @param bindings : 바인딩 파라미터 (테이블 prefix 로 이름 구분)
+         * @return StringBuilder : SELECT 절
+         */
+        private StringBuilder select(AccountBookSearchRequest request, Map<String, Object> bindings) {
+            StringBuilder sql = new StringBuilder()
+                .append("SELECT ")
+                .append(table).append("Id AS accountBookId, ")
+                .append(table).append("Date AS accountBookDate, ")
+                .append(table).append("Info AS accountBookInfo, ")
+                .append(table).append("Money AS accountBookMoney, ")
+                .append('\'').append(accountBookType.name()).append("' AS accountBookType ")
+                .append("FROM ").append(table)
+                .append(" WHERE memberId = :").append(table).append("MemberId");
+            bindings.put(table + "MemberId", request.getMemberId());
+
+            // 유형 필터
+            List<String> typeList = getTypeList(request);
+            if (!typeList.isEmpty()) {
+                sql.append(" AND ").append(table).append("Type IN (:").append(table).append("Type)");
+                bindings.put(table + "Type", typeList);
+            }
+
+            // 검색어 필터
+            if (request.getSearchKeyword() != null && !request.getSearchKeyword().isBlank()) {
+                sql.append(" AND ").append(table).append("Info LIKE :").append(table).append("SearchKeyword");
+                bindings.put(table + "SearchKeyword", request.getSearchKeywordAddPercent());
+            }
+
+            // 기간 필터 (전체 기간이 아닌 경우)
+            if (request.getSearchDateType() != null && request.getSearchDateType() != SearchDateType.A
+                && request.getSearchStartDate() != null && request.getSearchEndDate() != null) {
+                // [시작일 00:00, 종료일 다음날 00:00) 반열린 구간 -> (memberId, 날짜) 복합 인덱스 범위 검색
+                sql.append(" AND ").append(table).append("Date >= :").append(table).append("StartDate")
+                    .append(" AND ").append(table).append("Date < :").append(table).append("EndDate");
+                bindings.put(table + "StartDate", request.getSearchStartDateTime());
+                bindings.put(table + "EndDate", request.getSearchEndDateTime());
+            }
+
+            return sql;
+        }
+
+        /**
+         * 커서(이전 페이지 마지막 내역) 이후 조건 추가
+         * 테이블 내 유형은 고정값이므로 커서 유형과의 대소 비교 결과에 따라 조건을 단순화한다.
+         *
+         * @param sql : SELECT 절
+         * @param cursorDate : 커서 날짜
+         * @param cursorAccountBookType : 커서 유형
+         * @param cursorId : 커서 번호
+         * @param bindings : 바인딩 파라미터
+         */
+        private void appendCursor(StringBuilder sql, LocalDateTime cursorDate, AccountBookType cursorAccountBookType, Integer cursorId, Map<String, Object> bindings) {
+            int compareType = accountBookType.name().compareTo(cursorAccountBookType.name());
+            bindings.put(table + "CursorDate", cursorDate);
+
+            if (compareType < 0) {  // 같은 날짜라면 커서보다 뒤에 정렬되는 유형
+                sql.append(" AND ").append(table).append("Date <= :").append(table).append("CursorDate");
+            } else if (compareType > 0) {   // 같은 날짜라면 커서보다 앞에 정렬되는 유형
+                sql.append(" AND ").append(table).append("Date < :").append(table).append("CursorDate");
+            } else {    // 커서와 같은 유형 -> (날짜, 번호) 비교
+                sql.append(" AND (").append(table).append("Date < :").append(table).append("CursorDate")
+                    .append(" OR (").append(table).append("Date = :").append(table).append("CursorDate")
+                    .append(" AND ").append(table).append("Id < :").append(table).append("CursorId))");
+                bindings.put(table + "CursorId", cursorId);
+            }
+        }
+
+        /**
+         * 테이블에 해당하는 유형 필터 목록
+         *
+         * @param request : 전달된 Request
+         * @return List<String> : 유형명 목록
+         */
+        private List<String> getTypeList(AccountBookSearchRequest request) {
+            List<? extends Enum<?>> typeList;
+            switch (accountBookType) {
+                case I:
+                    typeList = request.getIncomeType();
+                    break;
+                case P:
+                    typeList = request.getExpenditureType();
+                    break;
+                default:
+                    typeList = request.getTransferType();
+            }
+            if (typeList == null) return Collections.emptyList();
+
+            return typeList.stream().map(Enum::name).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.application.response.DTO.AccountBookByCategoryDTO;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class AccountBookSearchRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * 가계부(수입, 지출, 이체) 통합 검색
+     * 날짜 내림차순 정렬은 DB 에서 처리
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @return Flux<AccountBookByCategoryDTO> : 최신순 가계부 내역 (지출, 이체는 음수 금액)
+     */
+    public Flux<AccountBookByCategoryDTO> findAccountBookByCondition(AccountBookSearchRequest request) {
+        return execute(AccountBookSearchQuery.of(request));
+    }
+
+    /**
+     * 가계부(수입, 지출, 이체) 커서 기반 페이지 조회
+     * (날짜, 유형, 번호) 내림차순으로 커서 이후 내역을 페이지 크기만큼 조회
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @return Flux<AccountBookByCategoryDTO> : 최신순 가계부 내역 (지출, 이체는 음수 금액)
+     */
+    public Flux<AccountBookByCategoryDTO> findAccountBookPageByCondition(AccountBookSearchRequest request) {
+        return execute(AccountBookSearchQuery.ofPage(request));
+    }
+
+    /**
+     * 페이지 마지막 내역과 같은 날짜의 남은 내역 조회 (최대 페이지 크기까지)
+     *
+     * @param request : 전달된 Request (검색 기간은 세팅된 상태)
+     * @param last : 페이지 마지막 내역
+     * @return Flux<AccountBookByCategoryDTO> : 최신순 가계부 내역 (지출, 이체는 음수 금액)
+     */
+    public Flux<AccountBookByCategoryDTO> findAccountBookRestOfDay(AccountBookSearchRequest request, AccountBookByCategoryDTO last) {
+        return execute(AccountBookSearchQuery.ofRestOfDay(request, last.getDate(), last.getAccountBookType(), last.getAccountBookId()));
+    }
+
+    /**
+     * 쿼리 실행
+     *
+     * @param query : 통합 검색 쿼리
+     * @return Flux<AccountBookByCategoryDTO> : 가계부 내역
+     */
+    private Flux<AccountBookByCategoryDTO> execute(AccountBookSearchQuery query) {
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql(query.getSql());
+        for (Map.Entry<String, Object> binding : query.getBindings().entrySet()) {
+            executeSpec = executeSpec.bind(binding.getKey(), binding.getValue());
+        }
+
+        return executeSpec.map((row, rowMetadata) -> toAccountBookByCategoryDTO(row)).all();
+    }
+
+    /**
+     * 조회 결과 -> AccountBookByCategoryDTO 변환
+     *
+     * @param row : 조회 결과
+     * @return AccountBookByCategoryDTO : 가계부 내역
+     */
+    private AccountBookByCategoryDTO toAccountBookByCategoryDTO(Row row) {
+        AccountBookType accountBookType = AccountBookType.valueOf(row.get("accountBookType", String.class));
+        long money = row.get("accountBookMoney", Long.class);
+
+        return AccountBookByCategoryDTO.builder()
+            .accountBookId(row.get("accountBookId", Integer.class))
+            .date(row.get("accountBookDate", LocalDateTime.class))
+            .info(row.get("accountBookInfo", String.class))
+            .money(accountBookType == AccountBookType.I ? money : Math.negateExact(money))   // 지출, 이체는 음수로 표기
+            .accountBookType(accountBookType)
+            .build();
+    }
+}
@@ -0,0 +1,36 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.model.statistic.AccountBookStatistic;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface AccountBookStatisticRepository extends ReactiveCrudRepository<AccountBookStatistic, Integer> {
+
+    // 회원, 월, 일자, 카테고리 별 합계 누적 (없으면 생성)
+    @Modifying
+    @Query(
+        "INSERT INTO accountBookStatistic (memberId, accountBookType, statisticMonth, statisticDate, category, total, regDate, modDate) " +
+        "VALUES (:memberId, :accountBookType, :statisticMonth, :statisticDate, :category, :money, NOW(), NOW()) " +
+        "ON DUPLICATE KEY UPDATE total = total + VALUES(total), modDate = NOW()"
+    )
+    Mono<Integer> accumulate(@Param("memberId") int memberId, @Param("accountBookType") String accountBookType, @Param("statisticMonth") String statisticMonth,
+                             @Param("statisticDate") LocalDate statisticDate, @Param("category") String category, @Param("money") long money);
+
+    // 회원의 월 별 집계 조회 (일자 순)
+    @Query(
+        "SELECT * " +
+        "FROM accountBookStatistic " +
+        "WHERE " +
+        "    memberId = :memberId " +
+        "    AND accountBookType = :accountBookType " +
+        "    AND statisticMonth = :statisticMonth " +
+        "ORDER BY statisticDate"
+    )
+    Flux<AccountBookStatistic> findMonthlyStatistic(@Param("memberId") int memberId, @Param("accountBookType") String accountBookType, @Param("statisticMonth") String statisticMonth);
+}
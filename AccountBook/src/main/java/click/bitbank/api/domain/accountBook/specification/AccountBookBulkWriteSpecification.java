@@ -0,0 +1,188 @@
+package click.bitbank.api.domain.accountBook.specification;
+
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.domain.accountBook.model.statistic.AccountBookStatistic;
+import click.bitbank.api.domain.accountBook.repository.AccountBookBulkInsertQuery;
+import click.bitbank.api.domain.accountBook.repository.AccountBookBulkRepository;
+import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.infrastructure.util.DateTimeUtils;
+import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가계부 일괄 작성
+ * 유형 별로 chunkSize 건씩 다중 행 INSERT 로 저장하고, 월 별 통계 집계는 일자, 카테고리 별로 합산해 한 번에 누적한다.
+ */
+@Component
+public class AccountBookBulkWriteSpecification {
+
+    private final AccountBookBulkRepository accountBookBulkRepository;
+
+    private final int chunkSize; // 다중 행 INSERT 한 문장에 담을 최대 행 수
+
+    @Getter
+    private final int maxSize; // 한 번에 작성할 수 있는 최대 내역 수
+
+    public AccountBookBulkWriteSpecification(AccountBookBulkRepository accountBookBulkRepository,
+                                             @Value("${account-book.bulk.chunk-size:500}") int chunkSize,
+                                             @Value("${account-book.bulk.max-size:5000}") int maxSize) {
+        this.accountBookBulkRepository = accountBookBulkRepository;
+        this.chunkSize = chunkSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 일괄 작성 요청 검사 (내역 수, 회원)
+     * @param requests : 작성할 가계부 내역
+     * @return int : 회원 고유번호
+     */
+    public int bulkVerify(List<AccountBookWriteRequest> requests) {
+        if (requests.isEmpty()) throw new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage());
+        if (requests.size() > maxSize) throw new BadRequestException(ExceptionMessage.IsInvalidBulkSize.getMessage());
+
+        int memberId = requests.get(0).getMemberId() == null ? 0 : requests.get(0).getMemberId();
+        for (AccountBookWriteRequest request : requests) {
+            request.verify();
+            if (request.getMemberId() != memberId) throw new BadRequestException(ExceptionMessage.IsInvalidBulkMemberId.getMessage());
+        }
+        return memberId;
+    }
+
+    /**
+     * 가계부 일괄 작성 (유효성 검사, 회원 검증이 끝난 한 회원의 내역)
+     * @param requests : 작성할 가계부 내역
+     * @return Mono<AccountBookBulkWriteResponse> : 저장된 가계부 번호 (요청 순서)
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<AccountBookBulkWriteResponse> accountBookBulkWrite(List<AccountBookWriteRequest> requests) {
+        return Mono.defer(() -> {
+            // DB 호출 전에 날짜 형식까지 모두 검사
+            List<Chunk> chunks = this.chunks(requests);
+            List<AccountBookStatistic> statistics = this.statistics(requests);
+            Integer[] accountBookIds = new Integer[requests.size()];
+
+            return Flux.fromIterable(chunks)
+                .concatMap(chunk -> accountBookBulkRepository.insertAll(chunk.query)
+                    .doOnNext(firstId -> {
+                        for (int i = 0; i < chunk.indexes.length; i++) accountBookIds[chunk.indexes[i]] = firstId + i;
+                    }))
+                .thenMany(Flux.fromIterable(partition(statistics, chunkSize)))
+                .concatMap(accountBookBulkRepository::accumulateAll)
+                .then(Mono.fromSupplier(() -> AccountBookBulkWriteResponse.builder()
+                    .count(requests.size())
+                    .accountBookIds(Arrays.asList(accountBookIds))
+                    .build()));
+        });
+    }
+
+    /**
+     * 유형 별 chunkSize 건씩 다중 행 INSERT 쿼리 구성
+     * @param requests : 작성할 가계부 내역
+     * @return List<Chunk> : 다중 행 INSERT 쿼리와 요청 내 위치
+     */
+    private List<Chunk> chunks(List<AccountBookWriteRequest> requests) {
+        Map<AccountBookType, List<Integer>> indexesByType = new EnumMap<>(AccountBookType.class);
+        for (int i = 0; i < requests.size(); i++) {
+            indexesByType.computeIfAbsent(requests.get(i).getAccountBookType(), type -> new ArrayList<>()).add(i);
+        }
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (Map.Entry<AccountBookType, List<Integer>> entry : indexesByType.entrySet()) {
+            for (List<Integer> indexes : partition(entry.getValue(), chunkSize)) {
+                List<AccountBookBulkInsertQuery.Row> rows = new ArrayList<>(indexes.size());
+                for (int index : indexes) rows.add(toRow(requests.get(index)));
+
+                chunks.add(new Chunk(AccountBookBulkInsertQuery.of(entry.getKey(), rows), indexes.stream().mapToInt(Integer::intValue).toArray()));
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 월 별 통계 집계 누적분 (수입, 지출만 집계, 같은 일자, 카테고리는 합산)
+     * @param requests : 작성할 가계부 내역
+     * @return List<AccountBookStatistic> : 누적할 합계 (total 은 더할 금액)
+     */
+    private List<AccountBookStatistic> statistics(List<AccountBookWriteRequest> requests) {
+        Map<List<Object>, AccountBookStatistic> statistics = new LinkedHashMap<>();
+
+        for (AccountBookWriteRequest request : requests) {
+            AccountBookType accountBookType = request.getAccountBookType();
+            if (accountBookType == AccountBookType.T) continue;
+
+            LocalDate date = DateTimeUtils.parseDateTime(request.getCreatedDate()).toLocalDate();
+            String category = accountBookType == AccountBookType.I ? request.getIncomeType().name() : request.getExpenditureType().name();
+            long money = request.priceAsLong();
+
+            statistics.merge(Arrays.asList(request.getMemberId(), accountBookType, date, category),
+                statistic(request.getMemberId(), accountBookType, date, category, money),
+                (sum, add) -> statistic(sum.getMemberId(), accountBookType, date, category, Math.addExact(sum.getTotal(), add.getTotal())));
+        }
+        return new ArrayList<>(statistics.values());
+    }
+
+    private static AccountBookStatistic statistic(int memberId, AccountBookType accountBookType, LocalDate date, String category, long total) {
+        return AccountBookStatistic.builder()
+            .memberId(memberId)
+            .accountBookType(accountBookType)
+            .statisticMonth(YearMonth.from(date).toString())
+            .statisticDate(date)
+            .category(category)
+            .total(total)
+            .build();
+    }
+
+    private static AccountBookBulkInsertQuery.Row toRow(AccountBookWriteRequest request) {
+        String type;
+        if (request.getAccountBookType() == AccountBookType.I) type = request.getIncomeType().name();
+        else if (request.getAccountBookType() == AccountBookType.P) type = request.getExpenditureType().name();
+        else type = request.getTransferType().name();
+
+        return new AccountBookBulkInsertQuery.Row(
+            request.getAccountName(),
+            DateTimeUtils.parseDateTime(request.getCreatedDate()),
+            request.priceAsLong(),
+            type,
+            request.getMemberId()
+        );
+    }
+
+    private static <T> List<List<T>> partition(List<T> list, int size) {
+        List<List<T>> partitions = new ArrayList<>((list.size() + size - 1) / size);
+        for (int from = 0; from < list.size(); from += size) {
+            partitions.add(list.subList(from, Math.min(from + size, list.size())));
+        }
+        return partitions;
+    }
+
+    /**
+     * 다중 행 INSERT 쿼리와 각 행의 요청 내 위치
+     */
+    private static class Chunk {
+
+        private final AccountBookBulkInsertQuery query;
+
+        private final int[] indexes;
+
+        private Chunk(AccountBookBulkInsertQuery query, int[] indexes) {
+            this.query = query;
+            this.indexes = indexes;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package click.bitbank.api.domain.accountBook.specification;
+
+import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.domain.accountBook.model.idempotency.AccountBookIdempotency;
+import click.bitbank.api.domain.accountBook.repository.AccountBookIdempotencyRepository;
+import click.bitbank.api.infrastructure.cache.IdempotencyCache;
+import click.bitbank.api.infrastructure.exception.status.AlreadyDataException;
+import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 가계부 작성 Idempotency-Key 처리
+ * 같은 회원이 같은 키로 다시 요청하면 회원 검증, 가계부 작성 없이 처음 작성된 가계부 번호로 응답한다.
+ * 최근 키는 로컬 캐시에서, 그 외는 accountBookIdempotency 테이블에서 확인한다.
+ * 키 선점은 트랜잭션 밖에서 바로 커밋해 같은 키의 동시 요청이 잠금을 기다리지 않고 처리 중 오류를 받도록 하고,
+ * 가계부 작성과 가계부 번호 기록만 한 트랜잭션으로 처리한다. (작성에 실패하면 선점을 취소)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountBookIdempotencySpecification {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final Pattern IDEMPOTENCY_KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final AccountBookIdempotencyRepository accountBookIdempotencyRepository;
+    private final IdempotencyCache idempotencyCache;
+
+    /**
+     * 요청 키 유효성 검사
+     * @param idempotencyKey : 요청 키
+     */
+    public void idempotencyKeyVerify(String idempotencyKey) {
+        if (!IDEMPOTENCY_KEY_PATTERN.matcher(idempotencyKey).matches()) {
+            throw new BadRequestException(ExceptionMessage.IsInvalidIdempotencyKey.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 캐시에서 작성이 끝난 요청 조회
+     * @param idempotencyKey : 요청 키
+     * @param request : 유효성 검사가 끝난 AccountBookWriteRequest
+     * @return Mono<AccountBookWriteResponse> : 처음 작성된 가계부 번호 (캐시에 없으면 empty)
+     */
+    public Mono<AccountBookWriteResponse> findCompleted(String idempotencyKey, AccountBookWriteRequest request) {
+        AccountBookIdempotency idempotency = idempotencyCache.getIfPresent(request.getMemberId(), idempotencyKey);
+        if (idempotency == null) return Mono.empty();
+
+        return this.replay(idempotency, requestHash(request));
+    }
+
+    /**
+     * 키 선점 (트랜잭션 밖에서 호출, 바로 커밋)
+     * 이미 선점된 키면 처음 작성된 가계부 번호로 응답하고, 작성 중이면 잠금을 기다리지 않고 처리 중 오류
+     *
+     * @param idempotencyKey : 요청 키
+     * @param request : 유효성 검사가 끝난 AccountBookWriteRequest
+     * @return Mono<AccountBookWriteResponse> : 처음 작성된 가계부 번호 (이번 요청이 선점했으면 empty)
+     */
+    public Mono<AccountBookWriteResponse> reserveOrReplay(String idempotencyKey, AccountBookWriteRequest request) {
+        int memberId = request.getMemberId();
+        byte[] requestHash = requestHash(request);
+
+        return accountBookIdempotencyRepository.reserve(memberId, idempotencyKey, requestHash).flatMap(reserved -> {
+            if (reserved != 0) return Mono.empty();
+
+            return accountBookIdempotencyRepository.findByKey(memberId, idempotencyKey)
+                .switchIfEmpty(Mono.error(new AlreadyDataException(ExceptionMessage.IsProcessingIdempotencyKey.getMessage())))
+                .flatMap(idempotency -> this.replay(idempotency, requestHash)
+                    .doOnNext(response -> idempotencyCache.put(idempotency)));
+        });
+    }
+
+    /**
+     * 선점한 키로 가계부 작성 후 가계부 번호 기록 (한 트랜잭션)
+     * 회원 검증 등 외부 호출은 트랜잭션 시작 전에 끝내야 한다.
+     *
+     * @param idempotencyKey : 선점한 요청 키
+     * @param request : 유효성 검사가 끝난 AccountBookWriteRequest
+     * @param write : 가계부 작성
+     * @return Mono<AccountBookWriteResponse> : 작성된 가계부 번호
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public Mono<AccountBookWriteResponse> writeAndComplete(String idempotencyKey, AccountBookWriteRequest request, Supplier<Mono<AccountBookWriteResponse>> write) {
+        int memberId = request.getMemberId();
+
+        return write.get().flatMap(response -> accountBookIdempotencyRepository.complete(memberId, idempotencyKey, response.getAccountBookId())
+            .then(this.cacheAfterCommit(AccountBookIdempotency.builder()
+                .memberId(memberId)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash(request))
+                .accountBookId(response.getAccountBookId())
+                .build()))
+            .thenReturn(response));
+    }
+
+    /**
+     * 가계부 작성에 실패한 키 선점 취소 (같은 키로 다시 요청할 수 있도록)
+     * 취소에 실패한 키는 정리 이벤트로 삭제될 때까지 처리 중으로 응답한다.
+     *
+     * @param idempotencyKey : 선점한 요청 키
+     * @param memberId : 회원 고유번호
+     * @return Mono<Void>
+     */
+    public Mono<Void> release(String idempotencyKey, int memberId) {
+        return accountBookIdempotencyRepository.release(memberId, idempotencyKey)
+            .doOnError(throwable -> log.warn("===== Idempotency-Key 선점 취소 실패 >>> {} =====", throwable.toString()))
+            .onErrorResume(throwable -> Mono.empty())
+            .then();
+    }
+
+    /**
+     * 처음 작성된 가계부 번호로 응답
+     * @param idempotency : 저장된 요청 키
+     * @param requestHash : 이번 요청 본문 SHA-256
+     * @return Mono<AccountBookWriteResponse> : 처음 작성된 가계부 번호
+     */
+    private Mono<AccountBookWriteResponse> replay(AccountBookIdempotency idempotency, byte[] requestHash) {
+        if (!MessageDigest.isEqual(idempotency.getRequestHash(), requestHash)) {
+            return Mono.error(new AlreadyDataException(ExceptionMessage.AlreadyUsedIdempotencyKey.getMessage()));
+        }
+        if (idempotency.getAccountBookId() == null) {
+            return Mono.error(new AlreadyDataException(ExceptionMessage.IsProcessingIdempotencyKey.getMessage()));
+        }
+
+        return Mono.just(AccountBookWriteResponse.builder()
+            .accountBookId(idempotency.getAccountBookId())
+            .build());
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 로컬 캐시에 저장 (롤백된 가계부 번호로 응답하지 않도록)
+     * @param idempotency : 작성이 끝난 요청 키
+     * @return Mono<Void>
+     */
+    private Mono<Void> cacheAfterCommit(AccountBookIdempotency idempotency) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(() -> idempotencyCache.put(idempotency));
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(() -> idempotencyCache.put(idempotency)))
+            .then();
+    }
+
+    /**
+     * 요청 본문 SHA-256
+     * 인스턴스와 관계없이 같은 값이 되도록 필드를 정해진 순서의 문자열(enum 은 이름)로 바꾸고,
+     * 필드 경계가 섞이지 않도록 각 필드 앞에 길이(null 이면 -1)를 붙여 계산한다.
+     *
+     * @param request : AccountBookWriteRequest
+     * @return byte[] : 요청 본문 SHA-256 (32 byte)
+     */
+    static byte[] requestHash(AccountBookWriteRequest request) {
+        MessageDigest digest = SHA_256.get();
+        update(digest, string(request.getMemberId()));
+        update(digest, name(request.getAccountBookType()));
+        update(digest, name(request.getIncomeType()));
+        update(digest, name(request.getExpenditureType()));
+        update(digest, name(request.getTransferType()));
+        update(digest, request.getAccountName());
+        update(digest, string(request.getPrice()));
+        update(digest, request.getCreatedDate());
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+        int length = bytes == null ? -1 : bytes.length;
+        digest.update(new byte[] {(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8), (byte) length});
+        if (bytes != null) digest.update(bytes);
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+}
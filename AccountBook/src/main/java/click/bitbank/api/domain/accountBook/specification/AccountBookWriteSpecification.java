@@ -6,11 +6,13 @@ import click.bitbank.api.domain.accountBook.model.AccountBookType;
 import click.bitbank.api.domain.accountBook.model.expenditure.Expenditure;
 import click.bitbank.api.domain.accountBook.model.income.Income;
 import click.bitbank.api.domain.accountBook.model.transfer.Transfer;
+import click.bitbank.api.domain.accountBook.repository.AccountBookStatisticRepository;
 import click.bitbank.api.domain.accountBook.repository.ExpenditureRepository;
 import click.bitbank.api.domain.accountBook.repository.IncomeRepository;
 import click.bitbank.api.domain.accountBook.repository.TransferRepository;
 import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
 import click.bitbank.api.infrastructure.exception.status.RegistrationFailException;
+import click.bitbank.api.infrastructure.util.DateTimeUtils;
 import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,7 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.YearMonth;
 
 @Component
 @RequiredArgsConstructor
@@ -27,6 +29,7 @@ public class AccountBookWriteSpecification {
     private final IncomeRepository incomeRepository;
     private final ExpenditureRepository expenditureRepository;
     private final TransferRepository transferRepository;
+    private final AccountBookStatisticRepository accountBookStatisticRepository;
     private final AccountBookFactory accountBookFactory;
 
     /**
@@ -71,12 +74,14 @@ public class AccountBookWriteSpecification {
         return incomeRepository.save(
             accountBookFactory.incomeBuilder(
                 request.getAccountName(),
-                LocalDateTime.parse(request.getCreatedDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+                DateTimeUtils.parseDateTime(request.getCreatedDate()),
                 request.getIncomeType(),
-                request.getPrice(),
+                request.priceAsLong(),
                 request.getMemberId()
             )
-        ).switchIfEmpty(Mono.error(new RegistrationFailException(ExceptionMessage.WriteFailAccountBook.getMessage())));
+        ).switchIfEmpty(Mono.error(new RegistrationFailException(ExceptionMessage.WriteFailAccountBook.getMessage())))
+            .flatMap(income -> this.accumulateStatistic(income.getMemberId(), AccountBookType.I, income.getIncomeDate(), income.getIncomeType().name(), income.getIncomeMoney())
+                .thenReturn(income));
     }
 
     /**
@@ -88,12 +93,14 @@ public class AccountBookWriteSpecification {
         return expenditureRepository.save(
             accountBookFactory.expenditureBuilder(
                 request.getAccountName(),
-                LocalDateTime.parse(request.getCreatedDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+                DateTimeUtils.parseDateTime(request.getCreatedDate()),
                 request.getExpenditureType(),
-                request.getPrice(),
+                request.priceAsLong(),
                 request.getMemberId()
             )
-        ).switchIfEmpty(Mono.error(new RegistrationFailException(ExceptionMessage.WriteFailAccountBook.getMessage())));
+        ).switchIfEmpty(Mono.error(new RegistrationFailException(ExceptionMessage.WriteFailAccountBook.getMessage())))
+            .flatMap(expenditure -> this.accumulateStatistic(expenditure.getMemberId(), AccountBookType.P, expenditure.getExpenditureDate(), expenditure.getExpenditureType().name(), expenditure.getExpenditureMoney())
+                .thenReturn(expenditure));
     }
 
     /**
@@ -105,11 +112,31 @@ public class AccountBookWriteSpecification {
         return transferRepository.save(
             accountBookFactory.transferBuilder(
                 request.getAccountName(),
-                LocalDateTime.parse(request.getCreatedDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")),
+                DateTimeUtils.parseDateTime(request.getCreatedDate()),
                 request.getTransferType(),
-                request.getPrice(),
+                request.priceAsLong(),
                 request.getMemberId()
             )
         ).switchIfEmpty(Mono.error(new RegistrationFailException(ExceptionMessage.WriteFailAccountBook.getMessage())));
     }
+
+    /**
+     * 월 별 통계 집계 누적 (같은 트랜잭션에서 처리)
+     * @param memberId: 회원 고유번호
+     * @param accountBookType: 가계부 유형 (수입, 지출)
+     * @param date: 가계부 날짜
+     * @param category: 카테고리 (수입 유형, 지출 유형)
+     * @param money: 금액
+     * @return Mono<Integer>
+     */
+    private Mono<Integer> accumulateStatistic(int memberId, AccountBookType accountBookType, LocalDateTime date, String category, long money) {
+        return accountBookStatisticRepository.accumulate(
+            memberId,
+            accountBookType.name(),
+            YearMonth.from(date).toString(),
+            date.toLocalDate(),
+            category,
+            money
+        );
+    }
 }
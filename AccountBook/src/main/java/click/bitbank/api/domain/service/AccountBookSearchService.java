@@ -6,282 +6,173 @@ import click.bitbank.api.application.response.DTO.AccountBookInfoDTO;
 import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
 import click.bitbank.api.domain.accountBook.SearchDateType;
-import click.bitbank.api.domain.accountBook.model.expenditure.Expenditure;
-import click.bitbank.api.domain.accountBook.model.income.Income;
-import click.bitbank.api.domain.accountBook.model.transfer.Transfer;
-import click.bitbank.api.domain.accountBook.repository.ExpenditureRepository;
-import click.bitbank.api.domain.accountBook.repository.IncomeRepository;
-import click.bitbank.api.domain.accountBook.repository.TransferRepository;
+import click.bitbank.api.domain.accountBook.repository.AccountBookSearchRepository;
+import click.bitbank.api.infrastructure.r2dbc.RepositoryRetryPolicy;
+import click.bitbank.api.infrastructure.util.DateTimeUtils;
+import click.bitbank.api.infrastructure.util.RequestTime;
 import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigInteger;
 import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AccountBookSearchService {
 
-    private final IncomeRepository incomeRepository;
-    private final ExpenditureRepository expenditureRepository;
-    private final TransferRepository transferRepository;
+    private final AccountBookSearchRepository accountBookSearchRepository;
+    private final RepositoryRetryPolicy repositoryRetryPolicy;
 
 
     /**
      * 가계부 목록 검색
      *
      * @param request : 전달된 Request
-     * @return Mono<List < AccountBookSearchByDailyDTO>> : 날짜별 가계부 정보
+     * @return Mono<AccountBookSearchResponse> : 날짜별 가계부 정보
      */
     public Mono<AccountBookSearchResponse> makeAccountBookSearchByDail(AccountBookSearchRequest request) {
+        RequestTime requestTime = RequestTime.now();    // 검색 기간, 날짜 표기에 같은 요청 시각 사용
 
-        if (request.getAccountBookType() == AccountBookType.I) {
-            return getIncomeSearch(request).flatMap(incomeSearchList -> Mono.just(makeAccountBookSearchResponse(incomeSearchList)));
-        } else if (request.getAccountBookType() == AccountBookType.P) {
-            return getExpenditureSearch(request).flatMap(expenditureSearchList -> Mono.just(makeAccountBookSearchResponse(expenditureSearchList)));
-        } else if (request.getAccountBookType() == AccountBookType.T) {
-            return getTransferSearch(request).flatMap(transferSearchList -> Mono.just(makeAccountBookSearchResponse(transferSearchList)));
+        if (request.getSearchDateType() != null && request.getSearchDateType() != SearchDateType.A) {
+            setBoundsDate(request, requestTime); // 검색 기간 세팅
         }
 
-        // 가계부 메인 부분에서 사용할 부분
-        return Flux.merge(getIncomeSearch(request), getExpenditureSearch(request), getTransferSearch(request))
-                .flatMapIterable(Function.identity())
-                .collectList()
-                .flatMap(accountBookByCategoryDTOList -> Mono.just(makeAccountBookSearchResponse(accountBookByCategoryDTOList)));
+        // 수입, 지출, 이체를 한 번의 쿼리로 최신순 조회
+        return repositoryRetryPolicy.apply(accountBookSearchRepository.findAccountBookByCondition(request).collectList(), "accountBookSearch")
+                .map(accountBookByCategoryDTOList -> makeAccountBookSearchResponse(accountBookByCategoryDTOList, requestTime));
     }
 
 
     /**
-     * 가계부 검색 결과 리스트 만들기
+     * 가계부 목록 커서 기반 페이지 검색
+     * 페이지 크기만큼 조회한 내역을 날짜별로 묶어 순차 전달 (회원의 전체 내역을 메모리에 올리지 않음)
+     * 페이지 경계가 하루 중간이면 그 날의 남은 내역까지 함께 전달하므로, 한 날짜는 한 페이지에만 온전히 포함된다.
+     * (페이지 크기보다 많이 전달될 수 있으며, 다음 페이지 커서는 전달된 마지막 내역 기준)
+     * 단, 남은 내역이 최대 페이지 크기를 넘는 날짜는 최대 페이지 크기까지만 전달하고 다음 페이지에서 이어서 전달한다.
      *
-     * @param accountBookByCategoryDTOList : 가계부(수입, 지출, 이체) 정보
-     * @return List<AccountBookSearchByDailyDTO> : 날짜별 가계부 정보
+     * @param request : 전달된 Request
+     * @return Flux<AccountBookSearchByDailyDTO> : 날짜별 가계부 정보
      */
-    public AccountBookSearchResponse makeAccountBookSearchResponse(List<AccountBookByCategoryDTO> accountBookByCategoryDTOList) {
-        BigInteger incomeTotal = BigInteger.valueOf(0);
-        BigInteger expenditureTotal = BigInteger.valueOf(0);
-
-        accountBookByCategoryDTOList.sort((d1, d2) -> d2.getDate().compareTo(d1.getDate())); // 날짜 오름차순으로 정렬
-
-        Map<String, AccountBookSearchByDailyDTO> accountBookMap = new LinkedHashMap<>();
-
-        for (AccountBookByCategoryDTO accountBook : accountBookByCategoryDTOList) {
-            String date = accountBook.getDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-            AccountBookSearchByDailyDTO accountBookSearchByDailyDTO = new AccountBookSearchByDailyDTO(accountBook.getDate());
+    public Flux<AccountBookSearchByDailyDTO> makeAccountBookSearchPageByDaily(AccountBookSearchRequest request) {
+        RequestTime requestTime = RequestTime.now();    // 검색 기간, 날짜 표기에 같은 요청 시각 사용
 
-            if (!accountBookMap.containsKey(date)) {   // 해당 날짜의 key, value 생성
-                accountBookMap.put(date, accountBookSearchByDailyDTO);
-            }
-            accountBookSearchByDailyDTO = accountBookMap.get(date);    // 해당 날짜에 존재하는 value 가져오기
-            accountBookSearchByDailyDTO.setAccountBookTotalByDaily(accountBook.getMoney()); // 해당 날짜 총 금액 구하기
-
-            AccountBookInfoDTO accountBookInfoDTO = new AccountBookInfoDTO(accountBook.getAccountBookType(), accountBook.getInfo(), accountBook.getMoney());
-            accountBookSearchByDailyDTO.setAccountBookInfoDTOList(accountBookInfoDTO);  // 가계부 상제 정보 세팅
-
-            accountBookMap.put(date, accountBookSearchByDailyDTO); // 변경된 데이터로 value 수정
-
-            // 총 수입, 지출 구하기
-            if (accountBook.getAccountBookType() == AccountBookType.I) {
-                incomeTotal = incomeTotal.add(accountBook.getMoney());
-            } else {
-                expenditureTotal = expenditureTotal.subtract(accountBook.getMoney());
-            }
+        if (request.getSearchDateType() != null && request.getSearchDateType() != SearchDateType.A) {
+            setBoundsDate(request, requestTime); // 검색 기간 세팅
         }
 
-        return new AccountBookSearchResponse(new ArrayList<>(accountBookMap.values()), incomeTotal, expenditureTotal);
+        // 페이지 크기로 제한된 조회이므로 페이지 단위로 재시도 (부분 전달 후 중복 전달 방지)
+        return repositoryRetryPolicy.apply(accountBookSearchRepository.findAccountBookPageByCondition(request).collectList(), "accountBookSearchPage")
+                .flatMap(page -> completeLastDay(request, page))
+                .flatMapIterable(Function.identity())
+                .bufferUntilChanged(accountBook -> accountBook.getDate().toLocalDate())  // 최신순 정렬이므로 같은 날짜는 연속
+                .map(accountBookByCategoryDTOList -> makeAccountBookSearchByDailyDTO(accountBookByCategoryDTOList, requestTime));
     }
 
 
     /**
-     * 가계부 목록 검색 (수입)
+     * 페이지가 가득 찬 경우 마지막 내역과 같은 날짜의 남은 내역 추가 (날짜별 합계가 두 페이지로 나뉘지 않도록)
+     * 남은 내역은 최대 페이지 크기까지만 추가한다. (한 요청에서 읽는 내역은 페이지 크기 + 최대 페이지 크기 이하)
      *
      * @param request : 전달된 Request
-     * @return Mono<List < AccountBookByCategoryDTO>> : 회원의 가계부(수입) 내역
+     * @param page : 페이지 크기만큼 조회한 가계부 내역 (최신순)
+     * @return Mono<List<AccountBookByCategoryDTO>> : 마지막 날짜까지 채운 가계부 내역
      */
-    @Transactional(rollbackFor = Exception.class, readOnly = true)
-    public Mono<List<AccountBookByCategoryDTO>> getIncomeSearch(AccountBookSearchRequest request) {
-        Mono<List<Income>> income = null;
-
-        // 수입 유형이 지정되지 않은 경우
-        if (request.getIncomeType() == null || request.getIncomeType().isEmpty()) {
-
-            // 전체 기간 조회
-            if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                income = incomeRepository.findByMemberId(request.getMemberId()).collectList().log();
-            } else {
-                setBoundsDate(request); // 검색 기간 세팅
-                income = incomeRepository.findByMemberIdAndIncomeDateBetween(request.getMemberId(), request.getSearchStartDate(), request.getSearchEndDate())
-                        .collectList().log();
-            }
-
-        } else {
-
-            // 검색어가 없는 경우
-            if (request.getSearchKeyword() == null) {
-
-                // 전체 기간 조회
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    income = incomeRepository.findByMemberIdAndIncomeTypeIn(request.getMemberId(), request.getIncomeType()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-                    income = incomeRepository.findByMemberIdAndIncomeDateBetweenAndIncomeTypeIn(request.getMemberId(), request.getIncomeType(), request.getSearchStartDate(), request.getSearchEndDate())
-                            .collectList().log();
-                }
-
-            } else {
-
-                // 전체 기간을 조회하거나, 기간이 설정되어 있지 않은 경우
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    income = incomeRepository.findByMemberIdAndIncomeTypeInAndIncomeInfoContaining(request.getMemberId(), request.getIncomeType(), request.getSearchKeyword()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-
-                    income = incomeRepository.findByMemberIdAndIncomeDateBetweenAndIncomeInfoContainingAndIncomeTypeIn(request.getMemberId(), request.getIncomeType(), request.getSearchStartDate(), request.getSearchEndDate(), request.getSearchKeywordAddPercent())
-                            .collectList().log();
-                }
-
-            }
-        }
-        return income.map(accountBookList -> {
-            List<AccountBookByCategoryDTO> accountBookByCategoryDTOList = accountBookList.stream()
-                    .map(accountBook -> new AccountBookByCategoryDTO(accountBook.getIncomeDate(), accountBook.getIncomeInfo(), accountBook.getIncomeMoney(), accountBook.getAccountBookType()))
-                    .collect(Collectors.toList());
-            return accountBookByCategoryDTOList;
-        });
+    private Mono<List<AccountBookByCategoryDTO>> completeLastDay(AccountBookSearchRequest request, List<AccountBookByCategoryDTO> page) {
+        if (page.size() < request.getLimitedPageSize()) return Mono.just(page);   // 마지막 페이지
+
+        return repositoryRetryPolicy.apply(accountBookSearchRepository.findAccountBookRestOfDay(request, page.get(page.size() - 1)).collectList(), "accountBookSearchRestOfDay")
+                .map(restOfDay -> {
+                    if (restOfDay.isEmpty()) return page;
+
+                    List<AccountBookByCategoryDTO> completed = new ArrayList<>(page.size() + restOfDay.size());
+                    completed.addAll(page);
+                    completed.addAll(restOfDay);
+                    return completed;
+                });
     }
 
 
     /**
-     * 가계부 목록 검색 (지출)
+     * 같은 날짜의 가계부 내역으로 날짜별 가계부 정보 만들기
      *
-     * @param request : 전달된 Request
-     * @return Mono<List < AccountBookByCategoryDTO>> : 회원의 가계부(지출) 내역
+     * @param accountBookByCategoryDTOList : 같은 날짜의 가계부(수입, 지출, 이체) 정보
+     * @param requestTime : 요청 시각
+     * @return AccountBookSearchByDailyDTO : 날짜별 가계부 정보
      */
-    @Transactional(rollbackFor = Exception.class, readOnly = true)
-    public Mono<List<AccountBookByCategoryDTO>> getExpenditureSearch(AccountBookSearchRequest request) {
-        Mono<List<Expenditure>> expenditure = null;
+    private AccountBookSearchByDailyDTO makeAccountBookSearchByDailyDTO(List<AccountBookByCategoryDTO> accountBookByCategoryDTOList, RequestTime requestTime) {
+        AccountBookSearchByDailyDTO accountBookSearchByDailyDTO = new AccountBookSearchByDailyDTO(accountBookByCategoryDTOList.get(0).getDate(), requestTime);
 
-        // 지출 유형이 지정되지 않은 경우
-        if (request.getExpenditureType() == null || request.getExpenditureType().isEmpty()) {
-
-            // 전체 기간 조회
-            if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                expenditure = expenditureRepository.findByMemberId(request.getMemberId()).collectList().log();
-            } else {
-                setBoundsDate(request); // 검색 기간 세팅
-                expenditure = expenditureRepository.findByMemberIdAndExpenditureDateBetween(request.getMemberId(), request.getSearchStartDate(), request.getSearchEndDate())
-                        .collectList().log();
-            }
-
-        } else {
-
-            // 검색어가 없는 경우
-            if (request.getSearchKeyword() == null) {
-
-                // 전체 기간 조회
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    expenditure = expenditureRepository.findByMemberIdAndExpenditureTypeIn(request.getMemberId(), request.getExpenditureType()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-                    expenditure = expenditureRepository.findByMemberIdAndExpenditureDateBetweenAndExpenditureTypeIn(request.getMemberId(), request.getExpenditureType(), request.getSearchStartDate(), request.getSearchEndDate())
-                            .collectList().log();
-                }
-
-            } else {
-
-                // 전체 기간을 조회하거나, 기간이 설정되어 있지 않은 경우
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    expenditure = expenditureRepository.findByMemberIdAndExpenditureTypeInAndExpenditureInfoContaining(request.getMemberId(), request.getExpenditureType(), request.getSearchKeyword()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-
-                    expenditure = expenditureRepository.findByMemberIdAndExpenditureDateBetweenAndExpenditureInfoContainingAndExpenditureTypeIn(request.getMemberId(), request.getExpenditureType(), request.getSearchStartDate(), request.getSearchEndDate(), request.getSearchKeywordAddPercent())
-                            .collectList().log();
-                }
-
-            }
+        for (AccountBookByCategoryDTO accountBook : accountBookByCategoryDTOList) {
+            accountBookSearchByDailyDTO.setAccountBookTotalByDaily(accountBook.getMoney()); // 해당 날짜 총 금액 구하기
+            accountBookSearchByDailyDTO.setAccountBookInfoDTOList(makeAccountBookInfoDTO(accountBook));  // 가계부 상제 정보 세팅
         }
-        return expenditure.map(accountBookList -> {
-            List<AccountBookByCategoryDTO> accountBookByCategoryDTOList = accountBookList.stream()
-                    .map(accountBook -> new AccountBookByCategoryDTO(accountBook.getExpenditureDate(), accountBook.getExpenditureInfo(), accountBook.getNegateExpenditureMoney(), accountBook.getAccountBookType()))
-                    .collect(Collectors.toList());
-            return accountBookByCategoryDTOList;
-        });
+
+        return accountBookSearchByDailyDTO;
     }
 
 
     /**
-     * 가계부 목록 검색 (이체)
+     * 가계부 상세 정보 만들기
      *
-     * @param request : 전달된 Request
-     * @return Mono<List < AccountBookByCategoryDTO>> : 회원의 가계부(이체) 내역
+     * @param accountBook : 가계부(수입, 지출, 이체) 정보
+     * @return AccountBookInfoDTO : 가계부 상세 정보
      */
-    @Transactional(rollbackFor = Exception.class, readOnly = true)
-    public Mono<List<AccountBookByCategoryDTO>> getTransferSearch(AccountBookSearchRequest request) {
-        Mono<List<Transfer>> transfer = null;
+    private AccountBookInfoDTO makeAccountBookInfoDTO(AccountBookByCategoryDTO accountBook) {
+        return AccountBookInfoDTO.builder()
+                .accountBookId(accountBook.getAccountBookId())
+                .accountBookDate(accountBook.getDate())
+                .accountBookType(accountBook.getAccountBookType())
+                .accountBookInfo(accountBook.getInfo())
+                .accountMoney(accountBook.getMoney())
+                .build();
+    }
 
-        // 지출 유형이 지정되지 않은 경우
-        if (request.getTransferType() == null || request.getTransferType().isEmpty()) {
 
-            // 전체 기간 조회
-            if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                transfer = transferRepository.findByMemberId(request.getMemberId()).collectList().log();
-            } else {
-                setBoundsDate(request); // 검색 기간 세팅
-                transfer = transferRepository.findByMemberIdAndTransferDateBetween(request.getMemberId(), request.getSearchStartDate(), request.getSearchEndDate())
-                        .collectList().log();
-            }
+    /**
+     * 가계부 검색 결과 리스트 만들기
+     * 날짜별 정보는 날짜가 바뀔 때만 생성 (최신순 정렬이므로 같은 날짜는 연속)
+     *
+     * @param accountBookByCategoryDTOList : 가계부(수입, 지출, 이체) 정보 (최신순 정렬)
+     * @param requestTime : 요청 시각
+     * @return List<AccountBookSearchByDailyDTO> : 날짜별 가계부 정보
+     */
+    public AccountBookSearchResponse makeAccountBookSearchResponse(List<AccountBookByCategoryDTO> accountBookByCategoryDTOList, RequestTime requestTime) {
+        long incomeTotal = 0;
+        long expenditureTotal = 0;
 
-        } else {
+        List<AccountBookSearchByDailyDTO> accountBookSearchByDailyDTOList = new ArrayList<>();
+        AccountBookSearchByDailyDTO accountBookSearchByDailyDTO = null;
+        LocalDate currentDate = null;
 
-            // 검색어가 없는 경우
-            if (request.getSearchKeyword() == null) {
+        for (AccountBookByCategoryDTO accountBook : accountBookByCategoryDTOList) {
+            LocalDate date = accountBook.getDate().toLocalDate();
 
-                // 전체 기간 조회
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    transfer = transferRepository.findByMemberIdAndTransferTypeIn(request.getMemberId(), request.getTransferType()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-                    transfer = transferRepository.findByMemberIdAndTransferDateBetweenAndTransferTypeIn(request.getMemberId(), request.getTransferType(), request.getSearchStartDate(), request.getSearchEndDate())
-                            .collectList().log();
-                }
+            if (!date.equals(currentDate)) {   // 해당 날짜의 정보 생성
+                currentDate = date;
+                accountBookSearchByDailyDTO = new AccountBookSearchByDailyDTO(accountBook.getDate(), requestTime);
+                accountBookSearchByDailyDTOList.add(accountBookSearchByDailyDTO);
+            }
+            accountBookSearchByDailyDTO.setAccountBookTotalByDaily(accountBook.getMoney()); // 해당 날짜 총 금액 구하기
+            accountBookSearchByDailyDTO.setAccountBookInfoDTOList(makeAccountBookInfoDTO(accountBook));  // 가계부 상제 정보 세팅
 
+            // 총 수입, 지출 구하기
+            if (accountBook.getAccountBookType() == AccountBookType.I) {
+                incomeTotal = Math.addExact(incomeTotal, accountBook.getMoney());
             } else {
-
-                // 전체 기간을 조회하거나, 기간이 설정되어 있지 않은 경우
-                if (request.getSearchDateType() == SearchDateType.A || request.getSearchDateType() == null) {
-                    transfer = transferRepository.findByMemberIdAndTransferTypeInAndTransferInfoContaining(request.getMemberId(), request.getTransferType(), request.getSearchKeyword()).collectList().log();
-                } else {
-                    setBoundsDate(request); // 검색 기간 세팅
-
-                    transfer = transferRepository.findByMemberIdAndTransferDateBetweenAndTransferInfoContainingAndTransferTypeIn(request.getMemberId(), request.getTransferType(), request.getSearchStartDate(), request.getSearchEndDate(), request.getSearchKeywordAddPercent())
-                            .collectList().log();
-                }
-
+                expenditureTotal = Math.subtractExact(expenditureTotal, accountBook.getMoney());
             }
         }
-        return transfer.map(accountBookList -> {
-            List<AccountBookByCategoryDTO> accountBookByCategoryDTOList = accountBookList.stream()
-                    .map(accountBook -> new AccountBookByCategoryDTO(accountBook.getTransferDate(), accountBook.getTransferInfo(), accountBook.getNegateExpenditureMoney(), accountBook.getAccountBookType()))
-                    .collect(Collectors.toList());
-            return accountBookByCategoryDTOList;
-        });
+
+        return new AccountBookSearchResponse(accountBookSearchByDailyDTOList, incomeTotal, expenditureTotal);
     }
 
 
@@ -289,37 +180,36 @@ public class AccountBookSearchService {
      * 검색 기간 유형에 따라 검색 기간 세팅
      *
      * @param request : 전달된 Request
+     * @param requestTime : 요청 시각
      */
-    public void setBoundsDate(AccountBookSearchRequest request) {
-        LocalDateTime today = LocalDateTime.now();
-        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    public void setBoundsDate(AccountBookSearchRequest request, RequestTime requestTime) {
+        LocalDate today = requestTime.getToday();
 
         switch (request.getSearchDateType()) {
             case W: // 이번 주
-                request.setSearchStartDate(today.with(DayOfWeek.MONDAY).format(dateFormat));
-                log.info(request.getSearchStartDate());
-                request.setSearchEndDate(today.with(DayOfWeek.SATURDAY).format(dateFormat));
+                request.setSearchStartDate(DateTimeUtils.formatDate(today.with(DayOfWeek.MONDAY)));
+                request.setSearchEndDate(DateTimeUtils.formatDate(today.with(DayOfWeek.SATURDAY)));
                 break;
             case M: // 이번 달
-                request.setSearchStartDate(today.withDayOfMonth(1).format(dateFormat));
-                request.setSearchEndDate(today.with(TemporalAdjusters.lastDayOfMonth()).format(dateFormat));
+                request.setSearchStartDate(DateTimeUtils.formatDate(today.withDayOfMonth(1)));
+                request.setSearchEndDate(DateTimeUtils.formatDate(today.with(TemporalAdjusters.lastDayOfMonth())));
                 break;
             case Y: // 이번 년도
-                request.setSearchStartDate(today.with(TemporalAdjusters.firstDayOfYear()).format(dateFormat));
-                request.setSearchEndDate(today.with(TemporalAdjusters.lastDayOfYear()).format(dateFormat));
+                request.setSearchStartDate(DateTimeUtils.formatDate(today.with(TemporalAdjusters.firstDayOfYear())));
+                request.setSearchEndDate(DateTimeUtils.formatDate(today.with(TemporalAdjusters.lastDayOfYear())));
                 break;
             case M3:    // 최근 3개월
-                request.setSearchStartDate(today.minusMonths(3).format(dateFormat));
-                request.setSearchEndDate(today.format(dateFormat));
+                request.setSearchStartDate(DateTimeUtils.formatDate(today.minusMonths(3)));
+                request.setSearchEndDate(DateTimeUtils.formatDate(today));
                 break;
             case M6:    // 최근 6개월
-                request.setSearchStartDate(today.minusMonths(6).format(dateFormat));
-                request.setSearchEndDate(today.format(dateFormat));
+                request.setSearchStartDate(DateTimeUtils.formatDate(today.minusMonths(6)));
+                request.setSearchEndDate(DateTimeUtils.formatDate(today));
                 break;
             case S:  // 기간 설정
                 break;
         }
-        log.info(String.valueOf(request));
+        log.debug("검색 기간 >>> {} ~ {}", request.getSearchStartDate(), request.getSearchEndDate());
     }
 
 }
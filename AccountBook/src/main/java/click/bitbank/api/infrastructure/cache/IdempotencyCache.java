@@ -0,0 +1,60 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.domain.accountBook.model.idempotency.AccountBookIdempotency;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 가계부 작성 Idempotency-Key 로컬 캐시
+ * 최근 작성이 끝난 키를 보관해 재시도 요청은 DB 조회 없이 처음 작성된 가계부 번호로 응답한다.
+ * 캐시에 없는 키(다른 인스턴스에서 처리, 만료)는 accountBookIdempotency 테이블의 유니크 키로 중복을 막는다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private static final String CACHE_NAME = "accountBookIdempotency";
+
+    private final Cache<String, AccountBookIdempotency> cache;
+
+    public IdempotencyCache(MeterRegistry meterRegistry,
+                            @Value("${cache.idempotency.maximum-size:100000}") long maximumSize,
+                            @Value("${cache.idempotency.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 작성이 끝난 키 조회
+     *
+     * @param memberId : 회원 고유번호
+     * @param idempotencyKey : 요청 키
+     * @return AccountBookIdempotency : 작성 결과 (없으면 null)
+     */
+    public AccountBookIdempotency getIfPresent(int memberId, String idempotencyKey) {
+        return cache.getIfPresent(key(memberId, idempotencyKey));
+    }
+
+    /**
+     * 작성이 끝난 키 저장
+     *
+     * @param idempotency : 작성 결과 (가계부 번호 포함)
+     */
+    public void put(AccountBookIdempotency idempotency) {
+        cache.put(key(idempotency.getMemberId(), idempotency.getIdempotencyKey()), idempotency);
+    }
+
+    private static String key(int memberId, String idempotencyKey) {
+        return memberId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,101 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.presentation.shared.response.CommonResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 회원 검증 결과 로컬 캐시
+ * 검증된 회원(rt 200)과 존재하지 않는 회원(rt 404)의 검증 결과를 보관해 Member 서비스 호출을 줄인다.
+ * 같은 회원에 대한 동시 조회는 하나의 호출로 합쳐지며, 호출이 실패한 경우에는 캐시하지 않는다.
+ * 회원 탈퇴 시 Member 서비스가 발행하는 member-deleted-topic 으로 무효화된다.
+ */
+@Slf4j
+@Component
+public class MemberExistCache {
+
+    private static final String CACHE_NAME = "memberExist";
+
+    private final AsyncCache<Integer, CommonResponse> cache;
+
+    public MemberExistCache(MeterRegistry meterRegistry,
+                            @Value("${cache.member-exist.maximum-size:100000}") long maximumSize,
+                            @Value("${cache.member-exist.ttl:10m}") Duration ttl,
+                            @Value("${cache.member-exist.negative-ttl:30s}") Duration negativeTtl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new VerifyResultExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 회원 검증 결과 조회 (없으면 loader 로 조회 후 캐시)
+     *
+     * @param memberId : 회원 고유번호
+     * @param loader : 회원 검증 호출
+     * @return Mono<CommonResponse> : 회원 검증 결과
+     */
+    public Mono<CommonResponse> get(int memberId, Function<Integer, Mono<CommonResponse>> loader) {
+        return Mono.fromFuture(
+            cache.get(memberId, (key, executor) -> loader.apply(key).toFuture())
+                .thenApply(Function.identity())  // 구독 취소가 동시에 기다리는 다른 요청의 조회까지 취소하지 않도록 분리
+        );
+    }
+
+    /**
+     * 회원 검증 결과 무효화
+     *
+     * @param memberId : 회원 고유번호
+     */
+    public void invalidate(int memberId) {
+        cache.synchronous().invalidate(memberId);
+        log.info("===== 회원 검증 캐시 무효화 >>> memberId: {} =====", memberId);
+    }
+
+    /**
+     * 검증 결과 별 만료 시간
+     * 검증 성공은 ttl, 존재하지 않는 회원은 negativeTtl, 그 외 결과(서버 오류 등)는 즉시 만료
+     */
+    private static class VerifyResultExpiry implements Expiry<Integer, CommonResponse> {
+
+        private final long ttlNanos;
+
+        private final long negativeTtlNanos;
+
+        private VerifyResultExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Integer key, CommonResponse value, long currentTime) {
+            if (value.getRt() == HttpStatus.OK.value()) return ttlNanos;
+            if (value.getRt() == HttpStatus.NOT_FOUND.value()) return negativeTtlNanos;
+            return 0;
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer key, CommonResponse value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Integer key, CommonResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
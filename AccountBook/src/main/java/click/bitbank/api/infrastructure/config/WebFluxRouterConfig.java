@@ -1,8 +1,10 @@
 package click.bitbank.api.infrastructure.config;
 
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookSearchResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import click.bitbank.api.presentation.accountBook.AccountBookHandler;
 import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
 import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
@@ -10,6 +12,7 @@ import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -53,6 +56,14 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
             operation = @Operation(
                 description = "가계부 작성 API",
                 operationId = "accountBookWrite",
+                parameters = {
+                    @Parameter(
+                        in = ParameterIn.HEADER,
+                        name = "Idempotency-Key",
+                        description = "재시도 시 같은 값을 전달하면 처음 작성된 가계부 번호로 응답 (64자 이내의 영문, 숫자, -, _)",
+                        example = "3f2b8c1e-6a4d-4c8e-9b1a-7d5e2f0c9a11"
+                    )
+                },
                 requestBody = @RequestBody(
                     content = @Content(
                         schema = @Schema(
@@ -74,6 +85,39 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
                 }
             )
         ),
+        @RouterOperation(
+            path = "/account-book/write/bulk",
+            produces = {MediaType.APPLICATION_JSON_VALUE},
+            headers = {HttpHeaders.AUTHORIZATION},
+            beanClass = AccountBookHandler.class,
+            method = RequestMethod.POST,
+            beanMethod = "accountBookBulkWrite",
+            operation = @Operation(
+                description = "가계부 일괄 작성 API (JSON 배열 또는 NDJSON)",
+                operationId = "accountBookBulkWrite",
+                requestBody = @RequestBody(
+                    content = @Content(
+                        array = @ArraySchema(
+                            schema = @Schema(
+                                implementation = AccountBookWriteRequest.class,
+                                required = true
+                            )
+                        )
+                    )
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "201",
+                        content = @Content(
+                            schema = @Schema(
+                                implementation = AccountBookBulkWriteResponse.class,
+                                required = true
+                            )
+                        )
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = "/account-book/search",
             produces = {MediaType.APPLICATION_JSON_VALUE},
@@ -105,6 +149,38 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
                 }
             )
         ),
+        @RouterOperation(
+            path = "/account-book/search/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE},
+            headers = {HttpHeaders.AUTHORIZATION},
+            beanClass = AccountBookHandler.class,
+            method = RequestMethod.POST,
+            beanMethod = "accountBookSearchStream",
+            operation = @Operation(
+                description = "가계부 목록 커서 기반 스트리밍 검색 API (다음 페이지는 마지막 내역의 날짜, 유형, 번호를 커서로 전달, 페이지 경계가 하루 중간이면 그 날의 남은 내역까지 전달해 한 날짜는 한 페이지에만 포함, 단 남은 내역이 최대 페이지 크기(200)를 넘으면 다음 페이지에서 이어서 전달)",
+                operationId = "accountBookSearchStream",
+                requestBody = @RequestBody(
+                    content = @Content(
+                        schema = @Schema(
+                            implementation = AccountBookSearchRequest.class,
+                            required = true
+                        )
+                    )
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(
+                                implementation = AccountBookSearchByDailyDTO.class,
+                                required = true
+                            )
+                        )
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = "/account-book/statistic/expenditure",
             produces = { MediaType.APPLICATION_JSON_VALUE },
@@ -193,6 +269,8 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
                         .POST("/write", accountBookHandler::accountBookWrite) // 가계부 작성
                         .POST("/search", accountBookHandler::accountBookSearch) // 가계부 목록 검색
                 )
+                .POST("/write/bulk", accountBookHandler::accountBookBulkWrite) // 가계부 일괄 작성 (JSON 배열, NDJSON)
+                .POST("/search/stream", accountBookHandler::accountBookSearchStream) // 가계부 목록 커서 기반 스트리밍 검색
                 .GET("/statistic/expenditure", accountBookHandler::accountBookStatistic) // 월 별 지출 통계
                 .GET("/statistic/income", accountBookHandler::accountBookStatistic) // 월 별 수입 통계
             ).build();
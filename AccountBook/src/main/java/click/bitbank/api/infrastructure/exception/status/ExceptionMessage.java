@@ -20,6 +20,9 @@ public enum ExceptionMessage {
     SaveFailMember("RegistrationFailException", "회원 가입에 실패했습니다. 관리자에게 문의 바랍니다."),
 
     IsRequiredSearchDateType("BadRequestException", "검색 기간 유형을 선택해 주세요."),
+    IsInvalidSearchDate("BadRequestException", "검색 기간을 yyyy-MM-dd 형식으로 입력해 주세요."),
+    IsInvalidCursor("BadRequestException", "커서 날짜, 유형, 번호를 모두 전달해 주세요."),
+    IsInvalidMonth("BadRequestException", "조회할 월은 1 ~ 12 사이로 입력해 주세요."),
 
     IsRequiredAccountBookId("BadRequestException", "거래처명을 입력해주세요"),
     IsRequiredAccountName("BadRequestException", "거래처명을 입력해주세요"),
@@ -29,6 +32,13 @@ public enum ExceptionMessage {
     IsRequiredExpenditureType("BadRequestException", "수입 카테고리를 입력해주세요"),
     IsRequiredTransferType("BadRequestException", "수입 카테고리를 입력해주세요"),
     IsRequiredPositiveNumber("BadRequest", "금액을 1원 이상 입력해주세요"),
+    IsInvalidPrice("BadRequestException", "금액이 너무 큽니다. 입력한 금액을 확인해주세요"),
+    IsInvalidCreatedDate("BadRequestException", "작성한 날짜를 yyyy-MM-dd HH:mm:ss 형식으로 입력해주세요"),
+    IsInvalidBulkSize("BadRequestException", "한 번에 작성할 수 있는 가계부 내역 수를 초과했습니다."),
+    IsInvalidIdempotencyKey("BadRequestException", "Idempotency-Key 는 64자 이내의 영문, 숫자, -, _ 로 입력해주세요."),
+    AlreadyUsedIdempotencyKey("AlreadyDataException", "이미 다른 요청에 사용된 Idempotency-Key 입니다."),
+    IsProcessingIdempotencyKey("AlreadyDataException", "같은 Idempotency-Key 의 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."),
+    IsInvalidBulkMemberId("BadRequestException", "한 번에 한 회원의 가계부만 작성할 수 있습니다."),
     WriteFailAccountBook("WriteFailException", "가계부 작성 실패, 관리자에게 문의 바랍니다.");
 
     private final String type;
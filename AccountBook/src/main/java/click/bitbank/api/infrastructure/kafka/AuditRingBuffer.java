@@ -0,0 +1,99 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 감사 로그 전달용 고정 크기 Lock-free 링 버퍼 (다중 생산자, 단일 소비자)
+ * 슬롯마다 sequence 를 두어 생산자는 CAS 한 번으로 슬롯을 확보하고, 버퍼가 가득 차면 대기하지 않고 실패를 반환한다.
+ * poll 은 하나의 drainer 스레드에서만 호출해야 한다.
+ *
+ * @param <E> : 버퍼에 담을 요소
+ */
+public class AuditRingBuffer<E> {
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> buffer;
+
+    private final AtomicLongArray sequences;    // 슬롯 별 sequence (== 쓰기 위치 : 비어 있음, == 쓰기 위치 + 1 : 채워짐)
+
+    private final AtomicLong tail = new AtomicLong();   // 다음 쓰기 위치 (생산자)
+
+    private volatile long head; // 다음 읽기 위치 (소비자)
+
+    public AuditRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;  // 2의 제곱수로 올림
+        this.mask = size - 1;
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 요소 추가 (대기 없음)
+     *
+     * @param element : 추가할 요소
+     * @return boolean : 추가 성공 여부 (버퍼가 가득 찬 경우 false)
+     */
+    public boolean offer(E element) {
+        long position;
+        int index;
+
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) break;  // 슬롯 확보
+            } else if (difference < 0) {
+                return false;   // 소비자가 아직 비우지 않은 슬롯 -> 가득 참
+            }
+            // 다른 생산자가 먼저 확보한 경우 다시 시도
+        }
+
+        buffer.lazySet(index, element);
+        sequences.lazySet(index, position + 1); // 소비자에게 공개
+        return true;
+    }
+
+    /**
+     * 요소 꺼내기 (단일 소비자 전용)
+     *
+     * @return E : 꺼낸 요소 (비어 있으면 null)
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+
+        if (sequences.get(index) != position + 1) return null; // 아직 채워지지 않은 슬롯
+
+        E element = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.lazySet(index, position + mask + 1);  // 다음 바퀴의 생산자에게 반환
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * 대략적인 요소 개수
+     *
+     * @return int : 버퍼에 담긴 요소 개수
+     */
+    public int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head, mask + 1L));
+    }
+
+    /**
+     * 버퍼 크기
+     *
+     * @return int : 최대 요소 개수
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,28 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 감사 이벤트 처리 시간 측정을 위한 요청 시작 시각 기록
+ */
+@Component
+public class AuditTimingFilter implements WebFilter, Ordered {
+
+    public static final String START_NANOS_ATTRIBUTE = AuditTimingFilter.class.getName() + ".startNanos";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        exchange.getAttributes().put(START_NANOS_ATTRIBUTE, System.nanoTime());
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
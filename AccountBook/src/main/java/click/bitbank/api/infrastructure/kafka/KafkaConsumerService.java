@@ -0,0 +1,28 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import click.bitbank.api.infrastructure.cache.MemberExistCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaConsumerService {
+
+    private static final String MEMBER_DELETED_TOPIC = "member-deleted-topic";
+    private final MemberExistCache memberExistCache;
+
+    /**
+     * Kafka member-deleted-topic 메시지 받기
+     * 모든 인스턴스의 로컬 캐시를 무효화해야 하므로 인스턴스마다 고유한 Consumer Group 으로 구독
+     * @param memberId : 탈퇴한 회원 고유번호
+     */
+    @KafkaListener(topics = MEMBER_DELETED_TOPIC, groupId = "account-book-member-cache-#{T(java.util.UUID).randomUUID().toString()}")
+    public void consumeMemberDeletedTopic(String memberId) {
+
+        log.info(String.format("===== Consuming Member Deleted message >>> %s =====", memberId));
+        memberExistCache.invalidate(Integer.parseInt(memberId.trim()));
+    }
+}
@@ -0,0 +1,83 @@
+package click.bitbank.api.infrastructure.util;
+
+import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 날짜 파싱, 표기 유틸
+ * DateTimeFormatter 는 불변(스레드 안전)이므로 패턴마다 한 번만 만들어 공유한다.
+ */
+public final class DateTimeUtils {
+
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");   // 작성한 날짜
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");  // 검색 기간
+
+    private static final DateTimeFormatter KOREAN_DATE_WITH_YEAR_FORMATTER = DateTimeFormatter.ofPattern("yyyy년 MM월 dd일");
+
+    private static final DateTimeFormatter KOREAN_DATE_FORMATTER = DateTimeFormatter.ofPattern("MM월 dd일");
+
+    private static final Map<DayOfWeek, String> KOREAN_DAY_OF_WEEK = new EnumMap<>(DayOfWeek.class);   // 요일 표기 (월요일 ~ 일요일)
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            KOREAN_DAY_OF_WEEK.put(dayOfWeek, dayOfWeek.getDisplayName(TextStyle.FULL, Locale.KOREAN));
+        }
+    }
+
+    private DateTimeUtils() {
+    }
+
+    /**
+     * 작성한 날짜 파싱 (yyyy-MM-dd HH:mm:ss)
+     * @param dateTime : 작성한 날짜
+     * @return LocalDateTime : 파싱된 날짜
+     */
+    public static LocalDateTime parseDateTime(String dateTime) {
+        try {
+            return LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(ExceptionMessage.IsInvalidCreatedDate.getMessage());
+        }
+    }
+
+    /**
+     * 검색 기간 표기 (yyyy-MM-dd)
+     * @param date : 날짜
+     * @return String : yyyy-MM-dd
+     */
+    public static String formatDate(LocalDate date) {
+        return date.format(DATE_FORMATTER);
+    }
+
+    /**
+     * 가계부 날짜 표기 (올해가 아니면 년도 포함)
+     * @param date : 가계부 날짜
+     * @param requestTime : 요청 시각
+     * @return String : [yyyy년] MM월 dd일
+     */
+    public static String formatKoreanDate(LocalDate date, RequestTime requestTime) {
+        return date.isBefore(requestTime.getFirstDayOfYear())
+            ? date.format(KOREAN_DATE_WITH_YEAR_FORMATTER)
+            : date.format(KOREAN_DATE_FORMATTER);
+    }
+
+    /**
+     * 요일 표기
+     * @param date : 날짜
+     * @return String : O요일
+     */
+    public static String koreanDayOfWeek(LocalDate date) {
+        return KOREAN_DAY_OF_WEEK.get(date.getDayOfWeek());
+    }
+}
@@ -0,0 +1,37 @@
+package click.bitbank.api.infrastructure.util;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 시각
+ * 요청 처리 중 현재 시각이 필요한 곳(검색 기간, 날짜 표기)에서 LocalDateTime.now() 를 매번 호출하지 않고
+ * 요청 시작 시 한 번 구한 값을 함께 사용한다.
+ */
+@Getter
+@ToString
+public class RequestTime {
+
+    private final LocalDateTime now;    // 요청 시각
+
+    private final LocalDate today;  // 요청 날짜
+
+    private final LocalDate firstDayOfYear; // 올해 첫 날
+
+    private RequestTime(LocalDateTime now) {
+        this.now = now;
+        this.today = now.toLocalDate();
+        this.firstDayOfYear = LocalDate.of(now.getYear(), 1, 1);
+    }
+
+    public static RequestTime now() {
+        return new RequestTime(LocalDateTime.now());
+    }
+
+    public static RequestTime of(LocalDateTime now) {
+        return new RequestTime(now);
+    }
+}
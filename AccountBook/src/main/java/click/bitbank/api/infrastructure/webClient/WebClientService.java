@@ -1,9 +1,10 @@
 package click.bitbank.api.infrastructure.webClient;
 
+import click.bitbank.api.infrastructure.config.WebClientConfig;
 import click.bitbank.api.infrastructure.exception.status.BadRequestException;
 import click.bitbank.api.presentation.shared.response.CommonResponse;
-import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -12,8 +13,13 @@ import reactor.core.publisher.Mono;
 @Component
 public class WebClientService {
 
-    @Value("${msa.client.url.member}")
-    private String memberUrl;
+    private final WebClient memberClient;
+
+    public WebClientService(WebClient.Builder builder,
+                            @LoadBalanced WebClient.Builder loadBalancedBuilder,
+                            @Value("${msa.client.url.member}") String memberUrl) {
+        this.memberClient = WebClientConfig.create(memberUrl, builder, loadBalancedBuilder);
+    }
 
     /**
      * 회원 유효성 검증
@@ -22,8 +28,8 @@ public class WebClientService {
      */
     public Mono<CommonResponse> callMemberVerify(int memberId) {
 
-        return WebClient.create(memberUrl).get()
-            .uri("/member/exist-verify?memberId=" + memberId)
+        return memberClient.get()
+            .uri("/member/exist-verify?memberId={memberId}", memberId) // URI 템플릿 단위로 메트릭 집계
             .retrieve()
             .onStatus(HttpStatus::is5xxServerError,
                 response -> Mono.error(new RuntimeException("서버에 문제가 생겼습니다. 관리자에게 문의 바랍니다."))
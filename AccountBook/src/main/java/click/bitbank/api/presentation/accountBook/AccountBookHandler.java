@@ -1,15 +1,18 @@
 package click.bitbank.api.presentation.accountBook;
 
 import click.bitbank.api.application.accountBook.AccountBookApplicationService;
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookSearchResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -37,6 +40,20 @@ public class AccountBookHandler {
             .body(response, AccountBookWriteResponse.class);
     }
 
+    /**
+     * 가계부 일괄 작성
+     * @param request: ServerRequest (JSON 배열 또는 NDJSON)
+     * @return 가계부 일괄 작성 성공 response
+     */
+    public Mono<ServerResponse> accountBookBulkWrite(ServerRequest request) {
+        Mono<AccountBookBulkWriteResponse> response = accountBookApplicationService.accountBookBulkWrite(request)
+            .subscribeOn(Schedulers.boundedElastic());
+
+        return ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response, AccountBookBulkWriteResponse.class);
+    }
+
     /**
      * 가계부 목록 검색
      * @param request : 전달된 Request
@@ -52,6 +69,20 @@ public class AccountBookHandler {
                 .body(response, AccountBookSearchResponse.class);
     }
 
+    /**
+     * 가계부 목록 커서 기반 스트리밍 검색
+     * @param request : 전달된 Request (커서, 페이지 크기 포함)
+     * @return Mono<ServerResponse> : 날짜별 가계부 정보 (NDJSON)
+     */
+    public Mono<ServerResponse> accountBookSearchStream(ServerRequest request) {
+        Flux<AccountBookSearchByDailyDTO> response = accountBookApplicationService.accountBookSearchStream(request)
+            .subscribeOn(Schedulers.boundedElastic());
+
+        return ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(response, AccountBookSearchByDailyDTO.class);
+    }
+
     /**
      * 월 별 통계
      * @param request : 회원 정보 및 조회할 월
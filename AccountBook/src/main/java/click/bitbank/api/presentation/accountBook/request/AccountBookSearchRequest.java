@@ -8,8 +8,13 @@ import click.bitbank.api.domain.accountBook.model.transfer.TransferType;
 import click.bitbank.api.infrastructure.exception.status.BadRequestException;
 import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
 import click.bitbank.api.presentation.shared.request.RequestVerify;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Getter
@@ -19,6 +24,10 @@ import java.util.List;
 @AllArgsConstructor
 public class AccountBookSearchRequest implements RequestVerify {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;    // 기본 페이지 크기
+
+    public static final int MAX_PAGE_SIZE = 200;   // 최대 페이지 크기
+
     Integer memberId;
 
     String searchKeyword;   // 검색어
@@ -37,10 +46,59 @@ public class AccountBookSearchRequest implements RequestVerify {
 
     List<TransferType> transferType;  // 이체 유형
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime cursorDate;   // 커서 : 이전 페이지 마지막 내역 날짜
+
+    AccountBookType cursorAccountBookType;  // 커서 : 이전 페이지 마지막 내역 유형
+
+    Integer cursorId;   // 커서 : 이전 페이지 마지막 내역 번호
+
+    Integer pageSize;   // 페이지 크기
+
     public String getSearchKeywordAddPercent() {
         return '%' + searchKeyword + '%';
     }
 
+    /**
+     * 최대 크기로 제한된 페이지 크기
+     *
+     * @return int : 페이지 크기
+     */
+    @JsonIgnore
+    public int getLimitedPageSize() {
+        if (pageSize == null || pageSize < 1) return DEFAULT_PAGE_SIZE;
+
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 검색 시작 일시 (검색 시작일 00:00)
+     *
+     * @return LocalDateTime : 검색 시작 일시 (포함)
+     */
+    @JsonIgnore
+    public LocalDateTime getSearchStartDateTime() {
+        return parseSearchDate(searchStartDate).atStartOfDay();
+    }
+
+    /**
+     * 검색 종료 일시 (검색 종료일 다음날 00:00)
+     *
+     * @return LocalDateTime : 검색 종료 일시 (미포함)
+     */
+    @JsonIgnore
+    public LocalDateTime getSearchEndDateTime() {
+        return parseSearchDate(searchEndDate).plusDays(1).atStartOfDay();
+    }
+
+    private LocalDate parseSearchDate(String searchDate) {
+        try {
+            return LocalDate.parse(searchDate);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(ExceptionMessage.IsInvalidSearchDate.getMessage());
+        }
+    }
+
     public void setSearchStartDate(String searchStartDate) {
         this.searchStartDate = searchStartDate;
     }
@@ -53,5 +111,6 @@ public class AccountBookSearchRequest implements RequestVerify {
     public void verify() {
         if (memberId == null) throw new BadRequestException(ExceptionMessage.IsRequiredMemberId.getMessage());
         if (searchStartDate != null && searchEndDate != null && searchDateType == null) throw new BadRequestException(ExceptionMessage.IsRequiredSearchDateType.getMessage());
+        if (cursorDate != null && (cursorAccountBookType == null || cursorId == null)) throw new BadRequestException(ExceptionMessage.IsInvalidCursor.getMessage());
     }
 }
@@ -42,9 +42,19 @@ public class AccountBookWriteRequest implements RequestVerify {
         verifyAccountBookType();
         if (StringUtils.isBlank(accountName)) throw new BadRequestException(ExceptionMessage.IsRequiredAccountName.getMessage());
         if (price.compareTo(new BigInteger("0")) == -1) throw new BadRequestException(ExceptionMessage.IsRequiredPositiveNumber.getMessage());
+        if (price.bitLength() >= Long.SIZE) throw new BadRequestException(ExceptionMessage.IsInvalidPrice.getMessage());   // long 범위 초과
         if (createdDate == null) throw new BadRequestException(ExceptionMessage.IsRequiredCreatedDate.getMessage());
     }
 
+    /**
+     * 금액 (원)
+     * 요청 본문은 BigInteger 로 받고, 유효성 검사 이후 저장, 집계는 long 으로 처리
+     * @return long : 금액
+     */
+    public long priceAsLong() {
+        return price.longValueExact();
+    }
+
     /**
      * AccountBookType 유효성검사
      * I,P,T,null 인 경우 처리
@@ -0,0 +1,19 @@
+-- 가계부 작성 Idempotency-Key 저장 테이블
+-- 같은 회원, 같은 키로 재요청되면 가계부를 다시 작성하지 않고 처음 작성된 가계부 번호로 응답한다.
+CREATE TABLE accountBookIdempotency (
+    idempotencyId BIGINT NOT NULL AUTO_INCREMENT,
+    memberId INT NOT NULL,
+    idempotencyKey VARCHAR(64) NOT NULL,
+    requestHash BINARY(32) NOT NULL,   -- 요청 본문 SHA-256
+    accountBookId INT NULL,
+    regDate DATETIME NULL,
+    modDate DATETIME NULL,
+    PRIMARY KEY (idempotencyId),
+    UNIQUE KEY uk_account_book_idempotency (memberId, idempotencyKey),
+    KEY idx_account_book_idempotency_reg_date (regDate)
+);
+
+-- 재시도 기간이 지난 키 정리 (1일 보관)
+CREATE EVENT IF NOT EXISTS ev_account_book_idempotency_cleanup
+    ON SCHEDULE EVERY 1 HOUR
+    DO DELETE FROM accountBookIdempotency WHERE regDate < NOW() - INTERVAL 1 DAY;
@@ -0,0 +1,5 @@
+-- 가계부 조회용 복합 인덱스 (memberId + 날짜)
+-- 기간 조건은 반열린 구간(>= 시작, < 종료)으로 조회하므로 날짜 컬럼을 가공하지 않고 인덱스 범위 검색을 사용한다.
+ALTER TABLE income ADD INDEX idx_income_member_date (memberId, incomeDate);
+ALTER TABLE expenditure ADD INDEX idx_expenditure_member_date (memberId, expenditureDate);
+ALTER TABLE transfer ADD INDEX idx_transfer_member_date (memberId, transferDate);
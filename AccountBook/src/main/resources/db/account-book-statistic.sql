@@ -0,0 +1,34 @@
+-- 가계부 통계 집계 테이블 (회원, 월, 일자, 카테고리 별 합계)
+-- 가계부 작성 시 누적되며, 월 별 통계는 이 테이블만 조회한다.
+CREATE TABLE accountBookStatistic (
+    statisticId INT NOT NULL AUTO_INCREMENT,
+    memberId INT NOT NULL,
+    accountBookType CHAR(1) NOT NULL,
+    statisticMonth CHAR(7) NOT NULL,
+    statisticDate DATE NOT NULL,
+    category VARCHAR(10) NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    regDate DATETIME NULL,
+    modDate DATETIME NULL,
+    PRIMARY KEY (statisticId),
+    UNIQUE KEY uk_account_book_statistic (memberId, accountBookType, statisticMonth, statisticDate, category)
+);
+
+-- 기존 가계부 내역 집계 (최초 1회)
+INSERT INTO accountBookStatistic (memberId, accountBookType, statisticMonth, statisticDate, category, total, regDate, modDate)
+SELECT memberId, 'I', DATE_FORMAT(statisticDate, '%Y-%m'), statisticDate, category, total, NOW(), NOW()
+FROM (
+    SELECT memberId, DATE(incomeDate) AS statisticDate, incomeType AS category, SUM(incomeMoney) AS total
+    FROM income
+    GROUP BY memberId, DATE(incomeDate), incomeType
+) incomeStatistic
+ON DUPLICATE KEY UPDATE total = VALUES(total);
+
+INSERT INTO accountBookStatistic (memberId, accountBookType, statisticMonth, statisticDate, category, total, regDate, modDate)
+SELECT memberId, 'P', DATE_FORMAT(statisticDate, '%Y-%m'), statisticDate, category, total, NOW(), NOW()
+FROM (
+    SELECT memberId, DATE(expenditureDate) AS statisticDate, expenditureType AS category, SUM(expenditureMoney) AS total
+    FROM expenditure
+    GROUP BY memberId, DATE(expenditureDate), expenditureType
+) expenditureStatistic
+ON DUPLICATE KEY UPDATE total = VALUES(total);
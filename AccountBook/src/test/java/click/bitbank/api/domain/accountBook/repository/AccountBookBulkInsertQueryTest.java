@@ -0,0 +1,47 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountBookBulkInsertQueryTest {
+
+    /**
+     * 같은 유형의 내역을 다중 행 INSERT 한 문장으로 구성
+     */
+    @Test
+    void multiRowInsert() {
+        // given
+        LocalDateTime date = LocalDateTime.of(2022, 5, 1, 9, 0);
+
+        // when
+        AccountBookBulkInsertQuery query = AccountBookBulkInsertQuery.of(AccountBookType.P, Arrays.asList(
+            new AccountBookBulkInsertQuery.Row("커피", date, 4500L, "E", 1),
+            new AccountBookBulkInsertQuery.Row("택시", date, 12000L, "T", 1)
+        ));
+
+        // then
+        assertAll(() -> {
+            assertEquals("INSERT INTO expenditure (expenditureInfo, expenditureDate, expenditureMoney, expenditureType, memberId) " +
+                "VALUES (:info0, :date0, :money0, :type0, :memberId0), (:info1, :date1, :money1, :type1, :memberId1)", query.getSql());
+            assertEquals("expenditureId", query.getIdColumn());
+            assertEquals(2, query.getSize());
+            assertEquals(10, query.getBindings().size());
+            assertEquals("택시", query.getBindings().get("info1"));
+            assertEquals(4500L, query.getBindings().get("money0"));
+        });
+    }
+
+    /**
+     * 저장할 내역이 없는 경우
+     */
+    @Test
+    void emptyRows() {
+        assertThrows(IllegalArgumentException.class, () -> AccountBookBulkInsertQuery.of(AccountBookType.I, Collections.emptyList()));
+    }
+}
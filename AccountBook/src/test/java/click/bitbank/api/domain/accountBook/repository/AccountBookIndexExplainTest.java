@@ -0,0 +1,200 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.SearchDateType;
+import click.bitbank.api.domain.accountBook.model.expenditure.ExpenditureType;
+import click.bitbank.api.domain.accountBook.model.income.IncomeType;
+import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.repository.Query;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 가계부 조회 쿼리 인덱스 사용 회귀 테스트
+ * 실제 MySQL 에서 EXPLAIN 을 실행해 (memberId, 날짜) 복합 인덱스 및 통계 집계 키를 타지 않으면 실패한다.
+ * Docker 가 없는 환경에서는 테스트를 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AccountBookIndexExplainTest {
+
+    private static final Pattern NAMED_PARAMETER = Pattern.compile(":(\\w+)");
+
+    private static final int MEMBER_COUNT = 50;  // 테스트 회원 수
+    private static final int ROW_COUNT_PER_MEMBER = 60;  // 회원 별 가계부 건수 (약 3년치)
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.28");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        connection = DriverManager.getConnection(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+
+        executeScript("db/account-book-schema.sql");    // 테스트용 테이블
+        executeScript("db/account-book-index.sql");     // 배포용 인덱스 DDL
+
+        insertSampleData("income");
+        insertSampleData("expenditure");
+        insertSampleData("transfer");
+
+        executeScript("db/account-book-statistic.sql"); // 통계 집계 테이블 생성 및 기존 내역 집계
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE income, expenditure, transfer, accountBookStatistic");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) connection.close();
+    }
+
+    /**
+     * 가계부 통합 검색 쿼리 인덱스 사용 여부
+     */
+    @Test
+    void searchQueryUsesMemberDateIndex() throws SQLException {
+        // given
+        AccountBookSearchRequest request = AccountBookSearchRequest.builder()
+            .memberId(1)
+            .searchKeyword("내역")
+            .searchDateType(SearchDateType.S)
+            .searchStartDate("2021-05-01")
+            .searchEndDate("2021-05-31")
+            .incomeType(Collections.singletonList(IncomeType.S))
+            .expenditureType(Arrays.asList(ExpenditureType.E, ExpenditureType.C))
+            .build();
+        AccountBookSearchQuery query = AccountBookSearchQuery.of(request);
+
+        // when
+        Map<String, String> keyByTable = explain(query.getSql(), query.getBindings());
+
+        // then
+        assertAll(() -> {
+            assertEquals("idx_income_member_date", keyByTable.get("income"));
+            assertEquals("idx_expenditure_member_date", keyByTable.get("expenditure"));
+            assertEquals("idx_transfer_member_date", keyByTable.get("transfer"));
+        });
+    }
+
+    /**
+     * 월 별 통계 집계 조회 쿼리 인덱스 사용 여부
+     */
+    @Test
+    void statisticQueryUsesStatisticUniqueKey() throws Exception {
+        // given
+        Map<String, Object> bindings = new HashMap<>();
+        bindings.put("memberId", 1);
+        bindings.put("accountBookType", "P");
+        bindings.put("statisticMonth", "2021-05");
+
+        // when
+        Method method = AccountBookStatisticRepository.class.getMethod("findMonthlyStatistic", int.class, String.class, String.class);
+        Map<String, String> keyByTable = explain(method.getAnnotation(Query.class).value(), bindings);
+
+        // then
+        assertEquals("uk_account_book_statistic", keyByTable.get("accountBookStatistic"));
+    }
+
+    /**
+     * EXPLAIN 실행 후 테이블 별 사용 인덱스 반환
+     */
+    private static Map<String, String> explain(String namedSql, Map<String, Object> bindings) throws SQLException {
+        List<Object> parameters = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER.matcher(namedSql);
+        StringBuffer sql = new StringBuffer("EXPLAIN ");
+
+        // 이름 기반 파라미터 -> JDBC 파라미터 변환 (컬렉션은 개수만큼 확장)
+        while (matcher.find()) {
+            Object value = bindings.get(matcher.group(1));
+            if (value instanceof Collection) {
+                Collection<?> values = (Collection<?>) value;
+                matcher.appendReplacement(sql, String.join(", ", Collections.nCopies(values.size(), "?")));
+                parameters.addAll(values);
+            } else {
+                matcher.appendReplacement(sql, "?");
+                parameters.add(value);
+            }
+        }
+        matcher.appendTail(sql);
+
+        Map<String, String> keyByTable = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    keyByTable.put(resultSet.getString("table"), resultSet.getString("key"));
+                }
+            }
+        }
+        return keyByTable;
+    }
+
+    /**
+     * 회원 별 가계부 데이터 생성 (2020-01 ~ 약 3년치, 보름 간격)
+     */
+    private static void insertSampleData(String table) throws SQLException {
+        String sql = String.format("INSERT INTO %1$s (%1$sInfo, %1$sDate, %1$sMoney, %1$sType, memberId) VALUES (?, ?, ?, ?, ?)", table);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+                for (int i = 0; i < ROW_COUNT_PER_MEMBER; i++) {
+                    statement.setString(1, "내역 " + i);
+                    statement.setObject(2, LocalDateTime.of(2020, 1, 1, 9, 0).plusDays(i * 15L));
+                    statement.setLong(3, 10000L + i);
+                    statement.setString(4, i % 2 == 0 ? "S" : "E");
+                    statement.setInt(5, memberId);
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * classpath 의 SQL 스크립트 실행
+     */
+    private static void executeScript(String path) throws IOException, SQLException {
+        String script = new String(new ClassPathResource(path).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : script.split(";")) {
+                String trimmed = sql.lines()
+                    .filter(line -> !line.trim().startsWith("--"))
+                    .reduce("", (a, b) -> a + "\n" + b)
+                    .trim();
+                if (!trimmed.isEmpty()) statement.execute(trimmed);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package click.bitbank.api.domain.accountBook.repository;
+
+import click.bitbank.api.domain.accountBook.SearchDateType;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.domain.accountBook.model.expenditure.ExpenditureType;
+import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountBookSearchQueryTest {
+
+    /**
+     * 가계부 유형 미지정 시 수입, 지출, 이체 통합 조회
+     */
+    @Test
+    void searchAllAccountBookType() {
+        // given
+        AccountBookSearchRequest request = AccountBookSearchRequest.builder()
+            .memberId(1)
+            .build();
+
+        // when
+        AccountBookSearchQuery query = AccountBookSearchQuery.of(request);
+
+        // then
+        assertAll(() -> {
+            assertEquals(2, query.getSql().split(" UNION ALL ").length - 1);
+            assertTrue(query.getSql().endsWith("ORDER BY accountBookDate DESC, accountBookType DESC, accountBookId DESC"));
+            assertEquals(1, query.getBindings().get("incomeMemberId"));
+            assertEquals(1, query.getBindings().get("expenditureMemberId"));
+            assertEquals(1, query.getBindings().get("transferMemberId"));
+            assertFalse(query.getSql().contains("LIKE"));
+        });
+    }
+
+    /**
+     * 가계부 유형, 세부 유형, 검색어, 기간 조건 조립
+     */
+    @Test
+    void searchExpenditureWithCondition() {
+        // given
+        AccountBookSearchRequest request = AccountBookSearchRequest.builder()
+            .memberId(1)
+            .accountBookType(AccountBookType.P)
+            .expenditureType(Arrays.asList(ExpenditureType.E, ExpenditureType.C))
+            .searchKeyword("커피")
+            .searchDateType(SearchDateType.S)
+            .searchStartDate("2022-05-01")
+            .searchEndDate("2022-05-31")
+            .build();
+
+        // when
+        AccountBookSearchQuery query = AccountBookSearchQuery.of(request);
+
+        // then
+        assertAll(() -> {
+            assertFalse(query.getSql().contains("UNION ALL"));
+            assertTrue(query.getSql().contains("FROM expenditure"));
+            assertEquals(Arrays.asList("E", "C"), query.getBindings().get("expenditureType"));
+            assertEquals("%커피%", query.getBindings().get("expenditureSearchKeyword"));
+            assertEquals(LocalDateTime.of(2022, 5, 1, 0, 0), query.getBindings().get("expenditureStartDate"));
+            assertEquals(LocalDateTime.of(2022, 6, 1, 0, 0), query.getBindings().get("expenditureEndDate"));
+            assertTrue(query.getSql().contains("expenditureDate >= :expenditureStartDate AND expenditureDate < :expenditureEndDate"));
+            assertFalse(query.getSql().contains("DATE("));
+        });
+    }
+
+    /**
+     * 커서 기반 페이지 조회 조건 조립
+     */
+    @Test
+    void searchPageAfterCursor() {
+        // given
+        LocalDateTime cursorDate = LocalDateTime.of(2022, 5, 10, 12, 0);
+        AccountBookSearchRequest request = AccountBookSearchRequest.builder()
+            .memberId(1)
+            .cursorDate(cursorDate)
+            .cursorAccountBookType(AccountBookType.P)
+            .cursorId(30)
+            .pageSize(1000)
+            .build();
+
+        // when
+        AccountBookSearchQuery query = AccountBookSearchQuery.ofPage(request);
+
+        // then
+        assertAll(() -> {
+            assertTrue(query.getSql().contains("incomeDate <= :incomeCursorDate"));  // 수입(I) < 지출(P) : 같은 날짜 포함
+            assertTrue(query.getSql().contains("(expenditureDate < :expenditureCursorDate OR (expenditureDate = :expenditureCursorDate AND expenditureId < :expenditureCursorId))"));
+            assertTrue(query.getSql().contains("transferDate < :transferCursorDate"));  // 이체(T) > 지출(P) : 같은 날짜 제외
+            assertEquals(30, query.getBindings().get("expenditureCursorId"));
+            assertFalse(query.getBindings().containsKey("incomeCursorId"));
+            assertTrue(query.getSql().endsWith("LIMIT " + AccountBookSearchRequest.MAX_PAGE_SIZE));
+        });
+    }
+
+    /**
+     * 페이지 마지막 내역과 같은 날짜의 남은 내역 (커서 이후, 같은 날 00:00 이후, 최대 페이지 크기 제한)
+     */
+    @Test
+    void searchRestOfDay() {
+        // given
+        LocalDateTime cursorDate = LocalDateTime.of(2022, 5, 2, 9, 30);
+        AccountBookSearchRequest request = AccountBookSearchRequest.builder()
+            .memberId(1)
+            .build();
+
+        // when
+        AccountBookSearchQuery query = AccountBookSearchQuery.ofRestOfDay(request, cursorDate, AccountBookType.P, 30);
+
+        // then
+        assertAll(() -> {
+            assertTrue(query.getSql().contains("(expenditureDate < :expenditureCursorDate OR (expenditureDate = :expenditureCursorDate AND expenditureId < :expenditureCursorId))"));
+            assertTrue(query.getSql().contains("expenditureDate >= :expenditureDayStart"));
+            assertEquals(LocalDateTime.of(2022, 5, 2, 0, 0), query.getBindings().get("incomeDayStart"));
+            assertEquals(cursorDate, query.getBindings().get("transferCursorDate"));
+            assertEquals(30, query.getBindings().get("expenditureCursorId"));
+            assertTrue(query.getSql().contains("ORDER BY expenditureDate DESC, expenditureId DESC LIMIT " + AccountBookSearchRequest.MAX_PAGE_SIZE + ")"));
+            assertTrue(query.getSql().endsWith("LIMIT " + AccountBookSearchRequest.MAX_PAGE_SIZE));
+        });
+    }
+}
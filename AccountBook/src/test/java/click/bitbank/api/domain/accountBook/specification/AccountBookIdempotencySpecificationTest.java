@@ -0,0 +1,208 @@
+package click.bitbank.api.domain.accountBook.specification;
+
+import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.domain.accountBook.model.idempotency.AccountBookIdempotency;
+import click.bitbank.api.domain.accountBook.repository.AccountBookIdempotencyRepository;
+import click.bitbank.api.infrastructure.cache.IdempotencyCache;
+import click.bitbank.api.infrastructure.exception.status.AlreadyDataException;
+import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static click.bitbank.api.infrastructure.factory.AccountBookTestFactory.accountBookWriteRequest;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AccountBookIdempotencySpecificationTest {
+
+    private final AccountBookIdempotencyRepository accountBookIdempotencyRepository = mock(AccountBookIdempotencyRepository.class);
+
+    private final IdempotencyCache idempotencyCache = new IdempotencyCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10));
+
+    private final AccountBookIdempotencySpecification accountBookIdempotencySpecification =
+        new AccountBookIdempotencySpecification(accountBookIdempotencyRepository, idempotencyCache);
+
+    /**
+     * 처음 요청은 키 선점 후 작성하고 가계부 번호 기록
+     */
+    @Test
+    void writeWhenReserved() {
+        // given
+        AccountBookWriteRequest request = accountBookWriteRequest();
+        AtomicInteger writeCount = new AtomicInteger();
+        given(accountBookIdempotencyRepository.reserve(anyInt(), anyString(), any(byte[].class))).willReturn(Mono.just(1));
+        given(accountBookIdempotencyRepository.complete(1, "key-1", 7)).willReturn(Mono.just(1));
+
+        // when
+        Mono<AccountBookWriteResponse> reserved = accountBookIdempotencySpecification.reserveOrReplay("key-1", request);
+        Mono<AccountBookWriteResponse> response = accountBookIdempotencySpecification.writeAndComplete("key-1", request, () -> {
+            writeCount.incrementAndGet();
+            return Mono.just(AccountBookWriteResponse.builder().accountBookId(7).build());
+        });
+
+        // then
+        StepVerifier.create(reserved).verifyComplete();    // 선점하면 empty
+        StepVerifier.create(response)
+            .assertNext(writeResponse -> assertEquals(7, writeResponse.getAccountBookId()))
+            .verifyComplete();
+        verify(accountBookIdempotencyRepository).complete(1, "key-1", 7);
+        assertAll(() -> {
+            assertEquals(1, writeCount.get());
+            assertEquals(7, idempotencyCache.getIfPresent(1, "key-1").getAccountBookId()); // 트랜잭션 밖에서는 바로 캐시
+        });
+    }
+
+    /**
+     * 이미 선점된 키는 작성하지 않고 처음 작성된 가계부 번호로 응답
+     */
+    @Test
+    void replayWhenAlreadyReserved() {
+        // given
+        AccountBookWriteRequest request = accountBookWriteRequest();
+        given(accountBookIdempotencyRepository.reserve(anyInt(), anyString(), any(byte[].class))).willReturn(Mono.just(0));
+        given(accountBookIdempotencyRepository.findByKey(1, "key-2")).willReturn(Mono.just(idempotency("key-2", request, 9)));
+
+        // when
+        Mono<AccountBookWriteResponse> response = accountBookIdempotencySpecification.reserveOrReplay("key-2", request);
+
+        // then
+        StepVerifier.create(response)
+            .assertNext(writeResponse -> assertEquals(9, writeResponse.getAccountBookId()))
+            .verifyComplete();
+        verify(accountBookIdempotencyRepository, never()).complete(anyInt(), anyString(), anyInt());
+
+        StepVerifier.create(accountBookIdempotencySpecification.findCompleted("key-2", request))
+            .assertNext(writeResponse -> assertEquals(9, writeResponse.getAccountBookId()))
+            .verifyComplete();
+    }
+
+    /**
+     * 같은 키의 요청이 작성 중이면 기다리지 않고 처리 중 오류
+     */
+    @Test
+    void rejectWhileProcessing() {
+        // given
+        AccountBookWriteRequest request = accountBookWriteRequest();
+        given(accountBookIdempotencyRepository.reserve(anyInt(), anyString(), any(byte[].class))).willReturn(Mono.just(0));
+        given(accountBookIdempotencyRepository.findByKey(1, "key-4")).willReturn(Mono.just(AccountBookIdempotency.builder()
+            .memberId(1)
+            .idempotencyKey("key-4")
+            .requestHash(AccountBookIdempotencySpecification.requestHash(request))
+            .build()));
+
+        // when, then
+        StepVerifier.create(accountBookIdempotencySpecification.reserveOrReplay("key-4", request))
+            .expectErrorMatches(throwable -> throwable instanceof AlreadyDataException
+                && ExceptionMessage.IsProcessingIdempotencyKey.getMessage().equals(((AlreadyDataException) throwable).getReason()))
+            .verify();
+        assertNull(idempotencyCache.getIfPresent(1, "key-4"));
+    }
+
+    /**
+     * 작성에 실패한 키 선점 취소 (취소 실패는 원래 오류를 가리지 않음)
+     */
+    @Test
+    void release() {
+        // given
+        given(accountBookIdempotencyRepository.release(1, "key-5")).willReturn(Mono.error(new IllegalStateException("DB 오류")));
+
+        // when, then
+        StepVerifier.create(accountBookIdempotencySpecification.release("key-5", 1)).verifyComplete();
+        verify(accountBookIdempotencyRepository).release(1, "key-5");
+    }
+
+    /**
+     * 같은 키로 다른 요청을 보낸 경우
+     */
+    @Test
+    void rejectDifferentRequestWithSameKey() {
+        // given
+        AccountBookWriteRequest request = accountBookWriteRequest();
+        idempotencyCache.put(idempotency("key-3", request, 11));
+
+        AccountBookWriteRequest otherRequest = AccountBookWriteRequest.builder()
+            .memberId(request.getMemberId())
+            .accountBookType(request.getAccountBookType())
+            .incomeType(request.getIncomeType())
+            .accountName(request.getAccountName())
+            .price(request.getPrice().add(BigInteger.ONE))
+            .createdDate(request.getCreatedDate())
+            .build();
+
+        // when, then
+        StepVerifier.create(accountBookIdempotencySpecification.findCompleted("key-3", otherRequest))
+            .expectError(AlreadyDataException.class)
+            .verify();
+    }
+
+    /**
+     * 요청 본문 SHA-256 (같은 요청은 같은 값, 필드 경계가 달라지면 다른 값)
+     */
+    @Test
+    void requestHash() {
+        // given
+        AccountBookWriteRequest request = accountBookWriteRequest();
+        AccountBookWriteRequest sameRequest = AccountBookWriteRequest.builder()
+            .memberId(request.getMemberId())
+            .accountBookType(request.getAccountBookType())
+            .incomeType(request.getIncomeType())
+            .accountName(request.getAccountName())
+            .price(request.getPrice())
+            .createdDate(request.getCreatedDate())
+            .build();
+        AccountBookWriteRequest shiftedRequest = AccountBookWriteRequest.builder()
+            .memberId(request.getMemberId())
+            .accountBookType(request.getAccountBookType())
+            .incomeType(request.getIncomeType())
+            .accountName(request.getAccountName() + request.getPrice())
+            .createdDate(request.getCreatedDate())
+            .build();
+
+        // when
+        byte[] requestHash = AccountBookIdempotencySpecification.requestHash(request);
+
+        // then
+        assertAll(() -> {
+            assertEquals(32, requestHash.length);
+            assertArrayEquals(requestHash, AccountBookIdempotencySpecification.requestHash(sameRequest));
+            assertFalse(Arrays.equals(requestHash, AccountBookIdempotencySpecification.requestHash(shiftedRequest)));
+        });
+    }
+
+    /**
+     * 요청 키 형식 검사
+     */
+    @Test
+    void idempotencyKeyVerify() {
+        assertAll(() -> {
+            assertDoesNotThrow(() -> accountBookIdempotencySpecification.idempotencyKeyVerify("3f2b8c1e-6a4d_4c8e"));
+            assertThrows(BadRequestException.class, () -> accountBookIdempotencySpecification.idempotencyKeyVerify(""));
+            assertThrows(BadRequestException.class, () -> accountBookIdempotencySpecification.idempotencyKeyVerify("키"));
+            assertThrows(BadRequestException.class, () -> accountBookIdempotencySpecification.idempotencyKeyVerify("a".repeat(65)));
+        });
+    }
+
+    private static AccountBookIdempotency idempotency(String idempotencyKey, AccountBookWriteRequest request, int accountBookId) {
+        return AccountBookIdempotency.builder()
+            .memberId(request.getMemberId())
+            .idempotencyKey(idempotencyKey)
+            .requestHash(AccountBookIdempotencySpecification.requestHash(request))
+            .accountBookId(accountBookId)
+            .build();
+    }
+}
@@ -0,0 +1,71 @@
+package click.bitbank.api.domain.service;
+
+import click.bitbank.api.application.response.AccountBookSearchResponse;
+import click.bitbank.api.application.response.DTO.AccountBookByCategoryDTO;
+import click.bitbank.api.domain.accountBook.model.AccountBookType;
+import click.bitbank.api.infrastructure.util.RequestTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountBookSearchServiceTest {
+
+    private final AccountBookSearchService accountBookSearchService = new AccountBookSearchService(null, null);
+
+    private final LocalDateTime date = LocalDateTime.of(2022, 5, 2, 9, 0);
+
+    private final RequestTime requestTime = RequestTime.of(date);
+
+    /**
+     * 날짜별 합계, 총 수입, 지출 (지출, 이체는 음수로 조회됨)
+     */
+    @Test
+    void makeAccountBookSearchResponse() {
+        // given
+        List<AccountBookByCategoryDTO> accountBooks = List.of(
+            accountBook(3, date, AccountBookType.P, -5000),
+            accountBook(2, date.minusHours(1), AccountBookType.I, 30000),
+            accountBook(1, date.minusDays(1), AccountBookType.T, -12000)
+        );
+
+        // when
+        AccountBookSearchResponse response = accountBookSearchService.makeAccountBookSearchResponse(accountBooks, requestTime);
+
+        // then
+        assertAll(() -> {
+            assertEquals(2, response.getAccountBookSearchByDailyDTOList().size());
+            assertEquals(25000, response.getAccountBookSearchByDailyDTOList().get(0).getAccountBookTotalByDaily());
+            assertEquals(-12000, response.getAccountBookSearchByDailyDTOList().get(1).getAccountBookTotalByDaily());
+            assertEquals(30000, response.getIncomeTotal());
+            assertEquals(17000, response.getExpenditureTotal());
+        });
+    }
+
+    /**
+     * 합계가 long 범위를 넘으면 잘못된 값 대신 ArithmeticException
+     */
+    @Test
+    void overflow() {
+        // given
+        List<AccountBookByCategoryDTO> accountBooks = List.of(
+            accountBook(2, date, AccountBookType.I, Long.MAX_VALUE),
+            accountBook(1, date.minusHours(1), AccountBookType.I, 1)
+        );
+
+        // when, then
+        assertThrows(ArithmeticException.class, () -> accountBookSearchService.makeAccountBookSearchResponse(accountBooks, requestTime));
+    }
+
+    private static AccountBookByCategoryDTO accountBook(int accountBookId, LocalDateTime date, AccountBookType accountBookType, long money) {
+        return AccountBookByCategoryDTO.builder()
+            .accountBookId(accountBookId)
+            .date(date)
+            .info("거래처")
+            .money(money)
+            .accountBookType(accountBookType)
+            .build();
+    }
+}
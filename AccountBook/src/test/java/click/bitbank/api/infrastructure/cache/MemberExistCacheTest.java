@@ -0,0 +1,100 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.presentation.shared.response.CommonResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberExistCacheTest {
+
+    private MemberExistCache memberExistCache;
+
+    @BeforeEach
+    void setUp() {
+        memberExistCache = new MemberExistCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+    }
+
+    /**
+     * 같은 회원에 대한 동시 조회는 한 번만 호출
+     */
+    @Test
+    void coalesceConcurrentLookup() {
+        // given
+        AtomicInteger callCount = new AtomicInteger();
+        Sinks.One<CommonResponse> sink = Sinks.one();
+
+        // when
+        Mono<CommonResponse> first = memberExistCache.get(1, memberId -> {
+            callCount.incrementAndGet();
+            return sink.asMono();
+        });
+        Mono<CommonResponse> second = memberExistCache.get(1, memberId -> {
+            callCount.incrementAndGet();
+            return sink.asMono();
+        });
+        sink.tryEmitValue(new CommonResponse(200, "success"));
+
+        // then
+        StepVerifier.create(Mono.zip(first, second))
+            .assertNext(tuple -> assertEquals(200, tuple.getT2().getRt()))
+            .verifyComplete();
+        assertEquals(1, callCount.get());
+    }
+
+    /**
+     * 존재하지 않는 회원도 캐시하고, 무효화 후에는 다시 호출
+     */
+    @Test
+    void cacheNotFoundAndInvalidate() {
+        // given
+        AtomicInteger callCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            memberExistCache.get(2, memberId -> {
+                callCount.incrementAndGet();
+                return Mono.just(new CommonResponse(404, "회원 정보를 찾을 수 없습니다."));
+            }).block();
+        }
+        memberExistCache.invalidate(2);
+        memberExistCache.get(2, memberId -> {
+            callCount.incrementAndGet();
+            return Mono.just(new CommonResponse(200, "success"));
+        }).block();
+
+        // then
+        assertEquals(2, callCount.get());
+    }
+
+    /**
+     * 호출 실패는 캐시하지 않음
+     */
+    @Test
+    void notCacheFailure() {
+        // given
+        AtomicInteger callCount = new AtomicInteger();
+
+        // when
+        StepVerifier.create(memberExistCache.get(3, memberId -> {
+                callCount.incrementAndGet();
+                return Mono.error(new RuntimeException("서버에 문제가 생겼습니다."));
+            }))
+            .expectError(RuntimeException.class)
+            .verify();
+        memberExistCache.get(3, memberId -> {
+            callCount.incrementAndGet();
+            return Mono.just(new CommonResponse(200, "success"));
+        }).block();
+
+        // then
+        assertEquals(2, callCount.get());
+    }
+}
@@ -1,17 +1,24 @@
 package click.bitbank.api.infrastructure.factory;
 
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
+import click.bitbank.api.application.response.DTO.AccountBookInfoDTO;
+import click.bitbank.api.application.response.DTO.AccountBookSearchByDailyDTO;
 import click.bitbank.api.application.response.DTO.DonutGraphDTO;
 import click.bitbank.api.application.response.DTO.WeeklyTotalDTO;
+import click.bitbank.api.domain.accountBook.SearchDateType;
 import click.bitbank.api.domain.accountBook.model.AccountBookType;
 import click.bitbank.api.domain.accountBook.model.income.IncomeType;
+import click.bitbank.api.presentation.accountBook.request.AccountBookSearchRequest;
 import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigInteger;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Date;
 
@@ -29,6 +36,19 @@ public class AccountBookTestFactory {
         );
     }
 
+    /**
+     * 가계부 일괄 작성하기 Response 구성
+     */
+    public static Mono<AccountBookBulkWriteResponse> accountBookBulkWriteResponse() {
+
+        return Mono.just(
+            AccountBookBulkWriteResponse.builder()
+                .count(2)
+                .accountBookIds(Arrays.asList(10, 11))
+                .build()
+        );
+    }
+
     /**
      * 가계부 작성하기 Request 구성
      */
@@ -46,6 +66,51 @@ public class AccountBookTestFactory {
             .build();
     }
 
+    /**
+     * 가계부 목록 검색 Request 구성
+     */
+    public static AccountBookSearchRequest accountBookSearchRequest() {
+
+        return AccountBookSearchRequest.builder()
+            .memberId(1)
+            .searchDateType(SearchDateType.A)
+            .pageSize(2)
+            .build();
+    }
+
+    /**
+     * 가계부 목록 스트리밍 검색 Response 구성
+     */
+    public static Flux<AccountBookSearchByDailyDTO> accountBookSearchStreamResponse() {
+        LocalDateTime date = LocalDateTime.of(2022, 5, 2, 9, 0);
+
+        AccountBookSearchByDailyDTO firstDay = new AccountBookSearchByDailyDTO(date);
+        firstDay.setAccountBookTotalByDaily(-5000);
+        firstDay.setAccountBookInfoDTOList(
+            AccountBookInfoDTO.builder()
+                .accountBookId(2)
+                .accountBookDate(date)
+                .accountBookType(AccountBookType.P)
+                .accountBookInfo("커피")
+                .accountMoney(-5000)
+                .build()
+        );
+
+        AccountBookSearchByDailyDTO secondDay = new AccountBookSearchByDailyDTO(date.minusDays(1));
+        secondDay.setAccountBookTotalByDaily(10000);
+        secondDay.setAccountBookInfoDTOList(
+            AccountBookInfoDTO.builder()
+                .accountBookId(1)
+                .accountBookDate(date.minusDays(1))
+                .accountBookType(AccountBookType.I)
+                .accountBookInfo("용돈")
+                .accountMoney(10000)
+                .build()
+        );
+
+        return Flux.just(firstDay, secondDay);
+    }
+
     /**
      * 월 별 지출/수입 통계 Response 구성
      */
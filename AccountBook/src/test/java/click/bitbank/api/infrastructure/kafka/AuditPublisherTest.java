@@ -0,0 +1,86 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import click.bitbank.api.presentation.shared.response.CommonResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AuditPublisher auditPublisher = new AuditPublisher(null, objectMapper, new SimpleMeterRegistry(), "account-book", 16, Duration.ofMillis(50), Duration.ofSeconds(1));
+
+    /**
+     * 응답 내용은 크기와 결과 코드만 기록
+     */
+    @Test
+    void serializeResponseEvent() throws Exception {
+        // given
+        AuditRecord record = AuditRecord.builder()
+            .topic("response-topic")
+            .type(AuditEvent.Type.RESPONSE)
+            .route("/account-book/statistic")
+            .method("GET")
+            .memberId(1)
+            .latencyMs(12L)
+            .payload(new CommonResponse(200, "success"))
+            .timestamp(1_650_000_000_000L)
+            .build();
+
+        // when
+        JsonNode event = objectMapper.readTree(auditPublisher.serialize(record));
+
+        // then
+        assertAll(() -> {
+            assertEquals("response", event.path("type").textValue());
+            assertEquals("account-book", event.path("service").textValue());
+            assertEquals("/account-book/statistic", event.path("route").textValue());
+            assertEquals(1, event.path("memberId").intValue());
+            assertEquals(200, event.path("status").intValue());
+            assertEquals(12L, event.path("latencyMs").longValue());
+            assertEquals(objectMapper.writeValueAsBytes(new CommonResponse(200, "success")).length, event.path("payloadSize").intValue());
+            assertFalse(event.has("rtMsg"));
+            assertFalse(event.has("message"));
+        });
+    }
+
+    /**
+     * 예외 내용에서 결과 코드, 메시지, 회원 고유번호 추출
+     */
+    @Test
+    void serializeExceptionEvent() throws Exception {
+        // given
+        Map<String, Object> exception = new HashMap<>();
+        exception.put("rt", 400);
+        exception.put("rtMsg", "존재하지 않는 회원입니다.");
+        exception.put("memberId", 7);
+        AuditRecord record = AuditRecord.builder()
+            .topic("exception-topic")
+            .type(AuditEvent.Type.EXCEPTION)
+            .route("/account-book/write")
+            .method("POST")
+            .payload(exception)
+            .timestamp(1_650_000_000_000L)
+            .build();
+
+        // when
+        JsonNode event = objectMapper.readTree(auditPublisher.serialize(record));
+
+        // then
+        assertAll(() -> {
+            assertEquals("exception", event.path("type").textValue());
+            assertEquals(400, event.path("status").intValue());
+            assertEquals("존재하지 않는 회원입니다.", event.path("message").textValue());
+            assertEquals(7, event.path("memberId").intValue());
+            assertFalse(event.has("latencyMs"));
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditRingBufferTest {
+
+    /**
+     * 가득 찬 버퍼는 대기하지 않고 추가 실패, 비운 뒤에는 다시 추가 가능
+     */
+    @Test
+    void rejectWhenFullAndReuseSlot() {
+        // given
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(4);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.offer(i));
+        }
+
+        // then
+        assertAll(() -> {
+            assertFalse(ringBuffer.offer(4));
+            assertEquals(4, ringBuffer.size());
+            assertEquals(0, ringBuffer.poll());
+            assertTrue(ringBuffer.offer(4));
+            assertEquals(1, ringBuffer.poll());
+            assertEquals(2, ringBuffer.poll());
+            assertEquals(3, ringBuffer.poll());
+            assertEquals(4, ringBuffer.poll());
+            assertNull(ringBuffer.poll());
+        });
+    }
+
+    /**
+     * 여러 생산자가 동시에 추가해도 유실, 중복 없이 전달
+     */
+    @Test
+    void deliverConcurrentOffersExactlyOnce() throws InterruptedException {
+        // given
+        int producerCount = 4;
+        int countPerProducer = 10_000;
+        AuditRingBuffer<Integer> ringBuffer = new AuditRingBuffer<>(1024);
+        ExecutorService executorService = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch done = new CountDownLatch(producerCount);
+        AtomicInteger accepted = new AtomicInteger();
+
+        // when
+        for (int p = 0; p < producerCount; p++) {
+            int base = p * countPerProducer;
+            executorService.execute(() -> {
+                for (int i = 0; i < countPerProducer; i++) {
+                    while (!ringBuffer.offer(base + i)) Thread.onSpinWait();   // 테스트에서는 유실 없이 재시도
+                    accepted.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Integer> received = new HashSet<>();
+        while (received.size() < producerCount * countPerProducer) {
+            Integer value = ringBuffer.poll();
+            if (value != null) assertTrue(received.add(value));
+        }
+        executorService.shutdown();
+
+        // then
+        assertAll(() -> {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(producerCount * countPerProducer, accepted.get());
+            assertNull(ringBuffer.poll());
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package click.bitbank.api.infrastructure.r2dbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryRetryPolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RepositoryRetryPolicy repositoryRetryPolicy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        repositoryRetryPolicy = new RepositoryRetryPolicy(meterRegistry, 2, Duration.ofMillis(1), Duration.ofMillis(5), 0.5, Duration.ofSeconds(1));
+    }
+
+    /**
+     * 일시적인 장애는 최대 횟수까지 재시도 후 포기
+     */
+    @Test
+    void retryTransientErrorUntilExhausted() {
+        // given
+        AtomicInteger subscribeCount = new AtomicInteger();
+        Mono<String> mono = Mono.defer(() -> {
+            subscribeCount.incrementAndGet();
+            return Mono.error(new TransientDataAccessResourceException("connection reset"));
+        });
+
+        // when, then
+        StepVerifier.create(repositoryRetryPolicy.apply(mono, "test"))
+            .expectError(TransientDataAccessResourceException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertAll(() -> {
+            assertEquals(3, subscribeCount.get());  // 최초 1회 + 재시도 2회
+            assertEquals(2, meterRegistry.counter("bitbank.repository.retry", "query", "test").count());
+            assertEquals(1, meterRegistry.counter("bitbank.repository.retry.exhausted", "query", "test").count());
+        });
+    }
+
+    /**
+     * 일시적이지 않은 오류는 재시도하지 않음
+     */
+    @Test
+    void notRetryPermanentError() {
+        // given
+        AtomicInteger subscribeCount = new AtomicInteger();
+        Mono<String> mono = Mono.defer(() -> {
+            subscribeCount.incrementAndGet();
+            return Mono.error(new IllegalArgumentException("No enum constant"));
+        });
+
+        // when, then
+        StepVerifier.create(repositoryRetryPolicy.apply(mono, "test"))
+            .expectError(IllegalArgumentException.class)
+            .verify(Duration.ofSeconds(5));
+
+        assertAll(() -> {
+            assertEquals(1, subscribeCount.get());
+            assertEquals(0, meterRegistry.counter("bitbank.repository.retry", "query", "test").count());
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package click.bitbank.api.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthenticatedMemberTest {
+
+    /**
+     * Gateway 에서 전달한 회원과 요청한 회원이 같은 경우만 검증된 회원
+     */
+    @Test
+    void verifiedOnlyForSameMember() {
+        // given
+        MockServerRequest serverRequest = MockServerRequest.builder()
+            .header(AuthenticatedMember.MEMBER_ID_HEADER, "1")
+            .header(AuthenticatedMember.MEMBER_TYPE_HEADER, "STUDENT")
+            .build();
+
+        // when, then
+        assertAll(() -> {
+            assertTrue(AuthenticatedMember.isVerified(serverRequest, 1));
+            assertFalse(AuthenticatedMember.isVerified(serverRequest, 2));
+            assertEquals("STUDENT", AuthenticatedMember.from(serverRequest).orElseThrow().getMemberType());
+        });
+    }
+
+    /**
+     * Gateway 를 거치지 않았거나 잘못된 헤더는 검증되지 않은 회원
+     */
+    @Test
+    void notVerifiedWithoutValidHeader() {
+        // given
+        MockServerRequest withoutHeader = MockServerRequest.builder().build();
+        MockServerRequest invalidHeader = MockServerRequest.builder()
+            .header(AuthenticatedMember.MEMBER_ID_HEADER, "abc")
+            .build();
+
+        // when, then
+        assertAll(() -> {
+            assertFalse(AuthenticatedMember.isVerified(withoutHeader, 1));
+            assertTrue(AuthenticatedMember.from(invalidHeader).isEmpty());
+        });
+    }
+}
@@ -0,0 +1,38 @@
+package click.bitbank.api.infrastructure.util;
+
+import click.bitbank.api.infrastructure.exception.status.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateTimeUtilsTest {
+
+    private final RequestTime requestTime = RequestTime.of(LocalDateTime.of(2022, 6, 15, 13, 30));
+
+    /**
+     * 올해가 아닌 날짜만 년도 포함 (올해 첫 날 0시 기준)
+     */
+    @Test
+    void formatKoreanDate() {
+        assertAll(() -> {
+            assertEquals("01월 01일", DateTimeUtils.formatKoreanDate(LocalDate.of(2022, 1, 1), requestTime));
+            assertEquals("2021년 12월 31일", DateTimeUtils.formatKoreanDate(LocalDate.of(2021, 12, 31), requestTime));
+            assertEquals("수요일", DateTimeUtils.koreanDayOfWeek(LocalDate.of(2022, 6, 15)));
+        });
+    }
+
+    /**
+     * 작성한 날짜 파싱
+     */
+    @Test
+    void parseDateTime() {
+        assertAll(() -> {
+            assertEquals(LocalDateTime.of(2022, 5, 1, 9, 0, 30), DateTimeUtils.parseDateTime("2022-05-01 09:00:30"));
+            assertThrows(BadRequestException.class, () -> DateTimeUtils.parseDateTime("2022-05-01"));
+            assertEquals("2022-06-15", DateTimeUtils.formatDate(requestTime.getToday()));
+        });
+    }
+}
@@ -1,9 +1,11 @@
 package click.bitbank.api.presentation.accountBook;
 
 import click.bitbank.api.application.accountBook.AccountBookApplicationService;
+import click.bitbank.api.application.response.AccountBookBulkWriteResponse;
 import click.bitbank.api.application.response.AccountBookStatisticResponse;
 import click.bitbank.api.application.response.AccountBookWriteResponse;
 import click.bitbank.api.infrastructure.exception.GlobalExceptionHandler;
+import click.bitbank.api.presentation.accountBook.request.AccountBookWriteRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
@@ -13,8 +15,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.FluxExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 
+import java.util.Arrays;
+
 import static click.bitbank.api.infrastructure.factory.AccountBookTestFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,6 +66,68 @@ class AccountBookHandlerTest {
             .verifyComplete();
     }
     
+    /**
+     * 가계부 일괄 작성 (NDJSON)
+     */
+    @Test
+    void accountBookBulkWrite() {
+        // given
+        given(accountBookApplicationService.accountBookBulkWrite(any(ServerRequest.class))).willReturn(accountBookBulkWriteResponse());
+
+        // when
+        FluxExchangeResult<AccountBookBulkWriteResponse> result = webClient
+            .post()
+            .uri("/account-book/write/bulk")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(Flux.just(accountBookWriteRequest(), accountBookWriteRequest()), AccountBookWriteRequest.class)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isOk()
+            .returnResult(AccountBookBulkWriteResponse.class);
+
+        // then
+        verify(accountBookApplicationService).accountBookBulkWrite(any(ServerRequest.class));
+
+        StepVerifier.create(result.getResponseBody().log())
+            .assertNext(response -> assertAll(() -> {
+                assertEquals(HttpStatus.CREATED.value(), response.getRt());
+                assertEquals(2, response.getCount());
+                assertEquals(Arrays.asList(10, 11), response.getAccountBookIds());
+            }))
+            .verifyComplete();
+    }
+
+    /**
+     * 가계부 목록 커서 기반 스트리밍 검색
+     */
+    @Test
+    void accountBookSearchStream() {
+        // given
+        given(accountBookApplicationService.accountBookSearchStream(any(ServerRequest.class))).willReturn(accountBookSearchStreamResponse());
+
+        // when
+        FluxExchangeResult<String> result = webClient
+            .post()
+            .uri("/account-book/search/stream")
+            .bodyValue(accountBookSearchRequest())
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(String.class);
+
+        // then
+        verify(accountBookApplicationService).accountBookSearchStream(any(ServerRequest.class));
+
+        StepVerifier.create(result.getResponseBody().log())
+            .assertNext(line -> assertAll(() -> {
+                assertTrue(line.contains("\"accountBookId\":2"));
+                assertTrue(line.contains("\"accountBookDate\":\"2022-05-02 09:00:00\""));
+            }))
+            .assertNext(line -> assertTrue(line.contains("\"accountBookId\":1")))
+            .verifyComplete();
+    }
+    
     /**
      * 월 별 지출 통계
      */
@@ -0,0 +1,38 @@
+-- 인덱스 회귀 테스트용 가계부 테이블 (엔티티 기준)
+CREATE TABLE income (
+    incomeId INT NOT NULL AUTO_INCREMENT,
+    incomeInfo VARCHAR(255) NULL,
+    incomeDate DATETIME NOT NULL,
+    incomeMoney BIGINT NOT NULL,
+    incomeType VARCHAR(10) NOT NULL,
+    memberId INT NOT NULL,
+    regDate DATETIME NULL,
+    modDate DATETIME NULL,
+    PRIMARY KEY (incomeId)
+);
+
+CREATE TABLE expenditure (
+    expenditureId INT NOT NULL AUTO_INCREMENT,
+    expenditureInfo VARCHAR(255) NULL,
+    expenditureDate DATETIME NOT NULL,
+    expenditureMoney BIGINT NOT NULL,
+    expenditureType VARCHAR(10) NOT NULL,
+    latitude VARCHAR(50) NULL,
+    longitude VARCHAR(50) NULL,
+    memberId INT NOT NULL,
+    regDate DATETIME NULL,
+    modDate DATETIME NULL,
+    PRIMARY KEY (expenditureId)
+);
+
+CREATE TABLE transfer (
+    transferId INT NOT NULL AUTO_INCREMENT,
+    transferInfo VARCHAR(255) NULL,
+    transferDate DATETIME NOT NULL,
+    transferMoney BIGINT NOT NULL,
+    transferType VARCHAR(10) NOT NULL,
+    memberId INT NOT NULL,
+    regDate DATETIME NULL,
+    modDate DATETIME NULL,
+    PRIMARY KEY (transferId)
+);
@@ -0,0 +1,58 @@
+package click.bitbank.api.application.response.dto;
+
+import click.bitbank.api.domain.model.card.Card;
+import click.bitbank.api.domain.model.card.CardBenefitType;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card -> CardDTO 변환 벤치마크
+ * ./gradlew jmh 로 실행하며 gc 프로파일러의 gc.alloc.rate.norm (연산 당 할당 byte) 으로
+ * 기존 방식(ModelMapper 리플렉션 매핑)과 필드 직접 복사(CardDTO.of)를 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDTOMappingBenchmark {
+
+    @Param({"10", "1000"})
+    private int cards;
+
+    private List<Card> cardList;
+
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();    // 기존 CommonConfig 빈과 같은 기본 설정
+        cardList = new ArrayList<>(cards);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < cards; i++) {
+            cardList.add(new Card(i, "카드사" + (i % 10), "카드" + i, CardBenefitType.values()[i % CardBenefitType.values().length],
+                "혜택 내용", i + 1, "/card/" + i + ".png", now, now));
+        }
+    }
+
+    @Benchmark
+    public List<CardDTO> modelMapper() {
+        List<CardDTO> cardDTOList = new ArrayList<>(cardList.size());
+        for (Card card : cardList) cardDTOList.add(modelMapper.map(card, CardDTO.class));
+        return cardDTOList;
+    }
+
+    @Benchmark
+    public List<CardDTO> fieldCopy() {
+        List<CardDTO> cardDTOList = new ArrayList<>(cardList.size());
+        for (Card card : cardList) cardDTOList.add(CardDTO.of(card));
+        return cardDTOList;
+    }
+}
@@ -25,10 +25,10 @@ public class CardApplicationServiceImpl implements CardApplicationService {
     @Override
     @Transactional(rollbackFor = Exception.class, readOnly = true)
     public Mono<CardListResponse> findCardPopularList(ServerRequest serverRequest) {
-        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap().toString());
+        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap());
 
         return cardResponseFactory.cardListResponseBuilder(cardFindSpecification.cardPopularList())
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     @Override
@@ -36,6 +36,6 @@ public class CardApplicationServiceImpl implements CardApplicationService {
     public Mono<CardListResponse> findCardRecommendationList(ServerRequest serverRequest) {
 
         return cardFindSpecification.cardRecommendationVerify(serverRequest.queryParams().toSingleValueMap())
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 }
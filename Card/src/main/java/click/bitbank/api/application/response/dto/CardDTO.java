@@ -1,5 +1,6 @@
 package click.bitbank.api.application.response.dto;
 
+import click.bitbank.api.domain.model.card.Card;
 import click.bitbank.api.domain.model.card.CardBenefitType;
 import lombok.*;
 
@@ -24,4 +25,22 @@ public class CardDTO {
     private int cardRanking; // 카드 순위
     
     private String cardImagePath; // 카드 이미지 경로
+
+    /**
+     * Card -> CardDTO 변환
+     * 리플렉션 없이 필드를 직접 복사 (Card 필드가 추가되면 여기도 함께 수정)
+     * @param card : 카드 정보
+     * @return CardDTO : 카드 응답 정보
+     */
+    public static CardDTO of(Card card) {
+        return new CardDTO(
+            card.getCardId(),
+            card.getCardCompany(),
+            card.getCardName(),
+            card.getCardBenefitType(),
+            card.getCardBenefitContent(),
+            card.getCardRanking(),
+            card.getCardImagePath()
+        );
+    }
 }
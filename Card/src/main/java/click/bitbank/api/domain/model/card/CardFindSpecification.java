@@ -2,6 +2,7 @@ package click.bitbank.api.domain.model.card;
 
 import click.bitbank.api.application.response.CardListResponse;
 import click.bitbank.api.infrastructure.factory.CardResponseFactory;
+import click.bitbank.api.infrastructure.r2dbc.RepositoryRetryPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
@@ -16,13 +17,17 @@ public class CardFindSpecification {
 
     private final CardRepository cardRepository;
     private final CardResponseFactory cardResponseFactory;
+    private final RepositoryRetryPolicy repositoryRetryPolicy;
 
     /**
      * 인기 카드 목록 조회
      * @return Flux<Card> : 인기 카드 목록
      */
     public Flux<Card> cardPopularList() {
-        return cardRepository.findTop10ByCardRankingIsNotNullOrderByCardRankingAsc(); // 카드 순위에 따라 Top 10 목록 조회
+        return repositoryRetryPolicy.applyAll(
+            cardRepository.findTop10ByCardRankingIsNotNullOrderByCardRankingAsc(), // 카드 순위에 따라 Top 10 목록 조회
+            "cardPopularList"
+        );
     }
 
     /**
@@ -43,11 +48,13 @@ public class CardFindSpecification {
                 })
                 .filter(entry -> !entry.getKey().equals("consumptionAmountCost")) // 월 평균 사용 금액은 카테고리 별 비용에서 제외 처리
                 .concatMap(entry ->
-                    cardRepository.findFirstByCardBenefitType( // 정렬된 카테고리에 매칭되는 카드 조회
-                        CardBenefitType.valueOf(entry.getKey().toUpperCase().substring(0, 1))
+                    repositoryRetryPolicy.apply( // 카테고리 별 조회 단위로 일시적인 장애에 한해 제한된 횟수만 재시도
+                        cardRepository.findFirstByCardBenefitType( // 정렬된 카테고리에 매칭되는 카드 조회
+                            CardBenefitType.valueOf(entry.getKey().toUpperCase().substring(0, 1))
+                        ),
+                        "cardRecommendation"
                     )
                 )
-                .retry() // 비동기로 여러 데이터를 조회하는 동안 끊기지 않도록 재시도하여 성공적으로 조회할 수 있도록 처리
                 .switchIfEmpty(this.cardPopularList()) // 조회할 조건이 없을 경우 인기 순위대로 카드 10순위 조회
         );
     }
@@ -0,0 +1,41 @@
+package click.bitbank.api.infrastructure.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    /**
+     * 감사 이벤트 발행용 KafkaSender
+     * linger.ms 동안 레코드를 모아 압축 후 한 번에 전송하고, 실패한 레코드가 있어도 발행을 계속한다.
+     */
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, byte[]> auditKafkaSender(KafkaProperties kafkaProperties,
+                                                        @Value("${audit.producer.linger-ms:20}") int lingerMs,
+                                                        @Value("${audit.producer.batch-size:65536}") int batchSize,
+                                                        @Value("${audit.producer.compression-type:lz4}") String compressionType,
+                                                        @Value("${audit.producer.max-in-flight:256}") int maxInFlight) {
+        Map<String, Object> configs = kafkaProperties.buildProducerProperties();
+        configs.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        configs.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configs.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configs.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+
+        SenderOptions<String, byte[]> senderOptions = SenderOptions.<String, byte[]>create(configs)
+            .maxInFlight(maxInFlight)
+            .stopOnError(false);
+
+        return KafkaSender.create(senderOptions);
+    }
+}
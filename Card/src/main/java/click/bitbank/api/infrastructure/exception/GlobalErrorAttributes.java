@@ -45,7 +45,7 @@ public class GlobalErrorAttributes extends DefaultErrorAttributes {
         if (map.get("timestamp") != null) map.remove("timestamp");
         if (map.get("requestId") != null) map.remove("requestId");
     
-        if (!request.path().equals("/") && !request.path().equals("/favicon.ico")) kafkaProducerService.sendExceptionTopic(request, map.toString());
+        if (!request.path().equals("/") && !request.path().equals("/favicon.ico")) kafkaProducerService.sendExceptionTopic(request, map);
 
         return map;
     }
@@ -1,11 +1,15 @@
 package click.bitbank.api.infrastructure.kafka;
 
+import click.bitbank.api.infrastructure.util.AuthenticatedMember;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
 
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -14,20 +18,16 @@ public class KafkaProducerService {
     private static final String REQUEST_TOPIC = "request-topic";
     private static final String EXCEPTION_TOPIC = "exception-topic";
     private static final String RESPONSE_TOPIC = "response-topic";
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final AuditPublisher auditPublisher;
 
     /**
      * Kafka request-topic 메시지 보내기
      * @param serverRequest : 서버 요청
      * @param request : 발행될 Request
      */
-    public void sendRequestTopic(ServerRequest serverRequest, String request) {
-
-        String topicFormat = String.format("[%s] %s Request: %s", serverRequest.methodName(), serverRequest.path(), request);
-
-        log.info(String.format("===== Producing Request message >>> %s =====", topicFormat));
-        // topic에 message 발행
-        kafkaTemplate.send(REQUEST_TOPIC, topicFormat);
+    public void sendRequestTopic(ServerRequest serverRequest, Object request) {
+        // 링 버퍼에 적재 후 drainer 에서 발행
+        auditPublisher.publish(makeAuditRecord(REQUEST_TOPIC, AuditEvent.Type.REQUEST, serverRequest, request));
     }
 
     /**
@@ -35,13 +35,9 @@ public class KafkaProducerService {
      * @param serverRequest : 서버 요청
      * @param exception : 발행될 Exception
      */
-    public void sendExceptionTopic(ServerRequest serverRequest, String exception) {
-
-        String topicFormat = String.format("[%s] %s Exception: %s", serverRequest.methodName(), serverRequest.path(), exception);
-
-        log.info(String.format("===== Producing Exception message >>> %s =====", topicFormat));
-        // topic에 message 발행
-        kafkaTemplate.send(EXCEPTION_TOPIC, topicFormat);
+    public void sendExceptionTopic(ServerRequest serverRequest, Object exception) {
+        // 링 버퍼에 적재 후 drainer 에서 발행
+        auditPublisher.publish(makeAuditRecord(EXCEPTION_TOPIC, AuditEvent.Type.EXCEPTION, serverRequest, exception));
     }
 
     /**
@@ -49,12 +45,67 @@ public class KafkaProducerService {
      * @param serverRequest : 서버 요청
      * @param response : 발행될 Response
      */
-    public void sendResponseTopic(ServerRequest serverRequest, String response) {
+    public void sendResponseTopic(ServerRequest serverRequest, Object response) {
+        // 링 버퍼에 적재 후 drainer 에서 발행
+        auditPublisher.publish(makeAuditRecord(RESPONSE_TOPIC, AuditEvent.Type.RESPONSE, serverRequest, response));
+    }
+
+    /**
+     * 감사 로그 레코드 생성
+     * @param topic : 발행할 topic
+     * @param type : 레코드 유형
+     * @param serverRequest : 서버 요청
+     * @param payload : 발행될 내용
+     * @return AuditRecord : 감사 로그 레코드
+     */
+    private AuditRecord makeAuditRecord(String topic, AuditEvent.Type type, ServerRequest serverRequest, Object payload) {
+        return AuditRecord.builder()
+            .topic(topic)
+            .type(type)
+            .route(getRoute(serverRequest))
+            .method(serverRequest.methodName())
+            .memberId(getMemberId(serverRequest))
+            .latencyMs(type == AuditEvent.Type.REQUEST ? null : getLatencyMs(serverRequest))
+            .payload(payload)
+            .timestamp(System.currentTimeMillis())
+            .build();
+    }
+
+    /**
+     * 라우트 패턴 추출 (매칭된 패턴이 없으면 요청 경로)
+     * @param serverRequest : 서버 요청
+     * @return String : 라우트
+     */
+    private String getRoute(ServerRequest serverRequest) {
+        return serverRequest.attribute(RouterFunctions.MATCHING_PATTERN_ATTRIBUTE)
+            .map(Object::toString)
+            .orElse(serverRequest.path());
+    }
+
+    /**
+     * 회원 고유번호 추출 (Gateway 에서 검증된 회원 우선, 없으면 요청 파라미터)
+     * @param serverRequest : 서버 요청
+     * @return Integer : 회원 고유번호 (없으면 null)
+     */
+    private Integer getMemberId(ServerRequest serverRequest) {
+        Optional<AuthenticatedMember> authenticatedMember = AuthenticatedMember.from(serverRequest);
+        if (authenticatedMember.isPresent()) return authenticatedMember.get().getMemberId();
 
-        String topicFormat = String.format("[%s] %s Response: %s", serverRequest.methodName(), serverRequest.path(), response);
+        try {
+            return serverRequest.queryParam("memberId").map(Integer::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-        log.info(String.format("===== Producing Response message >>> %s =====", topicFormat));
-        // topic에 message 발행
-        kafkaTemplate.send(RESPONSE_TOPIC, topicFormat);
+    /**
+     * 요청 처리 시간 계산
+     * @param serverRequest : 서버 요청
+     * @return Long : 요청 시작부터 경과 시간 (ms, 시작 시각이 없으면 null)
+     */
+    private Long getLatencyMs(ServerRequest serverRequest) {
+        return serverRequest.attribute(AuditTimingFilter.START_NANOS_ATTRIBUTE)
+            .map(startNanos -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) startNanos))
+            .orElse(null);
     }
 }
@@ -0,0 +1,114 @@
+package click.bitbank.api.infrastructure.r2dbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.R2dbcTransientException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * DB 조회 공통 재시도 정책
+ * 호출 별 제한 시간을 두고, 일시적인 장애에 한해서만 지수 백오프(+jitter)로 최대 횟수까지 재시도한다.
+ * 재시도, 재시도 포기 횟수는 Micrometer 카운터로 기록한다.
+ */
+@Slf4j
+@Component
+public class RepositoryRetryPolicy {
+
+    private static final String RETRY_METRIC = "bitbank.repository.retry";  // 재시도 횟수
+    private static final String EXHAUSTED_METRIC = "bitbank.repository.retry.exhausted";   // 재시도 포기 횟수
+
+    private final MeterRegistry meterRegistry;
+
+    private final long maxAttempts; // 최대 재시도 횟수
+
+    private final Duration minBackoff;  // 최초 재시도 대기 시간
+
+    private final Duration maxBackoff;  // 최대 재시도 대기 시간
+
+    private final double jitter;    // 대기 시간 무작위 편차 (0 ~ 1)
+
+    private final Duration timeout; // 호출 별 제한 시간
+
+    public RepositoryRetryPolicy(MeterRegistry meterRegistry,
+                                 @Value("${resilience.repository.max-attempts:2}") long maxAttempts,
+                                 @Value("${resilience.repository.min-backoff:100ms}") Duration minBackoff,
+                                 @Value("${resilience.repository.max-backoff:1s}") Duration maxBackoff,
+                                 @Value("${resilience.repository.jitter:0.5}") double jitter,
+                                 @Value("${resilience.repository.timeout:3s}") Duration timeout) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.minBackoff = minBackoff;
+        this.maxBackoff = maxBackoff;
+        this.jitter = jitter;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 단건 조회에 재시도 정책 적용
+     *
+     * @param mono : 조회 Mono
+     * @param name : 조회 이름 (메트릭 태그)
+     * @return Mono<T> : 재시도 정책이 적용된 Mono
+     */
+    public <T> Mono<T> apply(Mono<T> mono, String name) {
+        return mono.timeout(timeout)
+            .retryWhen(retrySpec(name));
+    }
+
+    /**
+     * 목록 조회에 재시도 정책 적용
+     * 일부만 전달된 뒤 재시도되어 중복 전달되지 않도록 목록 단위로 재시도한다.
+     *
+     * @param flux : 조회 Flux
+     * @param name : 조회 이름 (메트릭 태그)
+     * @return Flux<T> : 재시도 정책이 적용된 Flux
+     */
+    public <T> Flux<T> applyAll(Flux<T> flux, String name) {
+        return apply(flux.collectList(), name)
+            .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * 재시도 정책 구성
+     *
+     * @param name : 조회 이름 (메트릭 태그)
+     * @return Retry : 재시도 정책
+     */
+    private Retry retrySpec(String name) {
+        return Retry.backoff(maxAttempts, minBackoff)
+            .maxBackoff(maxBackoff)
+            .jitter(jitter)
+            .filter(this::isTransient)
+            .doBeforeRetry(retrySignal -> {
+                log.warn("[{}] 조회 재시도 ({}회) : {}", name, retrySignal.totalRetries() + 1, retrySignal.failure().toString());
+                meterRegistry.counter(RETRY_METRIC, "query", name).increment();
+            })
+            .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> {
+                meterRegistry.counter(EXHAUSTED_METRIC, "query", name).increment();
+                return retrySignal.failure();
+            });
+    }
+
+    /**
+     * 재시도 대상 여부 (제한 시간 초과, 일시적인 DB 장애)
+     *
+     * @param throwable : 발생한 예외
+     * @return boolean : 재시도 대상 여부
+     */
+    private boolean isTransient(Throwable throwable) {
+        return throwable instanceof TimeoutException
+            || throwable instanceof TransientDataAccessException
+            || throwable instanceof DataAccessResourceFailureException
+            || throwable instanceof R2dbcTransientException;
+    }
+}
@@ -1,19 +1,20 @@
 package click.bitbank.api.infrastructure.webClient;
 
+import click.bitbank.api.infrastructure.config.WebClientConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Component
 public class WebClientService {
 
-    private WebClient memberClient;
+    private final WebClient memberClient;
 
-    @Value("${msa.client.url.member}")
-    private String memberUrl;
-
-    public WebClientService(WebClient.Builder builder) {
-        this.memberClient = builder.baseUrl(memberUrl).build();
+    public WebClientService(WebClient.Builder builder,
+                            @LoadBalanced WebClient.Builder loadBalancedBuilder,
+                            @Value("${msa.client.url.member}") String memberUrl) {
+        this.memberClient = WebClientConfig.create(memberUrl, builder, loadBalancedBuilder);
     }
 
 }
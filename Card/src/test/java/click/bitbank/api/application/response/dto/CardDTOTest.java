@@ -0,0 +1,44 @@
+package click.bitbank.api.application.response.dto;
+
+import click.bitbank.api.domain.model.card.Card;
+import click.bitbank.api.domain.model.card.CardBenefitType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardDTOTest {
+
+    /**
+     * Card -> CardDTO 변환 (이름이 같은 필드 모두 복사)
+     */
+    @Test
+    void of() {
+        // given
+        Card card = Card.builder()
+            .cardId(7)
+            .cardCompany("카드사")
+            .cardName("카드명")
+            .cardBenefitType(CardBenefitType.B)
+            .cardBenefitContent("혜택 내용")
+            .cardRanking(3)
+            .cardImagePath("이미지 경로")
+            .regDate(LocalDateTime.of(2022, 5, 1, 9, 0))
+            .build();
+
+        // when
+        CardDTO cardDTO = CardDTO.of(card);
+
+        // then
+        assertAll(() -> {
+            assertEquals(7, cardDTO.getCardId());
+            assertEquals("카드사", cardDTO.getCardCompany());
+            assertEquals("카드명", cardDTO.getCardName());
+            assertEquals(CardBenefitType.B, cardDTO.getCardBenefitType());
+            assertEquals("혜택 내용", cardDTO.getCardBenefitContent());
+            assertEquals(3, cardDTO.getCardRanking());
+            assertEquals("이미지 경로", cardDTO.getCardImagePath());
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package click.bitbank.api.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 캐시된 응답 (HTTP 200, rt 200 응답 본문)
+ */
+@Getter
+@ToString(exclude = "body")
+public class CachedResponse {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final byte[] body;
+
+    private final MediaType contentType;
+
+    private final String etag; // 본문 CRC32 기반 ETag
+
+    private final long ttlNanos; // 캐시 유지 시간
+
+    private final long createdNanos; // 캐시 생성 시각 (System.nanoTime 기준)
+
+    public CachedResponse(byte[] body, MediaType contentType, long ttlNanos) {
+        this.body = body;
+        this.contentType = contentType;
+        this.etag = etag(body);
+        this.ttlNanos = ttlNanos;
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * 남은 유지 시간 (Cache-Control max-age)
+     * @return long : 남은 유지 시간 (초)
+     */
+    public long remainingSeconds() {
+        long remainingNanos = ttlNanos - (System.nanoTime() - createdNanos);
+        return Math.max(0, TimeUnit.NANOSECONDS.toSeconds(remainingNanos));
+    }
+
+    /**
+     * 생성 후 경과 시간 (Age)
+     * @return long : 경과 시간 (초)
+     */
+    public long ageSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - createdNanos);
+    }
+
+    /**
+     * 캐시할 수 있는 응답 본문 여부
+     * 하위 서비스는 오류도 HTTP 200 으로 응답하고 실제 결과는 rt 로 전달하므로, 최상위 rt 가 200 인 JSON 본문만 캐시한다.
+     *
+     * @param body : 응답 본문
+     * @return boolean : 최상위 rt 가 200 이면 true
+     */
+    public static boolean isSuccessBody(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("rt".equals(field)) return value == JsonToken.VALUE_NUMBER_INT && parser.getIntValue() == 200;
+
+                parser.skipChildren();  // 중첩된 객체, 배열의 rt 는 무시
+            }
+            return false;
+        } catch (IOException e) {
+            return false;   // JSON 이 아닌 본문
+        }
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(body, 0, body.length);
+        return "\"" + Long.toHexString(crc32.getValue()) + '-' + Integer.toHexString(body.length) + "\"";
+    }
+}
@@ -0,0 +1,90 @@
+package click.bitbank.api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 조회 응답 로컬 캐시
+ * 전체 크기(byte)를 기준으로 제한하며, 항목마다 라우트에 설정된 시간 동안 유지한다.
+ * 같은 키의 요청이 처리 중이면 하위 서비스를 다시 호출하지 않고 처리 중인 요청의 결과를 함께 기다린다.
+ */
+@Component
+public class ResponseCache {
+
+    private static final String CACHE_NAME = "gatewayResponse";
+
+    private final Cache<String, CachedResponse> cache;
+
+    private final ConcurrentMap<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>(); // 처리 중인 요청
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${gateway.response-cache.maximum-bytes:67108864}") long maximumBytes) {
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumBytes)
+            .weigher((String key, CachedResponse value) -> key.length() + value.getBody().length)
+            .expireAfter(new ResponseExpiry())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedResponse getIfPresent(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 처리 중인 요청 등록
+     * @param key : 캐시 키
+     * @param flight : 이번 요청의 결과
+     * @return CompletableFuture<CachedResponse> : 이미 처리 중인 요청의 결과 (없으면 null, 이번 요청이 하위 서비스 호출)
+     */
+    public CompletableFuture<CachedResponse> join(String key, CompletableFuture<CachedResponse> flight) {
+        return inFlight.putIfAbsent(key, flight);
+    }
+
+    /**
+     * 처리 중인 요청 완료
+     * 캐시할 수 없는 응답(null)이면 기다리던 요청은 각자 하위 서비스를 호출한다.
+     *
+     * @param key : 캐시 키
+     * @param flight : join 으로 등록한 결과
+     * @param response : 캐시할 응답 (캐시할 수 없으면 null)
+     */
+    public void complete(String key, CompletableFuture<CachedResponse> flight, CachedResponse response) {
+        if (response != null) cache.put(key, response);
+
+        inFlight.remove(key, flight);
+        flight.complete(response);
+    }
+
+    /**
+     * 항목 별 유지 시간(ttlNanos) 만큼 유지
+     */
+    private static class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return value.getTtlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
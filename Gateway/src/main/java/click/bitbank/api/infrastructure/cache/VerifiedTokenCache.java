@@ -0,0 +1,177 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult.Reason;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 검증된 토큰 로컬 캐시
+ * 토큰의 SHA-256 digest 를 키로 검증된 Claims 를 보관해 같은 토큰의 서명 검증, Claims 파싱을 토큰 수명 동안 한 번만 수행한다.
+ * 항목은 토큰 만료 시각(exp)에 함께 만료되며, 로그아웃, 탈퇴 시 해당 시각 이전에 발급된 회원의 토큰은 거부한다.
+ * 검증에 실패한 토큰(만료, 서명 불일치 등)도 사유만 짧은 시간 보관해, 같은 토큰으로 반복되는 요청은 서명 검증과 예외 생성 없이 바로 거부한다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedToken";
+
+    private static final String REJECTED_CACHE_NAME = "rejectedToken";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<String, Claims> cache;
+
+    private final Cache<String, Reason> rejected;   // 검증에 실패한 토큰 별 사유 (만료, 서명 불일치 등은 다시 검증해도 결과가 같음)
+
+    private final Cache<Integer, Long> revokedAt; // 회원 별 토큰 폐기 시각 (epoch ms)
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                              @Value("${jwt.cache.max-ttl:1h}") Duration maxTtl,
+                              @Value("${jwt.cache.revocation-ttl:24h}") Duration revocationTtl,
+                              @Value("${jwt.cache.rejected-maximum-size:100000}") long rejectedMaximumSize,
+                              @Value("${jwt.cache.rejected-ttl:1m}") Duration rejectedTtl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+            .recordStats()
+            .build();
+        this.rejected = Caffeine.newBuilder()
+            .maximumSize(rejectedMaximumSize)
+            .expireAfterWrite(rejectedTtl)
+            .recordStats()
+            .build();
+        // 폐기 시각은 발급된 토큰이 모두 만료될 때까지만 유지하면 됨
+        this.revokedAt = Caffeine.newBuilder()
+            .expireAfterWrite(revocationTtl)
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, REJECTED_CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 Claims 조회 (없으면 verifier 로 검증 후 캐시)
+     * 검증에 실패한 토큰은 사유를 rejected-ttl 동안 캐시해 같은 토큰은 다시 검증하지 않는다.
+     *
+     * @param token : 토큰
+     * @param verifier : 토큰 서명 검증
+     * @return TokenVerifyResult : 검증 결과
+     */
+    public TokenVerifyResult get(String token, Function<String, TokenVerifyResult> verifier) {
+        if (token == null) return verifier.apply(null);
+
+        String key = digest(token);
+        Claims claims = cache.getIfPresent(key);
+
+        if (claims == null) {
+            Reason rejectedReason = rejected.getIfPresent(key);
+            if (rejectedReason != null) return TokenVerifyResult.reject(rejectedReason);
+
+            TokenVerifyResult result = verifier.apply(token);
+            if (!result.isValid()) {
+                rejected.put(key, result.getReason());
+                return result;
+            }
+
+            claims = result.getClaims();
+            cache.put(key, claims);
+        }
+
+        if (isRevoked(claims)) {
+            cache.invalidate(key);
+            return TokenVerifyResult.reject(Reason.REVOKED);
+        }
+        return TokenVerifyResult.valid(claims);
+    }
+
+    /**
+     * 회원 토큰 폐기
+     * 폐기 시각 이전에 발급된 토큰은 캐시 여부와 관계없이 거부된다.
+     *
+     * @param memberId : 회원 고유번호
+     * @param revokedAtMillis : 폐기 시각 (epoch ms)
+     */
+    public void revoke(int memberId, long revokedAtMillis) {
+        revokedAt.asMap().merge(memberId, revokedAtMillis, Math::max);
+        log.info("===== 토큰 폐기 >>> memberId: {} =====", memberId);
+    }
+
+    /**
+     * 폐기된 토큰 여부
+     * iat 는 초 단위이므로 폐기 시각과 같은 초에 발급된 토큰(로그아웃 직후 재로그인)은 유효한 것으로 본다.
+     *
+     * @param claims : 토큰 정보
+     * @return boolean : 폐기 여부
+     */
+    private boolean isRevoked(Claims claims) {
+        Object memberId = claims.get("memberId");
+        if (!(memberId instanceof Number)) return false;
+
+        Long revokedAtMillis = revokedAt.getIfPresent(((Number) memberId).intValue());
+        if (revokedAtMillis == null) return false;
+
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || TimeUnit.MILLISECONDS.toSeconds(issuedAt.getTime()) < TimeUnit.MILLISECONDS.toSeconds(revokedAtMillis);
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * 토큰 만료 시각(exp)까지 유지, exp 가 없거나 maxTtl 보다 먼 경우 maxTtl 까지 유지
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims value, long currentTime) {
+            Date expiration = value.getExpiration();
+            if (expiration == null) return maxTtlNanos;
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
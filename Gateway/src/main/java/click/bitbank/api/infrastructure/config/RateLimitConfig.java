@@ -0,0 +1,28 @@
+package click.bitbank.api.infrastructure.config;
+
+import click.bitbank.api.infrastructure.ratelimit.LocalRateLimitBackend;
+import click.bitbank.api.infrastructure.ratelimit.RateLimitBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+
+    // ratelimit.backend 미설정 또는 local 이면 인스턴스 로컬 메모리 사용
+    // 다른 저장소(Redis 등)를 쓰려면 ratelimit.backend 를 해당 값(예: redis)으로 설정하고,
+    // 같은 값의 @ConditionalOnProperty 를 붙인 RateLimitBackend Bean 을 등록한다.
+    // (일반 @Configuration 에서는 Bean 등록 순서에 따라 @ConditionalOnMissingBean 판정이 달라지므로 속성으로 선택)
+    @Bean
+    @ConditionalOnProperty(name = "ratelimit.backend", havingValue = "local", matchIfMissing = true)
+    public RateLimitBackend localRateLimitBackend(MeterRegistry meterRegistry,
+                                                  @Value("${ratelimit.local.maximum-size:200000}") long maximumSize,
+                                                  @Value("${ratelimit.local.idle-ttl:10m}") Duration idleTtl) {
+
+        return new LocalRateLimitBackend(meterRegistry, maximumSize, idleTtl);
+    }
+}
@@ -16,7 +16,9 @@ public enum ExceptionMessage {
     UnsupportedToken("UnauthorizedException", "토큰이 암호화되어 있지 않습니다."),
     MalformedToken("UnauthorizedException", "토큰이 올바르게 구성되지 않았습니다."),
     SignatureVerifyToken("UnauthorizedException", "토큰의 서명이 유효하지 않습니다."),
-    IllegalArgumentToken("UnauthorizedException", "토큰의 값이 비어있습니다.");
+    IllegalArgumentToken("UnauthorizedException", "토큰의 값이 비어있습니다."),
+    RevokedToken("UnauthorizedException", "로그아웃 되어 사용할 수 없는 토큰입니다."),
+    TooManyRequests("TooManyRequestsException", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
 
     private String type;
     private String message;
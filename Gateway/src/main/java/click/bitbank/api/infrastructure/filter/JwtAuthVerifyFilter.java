@@ -1,7 +1,7 @@
 package click.bitbank.api.infrastructure.filter;
 
-import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
-import click.bitbank.api.infrastructure.exception.status.UnauthorizedException;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult.Reason;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
@@ -17,10 +17,12 @@ import click.bitbank.api.infrastructure.jwt.JwtProvider;
 public class JwtAuthVerifyFilter extends AbstractGatewayFilterFactory<JwtAuthVerifyFilter.Config> {
 
     private final JwtProvider jwtProvider;
+    private final TokenRejectionResponder tokenRejectionResponder;
 
-    public JwtAuthVerifyFilter(JwtProvider jwtProvider) {
+    public JwtAuthVerifyFilter(JwtProvider jwtProvider, TokenRejectionResponder tokenRejectionResponder) {
         super(JwtAuthVerifyFilter.Config.class);
         this.jwtProvider = jwtProvider;
+        this.tokenRejectionResponder = tokenRejectionResponder;
     }
 
     // 토큰 검증을 할 로직을 apply 메서드에 추가하면 된다.
@@ -33,19 +35,15 @@ public class JwtAuthVerifyFilter extends AbstractGatewayFilterFactory<JwtAuthVer
             ServerHttpRequest request = exchange.getRequest(); // Request로 받아오면 Pre Filter가 적용된다. (주의 : reactive.ServerHttpRequest 여야 한다.)
 
             // Request Header에 token이 존재하지 않을 경우
-            if (!request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                throw new UnauthorizedException(ExceptionMessage.IsRequiredToken.getMessage());
-            }
-
-            // Request Header에서 token 추출
-            String token = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
-
-            // 토큰 검증
-            if (jwtProvider.validateToken(token)) {
-                return chain.filter(exchange).then(Mono.fromRunnable(() -> log.info("===== 토큰 검증 완료 =====")));
-            } else {
-                throw new UnauthorizedException(ExceptionMessage.VerifyFailToken.getMessage());
-            }
+            String token = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION); // Request Header에서 token 추출
+            if (token == null) return tokenRejectionResponder.reject(exchange, Reason.MISSING);
+
+            // 토큰 검증 (검증된 Claims 는 exchange 속성에 저장되어 이후 필터에서 재사용)
+            TokenVerifyResult result = jwtProvider.verify(exchange, token);
+            if (!result.isValid()) return tokenRejectionResponder.reject(exchange, result.getReason());
+
+            // 검증된 회원 정보를 헤더로 전달
+            return chain.filter(MemberHeaderFilter.withMember(exchange, result.getClaims())).then(Mono.fromRunnable(() -> log.info("===== 토큰 검증 완료 =====")));
         });
     }
 
@@ -0,0 +1,62 @@
+package click.bitbank.api.infrastructure.filter;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * 검증된 회원 정보 전달 헤더 관리
+ * 외부에서 전달된 X-Member-Id, X-Member-Type 헤더는 모든 요청에서 제거하고,
+ * 토큰 검증 필터를 통과한 요청에만 검증된 토큰의 값으로 다시 설정해 하위 서비스가 신뢰할 수 있도록 한다.
+ */
+@Component
+public class MemberHeaderFilter implements GlobalFilter, Ordered {
+
+    public static final String MEMBER_ID_HEADER = "X-Member-Id";
+    public static final String MEMBER_TYPE_HEADER = "X-Member-Type";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!exchange.getRequest().getHeaders().containsKey(MEMBER_ID_HEADER)
+            && !exchange.getRequest().getHeaders().containsKey(MEMBER_TYPE_HEADER)) {
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange.mutate()
+            .request(request -> request.headers(headers -> {
+                headers.remove(MEMBER_ID_HEADER);
+                headers.remove(MEMBER_TYPE_HEADER);
+            }))
+            .build());
+    }
+
+    // 라우트 필터(토큰 검증)보다 먼저 실행
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * 검증된 토큰의 회원 정보를 헤더로 설정
+     * @param exchange : 요청 정보
+     * @param claims : 검증된 토큰 정보
+     * @return ServerWebExchange : 헤더가 설정된 요청 정보
+     */
+    public static ServerWebExchange withMember(ServerWebExchange exchange, Claims claims) {
+        Object memberId = claims.get("memberId");
+        Object memberType = claims.get("memberType");
+
+        return exchange.mutate()
+            .request(request -> request.headers(headers -> {
+                if (memberId != null) headers.set(MEMBER_ID_HEADER, Objects.toString(memberId));
+                if (memberType != null) headers.set(MEMBER_TYPE_HEADER, Objects.toString(memberType));
+            }))
+            .build();
+    }
+}
@@ -0,0 +1,197 @@
+package click.bitbank.api.infrastructure.filter;
+
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.infrastructure.jwt.JwtProvider;
+import click.bitbank.api.infrastructure.ratelimit.RateLimitBackend;
+import click.bitbank.api.infrastructure.ratelimit.RateLimitPolicy;
+import click.bitbank.api.infrastructure.ratelimit.RateLimitResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 별 요청 제한 (토큰 버킷)
+ * 토큰 검증을 거친 요청은 회원 고유번호(memberId), 그 외(/auth/login 등)는 클라이언트 IP 별로 제한하며
+ * 제한을 넘은 요청은 하위 서비스로 전달하지 않고 바로 429 와 Retry-After 로 응답한다.
+ *
+ * 회원 별로 제한하려면 라우트 필터 목록에서 JwtAuthVerifyFilter 뒤에 둔다.
+ * <pre>
+ * filters:
+ *   - JwtAuthVerifyFilter
+ *   - name: RateLimitFilter
+ *     args:
+ *       burstCapacity: 20
+ *       replenishRate: 10
+ *       replenishPeriod: 1s
+ * </pre>
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimitBackend rateLimitBackend;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>(); // 라우트, 결과 별 요청 수
+
+    private final byte[] rejectedBody; // 미리 직렬화한 429 응답 본문
+
+    public RateLimitFilter(RateLimitBackend rateLimitBackend, MeterRegistry meterRegistry, ObjectMapper objectMapper) throws JsonProcessingException {
+        super(RateLimitFilter.Config.class);
+        this.rateLimitBackend = rateLimitBackend;
+        this.meterRegistry = meterRegistry;
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("rt", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("rtMsg", ExceptionMessage.TooManyRequests.getMessage());
+        this.rejectedBody = objectMapper.writeValueAsBytes(body);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+
+        // 정책, IP 추출 방식은 라우트 생성 시 한 번만 만든다.
+        RateLimitPolicy policy = RateLimitPolicy.of(config.getBurstCapacity(), config.getReplenishRate(), config.getReplenishPeriod());
+        RemoteAddressResolver remoteAddressResolver = config.getTrustedProxies() > 0
+            ? XForwardedRemoteAddressResolver.maxTrustedIndex(config.getTrustedProxies())
+            : new RemoteAddressResolver() {};
+
+        return ((exchange, chain) -> {
+
+            String key = resolveKey(exchange, config.getKeyType(), remoteAddressResolver);
+            if (key == null) return chain.filter(exchange);  // 요청자를 식별할 수 없으면 제한하지 않음
+
+            String routeId = routeId(exchange);
+
+            return rateLimitBackend.tryConsume(routeId + ':' + key, policy)
+                .onErrorResume(e -> {
+                    // 저장소 장애로 전체 요청이 막히지 않도록 허용
+                    log.warn("===== 요청 제한 판정 실패 >>> route: {}, {} =====", routeId, e.toString());
+                    return Mono.just(RateLimitResult.unknown());
+                })
+                .flatMap(result -> {
+                    if (result.isAllowed()) {
+                        counter(routeId, "allowed").increment();
+                        if (result.getRemaining() >= 0) {
+                            exchange.getResponse().getHeaders().set(REMAINING_HEADER, Long.toString(result.getRemaining()));
+                        }
+                        return chain.filter(exchange);
+                    }
+
+                    counter(routeId, "rejected").increment();
+                    return reject(exchange, result);
+                });
+        });
+    }
+
+    /**
+     * 제한 초과 응답 작성 (이후 필터, 라우팅 생략)
+     * @param exchange : 요청 정보
+     * @param result : 판정 결과
+     * @return Mono<Void> : 응답 완료
+     */
+    private Mono<Void> reject(ServerWebExchange exchange, RateLimitResult result) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(rejectedBody.length);
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds(result.getRetryAfterNanos())));
+        headers.set(REMAINING_HEADER, "0");
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(rejectedBody)));
+    }
+
+    /**
+     * 버킷 키 추출
+     * @param exchange : 요청 정보
+     * @param keyType : 제한 기준
+     * @param remoteAddressResolver : 클라이언트 IP 추출
+     * @return String : 버킷 키 (식별할 수 없으면 null)
+     */
+    private static String resolveKey(ServerWebExchange exchange, KeyType keyType, RemoteAddressResolver remoteAddressResolver) {
+        if (keyType == KeyType.MEMBER) {
+            Claims claims = exchange.getAttribute(JwtProvider.CLAIMS_ATTRIBUTE);
+            Object memberId = claims == null ? null : claims.get("memberId");
+            if (memberId != null) return "member:" + memberId;
+        }
+
+        InetSocketAddress address = remoteAddressResolver.resolve(exchange);
+        if (address == null) return null;
+
+        return "ip:" + (address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString());
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private static long retryAfterSeconds(long retryAfterNanos) {
+        return Math.max(1, (retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private Counter counter(String routeId, String result) {
+        String name = routeId + ':' + result;
+        Counter counter = counters.get(name);
+        if (counter != null) return counter;
+
+        return counters.computeIfAbsent(name, k -> Counter.builder("bitbank.gateway.ratelimit.requests")
+            .description("요청 제한 판정 수")
+            .tag("route", routeId)
+            .tag("result", result)
+            .register(meterRegistry));
+    }
+
+    /**
+     * 제한 기준
+     */
+    public enum KeyType {
+        MEMBER, // 회원 고유번호 (토큰 검증 전이면 IP)
+        IP      // 클라이언트 IP
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        private int burstCapacity = 20; // 버킷 최대 토큰 수 (순간 허용 요청 수)
+
+        private int replenishRate = 10; // replenishPeriod 당 채워지는 토큰 수
+
+        private Duration replenishPeriod = Duration.ofSeconds(1);
+
+        private KeyType keyType = KeyType.MEMBER;
+
+        private int trustedProxies = 0; // X-Forwarded-For 에서 신뢰할 프록시 수 (0 이면 연결된 주소 사용)
+    }
+}
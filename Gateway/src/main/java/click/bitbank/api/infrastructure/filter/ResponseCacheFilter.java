@@ -0,0 +1,162 @@
+package click.bitbank.api.infrastructure.filter;
+
+import click.bitbank.api.infrastructure.cache.CachedResponse;
+import click.bitbank.api.infrastructure.cache.ResponseCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 조회 응답 캐시 및 동일 요청 병합
+ * 설정된 GET 라우트의 HTTP 200, rt 200 응답 본문을 짧은 시간 캐시하고, 같은 요청이 동시에 들어오면 하위 서비스는 한 번만 호출한다.
+ * 캐시된 응답에는 ETag, Cache-Control 을 붙이며 If-None-Match 가 일치하면 304 로 응답한다.
+ *
+ * 응답 본문을 가로채야 하므로 이 필터는 NettyWriteResponseFilter 보다 먼저 실행되어 응답을 CachingResponse 로 감싸기만 하고,
+ * 캐시 조회, 병합은 라우트 필터(토큰 검증, 권한 확인, 요청 제한)가 모두 끝난 뒤 ResponseCacheLookupFilter 에서 처리한다.
+ * 따라서 캐시된 응답도 라우트와 같은 인증, 권한, 요청 제한을 거치며, 라우트 필터가 직접 작성한 응답(토큰 거부, 429 등)은 캐시하지 않는다.
+ * <pre>
+ * filters:
+ *   - JwtAuthVerifyFilter
+ *   - name: ResponseCacheFilter
+ *     args:
+ *       ttl: 5s
+ *       varyByMember: false  # 회원과 관계없이 같은 응답인 경우 (인기 카드 목록 등)
+ * </pre>
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    public static final String CACHING_RESPONSE_ATTRIBUTE = ResponseCacheFilter.class.getName() + ".cachingResponse"; // 조회 단계에서 사용할 응답 (exchange 속성 이름)
+
+    private static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        super(ResponseCacheFilter.Config.class);
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+
+            // 조회 단계(ResponseCacheLookupFilter)에서 캐시 키를 정하기 전까지는 그대로 전달
+            CachingResponse response = new CachingResponse(exchange.getResponse(), responseCache, config);
+            exchange.getAttributes().put(CACHING_RESPONSE_ATTRIBUTE, response);
+
+            return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> response.abandon());   // 응답 본문을 캐시하지 못하고 끝난 경우 (오류, 취소, 스트리밍 응답 등)
+        }, ORDER);
+    }
+
+    static void setCacheHeaders(HttpHeaders headers, CachedResponse cached, Config config) {
+        headers.setETag(cached.getEtag());
+        headers.setCacheControl((config.isAuthenticated() ? "private" : "public") + ", max-age=" + cached.remainingSeconds());
+    }
+
+    /**
+     * 하위 서비스 응답 본문을 캐시하고 기다리던 요청에 전달하는 응답
+     * 조회 단계에서 arm 으로 캐시 키를 받은 경우에만 본문을 캐시하고, 그 전에 작성된 응답(라우트 필터의 거부 응답 등)은 그대로 전달한다.
+     */
+    static class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ResponseCache responseCache;
+
+        @Getter
+        private final Config config;
+
+        private final long ttlNanos;
+
+        private final long maxEntryBytes;
+
+        private String key; // 캐시 키 (arm 이전에는 null)
+
+        private CompletableFuture<CachedResponse> flight;   // 이 요청의 결과를 기다리는 요청에 전달할 결과
+
+        CachingResponse(ServerHttpResponse delegate, ResponseCache responseCache, Config config) {
+            super(delegate);
+            this.responseCache = responseCache;
+            this.config = config;
+            this.ttlNanos = config.getTtl().toNanos();
+            this.maxEntryBytes = config.getMaxEntrySize().toBytes();
+        }
+
+        /**
+         * 하위 서비스 응답을 캐시하도록 설정 (조회 단계에서 캐시가 없고 처리 중인 같은 요청도 없는 경우)
+         * @param key : 캐시 키
+         * @param flight : ResponseCache.join 으로 등록한 결과
+         */
+        void arm(String key, CompletableFuture<CachedResponse> flight) {
+            this.key = key;
+            this.flight = flight;
+        }
+
+        /**
+         * 캐시하지 못하고 끝난 요청의 결과 완료 (기다리던 요청은 각자 하위 서비스 호출)
+         */
+        void abandon() {
+            if (flight != null && !flight.isDone()) responseCache.complete(key, flight, null);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (flight == null || flight.isDone()) return super.writeWith(body);
+
+            HttpHeaders headers = getHeaders();
+
+            // 200 이 아니거나 본문이 너무 큰 응답은 그대로 전달
+            if ((getStatusCode() != null && getStatusCode() != HttpStatus.OK) || headers.getContentLength() > maxEntryBytes) {
+                responseCache.complete(key, flight, null);
+                return super.writeWith(body);
+            }
+
+            return DataBufferUtils.join(body).flatMap(buffer -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                DataBufferUtils.release(buffer);
+
+                // 오류(rt 가 200 이 아닌 응답)는 캐시하지 않고 기다리던 요청도 각자 하위 서비스 호출
+                CachedResponse cached = bytes.length <= maxEntryBytes && CachedResponse.isSuccessBody(bytes)
+                    ? new CachedResponse(bytes, headers.getContentType(), ttlNanos)
+                    : null;
+                responseCache.complete(key, flight, cached);
+
+                if (cached != null) setCacheHeaders(headers, cached, config);
+                headers.remove(HttpHeaders.TRANSFER_ENCODING);
+                headers.setContentLength(bytes.length);
+                return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+            });
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+
+        private Duration ttl = Duration.ofSeconds(5); // 캐시 유지 시간
+
+        private DataSize maxEntrySize = DataSize.ofKilobytes(256); // 캐시할 응답 본문 최대 크기
+
+        private boolean authenticated = true; // 유효한 토큰이 있는 요청만 캐시 사용
+
+        private boolean varyByMember = true; // 회원 별로 캐시 (회원마다 응답이 다른 경우)
+    }
+}
@@ -0,0 +1,185 @@
+package click.bitbank.api.infrastructure.filter;
+
+import click.bitbank.api.infrastructure.cache.CachedResponse;
+import click.bitbank.api.infrastructure.cache.ResponseCache;
+import click.bitbank.api.infrastructure.filter.ResponseCacheFilter.CachingResponse;
+import click.bitbank.api.infrastructure.filter.ResponseCacheFilter.Config;
+import click.bitbank.api.infrastructure.jwt.JwtProvider;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 응답 캐시 조회 및 동일 요청 병합 (ResponseCacheFilter 가 설정된 라우트만)
+ * 라우트 필터(토큰 검증, 권한 확인, 요청 제한)가 모두 끝나고 하위 서비스로 라우팅하기 직전에 실행되므로
+ * 캐시된 응답은 라우트 필터를 통과한 요청에만 전달된다.
+ */
+@Component
+public class ResponseCacheLookupFilter implements GlobalFilter, Ordered {
+
+    private final ResponseCache responseCache;
+
+    private final JwtProvider jwtProvider;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>(); // 라우트, 결과 별 요청 수
+
+    public ResponseCacheLookupFilter(ResponseCache responseCache, JwtProvider jwtProvider, MeterRegistry meterRegistry) {
+        this.responseCache = responseCache;
+        this.jwtProvider = jwtProvider;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        CachingResponse cachingResponse = exchange.getAttribute(ResponseCacheFilter.CACHING_RESPONSE_ATTRIBUTE);
+        if (cachingResponse == null) return chain.filter(exchange);
+
+        Config config = cachingResponse.getConfig();
+        ServerHttpRequest request = exchange.getRequest();
+        String routeId = routeId(exchange);
+
+        if (request.getMethod() != HttpMethod.GET || isNoCache(request.getHeaders())) {
+            counter(routeId, "bypass").increment();
+            return chain.filter(exchange);
+        }
+
+        String key = cacheKey(exchange, routeId, config);
+        if (key == null) {
+            counter(routeId, "bypass").increment();
+            return chain.filter(exchange);
+        }
+
+        // 캐시된 응답
+        CachedResponse cached = responseCache.getIfPresent(key);
+        if (cached != null) {
+            counter(routeId, "hit").increment();
+            return writeCached(exchange, cached, config);
+        }
+
+        // 같은 요청이 처리 중이면 결과를 함께 기다림 (캐시할 수 없는 응답이면 직접 호출)
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = responseCache.join(key, flight);
+        if (leader != null) {
+            counter(routeId, "coalesced").increment();
+            return Mono.fromFuture(leader.thenApply(Optional::ofNullable))
+                .flatMap(response -> response
+                    .map(coalesced -> writeCached(exchange, coalesced, config))
+                    .orElseGet(() -> chain.filter(exchange)));
+        }
+
+        counter(routeId, "miss").increment();
+        cachingResponse.arm(key, flight);   // 결과 완료는 응답 작성(CachingResponse) 또는 ResponseCacheFilter 의 doFinally 에서 처리
+        return chain.filter(exchange);
+    }
+
+    // 라우트 필터(기본 순서 1 ~ 필터 수) 이후, 요청 URL 설정(RouteToRequestUrlFilter) 이전에 실행
+    @Override
+    public int getOrder() {
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER - 1;
+    }
+
+    /**
+     * 캐시 키 (라우트 + 경로 + 쿼리, varyByMember 이면 회원 고유번호 포함)
+     * 라우트의 토큰 검증 필터에서 검증된 Claims 는 exchange 에서 재사용한다.
+     *
+     * @param exchange : 요청 정보
+     * @param routeId : 라우트 ID
+     * @param config : 필터 설정
+     * @return String : 캐시 키 (캐시를 사용할 수 없으면 null)
+     */
+    private String cacheKey(ServerWebExchange exchange, String routeId, Config config) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getURI().getRawPath());
+        String query = request.getURI().getRawQuery();
+        if (query != null) key.append('?').append(query);
+
+        if (!config.isAuthenticated()) return key.toString();
+
+        String token = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (token == null) return null;
+
+        TokenVerifyResult result = jwtProvider.verify(exchange, token);
+        if (!result.isValid()) return null;
+
+        if (config.isVaryByMember()) {
+            Object memberId = result.getClaims().get("memberId");
+            if (memberId == null) return null;
+            key.append(" member:").append(memberId);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 캐시된 응답 작성
+     * @param exchange : 요청 정보
+     * @param cached : 캐시된 응답
+     * @param config : 필터 설정
+     * @return Mono<Void> : 응답 완료
+     */
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, Config config) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        ResponseCacheFilter.setCacheHeaders(headers, cached, config);
+        headers.set(HttpHeaders.AGE, Long.toString(cached.ageSeconds()));
+
+        if (cached.getEtag().equals(exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (cached.getContentType() != null) headers.setContentType(cached.getContentType());
+        headers.setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private static boolean isNoCache(HttpHeaders headers) {
+        List<String> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+        if (cacheControl == null) return false;
+
+        for (String value : cacheControl) {
+            if (value.contains("no-cache") || value.contains("no-store")) return true;
+        }
+        return false;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+
+    private Counter counter(String routeId, String result) {
+        String name = routeId + ':' + result;
+        Counter counter = counters.get(name);
+        if (counter != null) return counter;
+
+        return counters.computeIfAbsent(name, k -> Counter.builder("bitbank.gateway.response-cache.requests")
+            .description("응답 캐시 사용 결과 별 요청 수")
+            .tag("route", routeId)
+            .tag("result", result)
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,65 @@
+package click.bitbank.api.infrastructure.filter;
+
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult.Reason;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 토큰 검증 실패 응답
+ * 사유 별 응답 본문({"rt":401,"rtMsg":"..."})을 기동 시 미리 직렬화해 두고 예외 없이 바로 응답한다.
+ * 다른 오류와 같이 HTTP 상태는 200, 실제 결과는 rt 로 전달한다.
+ */
+@Component
+public class TokenRejectionResponder {
+
+    private final Map<Reason, byte[]> bodies = new EnumMap<>(Reason.class);
+
+    private final Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+
+    public TokenRejectionResponder(ObjectMapper objectMapper, MeterRegistry meterRegistry) throws JsonProcessingException {
+        for (Reason reason : Reason.values()) {
+            if (reason == Reason.VALID) continue;
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("rt", HttpStatus.UNAUTHORIZED.value());
+            body.put("rtMsg", reason.getExceptionMessage().getMessage());
+            bodies.put(reason, objectMapper.writeValueAsBytes(body));
+
+            counters.put(reason, Counter.builder("bitbank.gateway.auth.rejected")
+                .description("토큰 검증 실패 요청 수")
+                .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 검증 실패 응답 작성 (이후 필터, 라우팅 생략)
+     * @param exchange : 요청 정보
+     * @param reason : 검증 실패 사유
+     * @return Mono<Void> : 응답 완료
+     */
+    public Mono<Void> reject(ServerWebExchange exchange, Reason reason) {
+        counters.get(reason).increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        byte[] body = bodies.get(reason);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
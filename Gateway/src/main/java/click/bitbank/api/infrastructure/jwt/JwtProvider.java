@@ -1,8 +1,11 @@
 package click.bitbank.api.infrastructure.jwt;
 
-import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.infrastructure.cache.VerifiedTokenCache;
 import click.bitbank.api.infrastructure.exception.status.UnauthorizedException;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult.Reason;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -11,52 +14,110 @@ import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
 
-import javax.crypto.SecretKey;
+import java.util.Objects;
 
 @Component
 public class JwtProvider {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    public static final String CLAIMS_ATTRIBUTE = JwtProvider.class.getName() + ".claims"; // 검증된 Claims 를 저장할 exchange 속성 이름
 
-    public boolean validateToken(String token){
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    private final JwtParser jwtParser;  // 서명 키가 설정된 불변 파서 (스레드 안전)
 
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parse(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            throw new UnauthorizedException(ExceptionMessage.ExpiredToken.getMessage());
-        } catch (MalformedJwtException e) {
-            throw new UnauthorizedException(ExceptionMessage.MalformedToken.getMessage());
-        } catch (SignatureException e) {
-            throw new UnauthorizedException(ExceptionMessage.SignatureVerifyToken.getMessage());
-        } catch (IllegalArgumentException e) {
-            throw new UnauthorizedException(ExceptionMessage.IllegalArgumentToken.getMessage());
-        } catch (Exception e) {
-            throw new UnauthorizedException(ExceptionMessage.VerifyFailToken.getMessage());
-        }
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtProvider(@Value("${jwt.secret}") String secret, VerifiedTokenCache verifiedTokenCache) {
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+            .build();
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    public boolean validateToken(String token) {
+        this.verifyOrThrow(token);
+        return true;
     }
 
     public String getMemberTypeFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return this.getMemberType(this.verifyOrThrow(token));
+    }
+
+    /**
+     * 토큰 검증 후 Claims 를 exchange 속성에 저장
+     * 같은 요청에서 이미 검증된 경우 다시 검증하지 않고 저장된 Claims 반환
+     * 이전 요청에서 검증된 토큰은 검증된 토큰 캐시에서 조회
+     * @param exchange : 요청 정보
+     * @param token : 토큰
+     * @return TokenVerifyResult : 검증 결과
+     */
+    public TokenVerifyResult verify(ServerWebExchange exchange, String token) {
+        Claims claims = exchange.getAttribute(CLAIMS_ATTRIBUTE);
+        if (claims != null) return TokenVerifyResult.valid(claims);
+
+        TokenVerifyResult result = verifiedTokenCache.get(token, this::verify);
+        if (result.isValid()) exchange.getAttributes().put(CLAIMS_ATTRIBUTE, result.getClaims());
+        return result;
+    }
+
+    /**
+     * 토큰 서명 검증 및 Claims 추출
+     * 형식이 맞지 않는 토큰은 파싱 전에 거부
+     * @param token : 토큰
+     * @return TokenVerifyResult : 검증 결과
+     */
+    public TokenVerifyResult verify(String token) {
+        if (token == null || token.isBlank()) return TokenVerifyResult.reject(Reason.ILLEGAL_ARGUMENT);
+        if (!isCompactJws(token)) return TokenVerifyResult.reject(Reason.MALFORMED);
+
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().get("memberType").toString();
+            return TokenVerifyResult.valid(jwtParser.parseClaimsJws(token).getBody());
         } catch (ExpiredJwtException e) {
-            throw new UnauthorizedException(ExceptionMessage.ExpiredToken.getMessage());
+            return TokenVerifyResult.reject(Reason.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            throw new UnauthorizedException(ExceptionMessage.UnsupportedToken.getMessage());
+            return TokenVerifyResult.reject(Reason.UNSUPPORTED);
         } catch (MalformedJwtException e) {
-            throw new UnauthorizedException(ExceptionMessage.MalformedToken.getMessage());
+            return TokenVerifyResult.reject(Reason.MALFORMED);
         } catch (SignatureException e) {
-            throw new UnauthorizedException(ExceptionMessage.SignatureVerifyToken.getMessage());
+            return TokenVerifyResult.reject(Reason.SIGNATURE);
         } catch (IllegalArgumentException e) {
-            throw new UnauthorizedException(ExceptionMessage.IllegalArgumentToken.getMessage());
+            return TokenVerifyResult.reject(Reason.ILLEGAL_ARGUMENT);
         } catch (Exception e) {
-            throw new UnauthorizedException(ExceptionMessage.VerifyFailToken.getMessage());
+            return TokenVerifyResult.reject(Reason.INVALID);
         }
     }
 
+    /**
+     * 회원 권한 추출
+     * @param claims : 토큰 정보
+     * @return String : 회원 권한 (없으면 null)
+     */
+    public String getMemberType(Claims claims) {
+        return Objects.toString(claims.get("memberType"), null);
+    }
 
+    /**
+     * 토큰 검증 (실패 시 UnauthorizedException)
+     * @param token : 토큰
+     * @return Claims : 토큰 정보
+     */
+    private Claims verifyOrThrow(String token) {
+        TokenVerifyResult result = this.verify(token);
+        if (!result.isValid()) throw new UnauthorizedException(result.getReason().getExceptionMessage().getMessage());
+
+        return result.getClaims();
+    }
+
+    /**
+     * header.payload.signature 형식 여부 (점 2개)
+     * @param token : 토큰
+     * @return boolean : 형식 일치 여부
+     */
+    private static boolean isCompactJws(String token) {
+        int first = token.indexOf('.');
+        if (first < 0) return false;
+
+        int second = token.indexOf('.', first + 1);
+        return second > 0 && token.indexOf('.', second + 1) < 0;
+    }
 }
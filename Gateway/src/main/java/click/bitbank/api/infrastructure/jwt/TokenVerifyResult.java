@@ -0,0 +1,61 @@
+package click.bitbank.api.infrastructure.jwt;
+
+import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 토큰 검증 결과
+ * 검증 실패를 예외 대신 사유로 반환해 거부된 요청이 스택 트레이스 생성, 전역 예외 처리를 거치지 않도록 한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerifyResult {
+
+    private static final TokenVerifyResult[] REJECTED = new TokenVerifyResult[Reason.values().length];   // 사유 별 검증 실패 결과 (재사용)
+
+    static {
+        for (Reason reason : Reason.values()) REJECTED[reason.ordinal()] = new TokenVerifyResult(null, reason);
+    }
+
+    private final Claims claims; // 검증된 토큰 정보 (실패 시 null)
+
+    private final Reason reason; // 검증 결과 사유
+
+    public static TokenVerifyResult valid(Claims claims) {
+        return new TokenVerifyResult(claims, Reason.VALID);
+    }
+
+    public static TokenVerifyResult reject(Reason reason) {
+        return REJECTED[reason.ordinal()];
+    }
+
+    public boolean isValid() {
+        return reason == Reason.VALID;
+    }
+
+    /**
+     * 검증 결과 사유
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Reason {
+
+        VALID(null),
+        MISSING(ExceptionMessage.IsRequiredToken),
+        FORBIDDEN(ExceptionMessage.AuthVerifyAccessDenied),
+        EXPIRED(ExceptionMessage.ExpiredToken),
+        UNSUPPORTED(ExceptionMessage.UnsupportedToken),
+        MALFORMED(ExceptionMessage.MalformedToken),
+        SIGNATURE(ExceptionMessage.SignatureVerifyToken),
+        ILLEGAL_ARGUMENT(ExceptionMessage.IllegalArgumentToken),
+        REVOKED(ExceptionMessage.RevokedToken),
+        INVALID(ExceptionMessage.VerifyFailToken);
+
+        private final ExceptionMessage exceptionMessage; // 거부 시 응답 메시지
+    }
+}
@@ -0,0 +1,47 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 감사 이벤트 (request-topic, response-topic, exception-topic 공통 스키마)
+ * 스키마 정의 : KafkaELK/audit-event.schema.json
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AuditEvent {
+
+    private Type type;  // 이벤트 유형
+
+    private String service; // 발행 서비스
+
+    private String route;   // 라우트 패턴 (없으면 요청 경로)
+
+    private String method;  // HTTP Method
+
+    private Integer memberId;   // 회원 고유번호
+
+    private Integer status; // 결과 코드 (rt)
+
+    private Long latencyMs; // 요청 처리 시간 (ms)
+
+    private int payloadSize;    // 요청, 응답, 예외 내용의 JSON 크기 (byte)
+
+    private String message; // 예외 메시지 (exception 만)
+
+    private long timestamp; // 발생 시각 (epoch millis)
+
+    public enum Type {
+        REQUEST, RESPONSE, EXCEPTION;
+
+        @JsonValue
+        public String value() {
+            return name().toLowerCase();
+        }
+    }
+}
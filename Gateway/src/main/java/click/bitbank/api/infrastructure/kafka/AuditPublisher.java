@@ -0,0 +1,197 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
+/**
+ * 감사 이벤트 비동기 발행기
+ * 요청 경로에서는 링 버퍼에 레코드를 넣기만 하고(가득 차면 버리고 카운트),
+ * drainer 가 KafkaSender 의 요청량(in-flight 제한)만큼 버퍼에서 꺼내 AuditEvent JSON 으로 발행한다.
+ * 배치 전송은 Kafka Producer 의 linger.ms / compression 설정에 맡긴다.
+ */
+@Slf4j
+@Component
+public class AuditPublisher {
+
+    private static final String METRIC_PREFIX = "bitbank.audit.";
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofSeconds(30);   // 발행 재시작 최대 대기
+
+    private final KafkaSender<String, byte[]> auditKafkaSender;
+
+    private final ObjectMapper objectMapper;
+
+    private final AuditRingBuffer<AuditRecord> ringBuffer;
+
+    private final String service;   // 발행 서비스
+
+    private final Duration drainInterval;   // 버퍼 확인 간격
+
+    private final Duration retryBackoff;    // 발행 중단 시 재시작 최초 대기
+
+    private final Counter enqueuedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter sentCounter;
+
+    private final Counter failedCounter;
+
+    private final Scheduler drainer = Schedulers.newSingle("audit-drainer", true);
+
+    private Disposable subscription;
+
+    public AuditPublisher(KafkaSender<String, byte[]> auditKafkaSender,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.application.name:gateway}") String service,
+                          @Value("${audit.buffer-size:8192}") int bufferSize,
+                          @Value("${audit.drain-interval:50ms}") Duration drainInterval,
+                          @Value("${audit.retry-backoff:1s}") Duration retryBackoff) {
+        this.auditKafkaSender = auditKafkaSender;
+        this.objectMapper = objectMapper;
+        this.ringBuffer = new AuditRingBuffer<>(bufferSize);
+        this.service = service;
+        this.drainInterval = drainInterval;
+        this.retryBackoff = retryBackoff;
+
+        this.enqueuedCounter = meterRegistry.counter(METRIC_PREFIX + "enqueued");
+        this.droppedCounter = meterRegistry.counter(METRIC_PREFIX + "dropped");
+        this.sentCounter = meterRegistry.counter(METRIC_PREFIX + "sent");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + "failed");
+        meterRegistry.gauge(METRIC_PREFIX + "buffer.size", ringBuffer, AuditRingBuffer::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 주기적으로 버퍼를 확인하고, 버퍼가 빌 때까지 KafkaSender 의 요청량만큼 꺼내서 발행
+        Flux<SenderRecord<String, byte[], Void>> records = Flux.interval(drainInterval, drainer)
+            .onBackpressureDrop()
+            .concatMap(tick -> pollUntilEmpty(), 1);
+
+        // 발행이 오류로 중단되면(브로커 장애, 인증 실패 등) 대기 후 다시 구독 (중단된 동안 버퍼가 가득 차면 버리고 카운트)
+        subscription = send(records)
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, retryBackoff)
+                .maxBackoff(MAX_RETRY_BACKOFF)
+                .doBeforeRetry(signal -> log.warn("===== 감사 이벤트 발행 재시작 >>> {}회 =====", signal.totalRetries() + 1)))
+            .subscribe();
+    }
+
+    /**
+     * 종료 시 남은 레코드 발행
+     * 버퍼 소비는 모두 drainer 스레드에서 실행되므로, 구독 해제 후 진행 중이던 소비가 끝난 다음 마지막 소비가 실행된다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) subscription.dispose();
+        send(pollUntilEmpty()).then().block(Duration.ofSeconds(5));
+        drainer.dispose();
+    }
+
+    /**
+     * 감사 로그 발행 요청 (대기 없음)
+     *
+     * @param record : 감사 로그 레코드
+     */
+    public void publish(AuditRecord record) {
+        if (ringBuffer.offer(record)) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment(); // 버퍼가 가득 찬 경우 요청을 지연시키지 않고 버림
+        }
+    }
+
+    /**
+     * Kafka 발행 및 결과 카운트
+     *
+     * @param records : 발행할 레코드
+     * @return Flux<?> : 발행 결과
+     */
+    private Flux<?> send(Flux<SenderRecord<String, byte[], Void>> records) {
+        return auditKafkaSender.send(records)
+            .doOnNext(result -> {
+                if (result.exception() == null) {
+                    sentCounter.increment();
+                } else {
+                    failedCounter.increment();
+                }
+            })
+            .doOnError(throwable -> log.warn("===== 감사 이벤트 발행 중단 >>> {} =====", throwable.toString()));
+    }
+
+    /**
+     * 버퍼가 빌 때까지 요청량만큼 꺼내기
+     * 링 버퍼는 단일 소비자 전제이므로 구독과 요청(KafkaSender 스레드에서 오는 요청 포함)을 모두 drainer 스레드에서 처리한다.
+     *
+     * @return Flux<SenderRecord> : 발행할 레코드
+     */
+    private Flux<SenderRecord<String, byte[], Void>> pollUntilEmpty() {
+        return Flux.<AuditRecord>generate(sink -> {
+                AuditRecord record = ringBuffer.poll();
+                if (record == null) {
+                    sink.complete();
+                } else {
+                    sink.next(record);
+                }
+            })
+            .subscribeOn(drainer)
+            .map(record -> SenderRecord.create(new ProducerRecord<String, byte[]>(record.getTopic(), null, serialize(record)), null));
+    }
+
+    /**
+     * 레코드 -> AuditEvent JSON 변환
+     * 내용은 크기만 기록하고, 회원 고유번호, 결과 코드가 요청 파라미터에 없으면 내용에서 추출한다.
+     *
+     * @param record : 감사 로그 레코드
+     * @return byte[] : AuditEvent JSON
+     */
+    byte[] serialize(AuditRecord record) {
+        AuditEvent.AuditEventBuilder builder = AuditEvent.builder()
+            .type(record.getType())
+            .service(service)
+            .route(record.getRoute())
+            .method(record.getMethod())
+            .memberId(record.getMemberId())
+            .latencyMs(record.getLatencyMs())
+            .timestamp(record.getTimestamp());
+
+        if (record.getType() == AuditEvent.Type.RESPONSE) builder.status(200);
+
+        try {
+            if (record.getPayload() != null) {
+                JsonNode payload = objectMapper.valueToTree(record.getPayload());
+                builder.payloadSize(objectMapper.writeValueAsBytes(payload).length);
+
+                if (record.getMemberId() == null && payload.path("memberId").canConvertToInt()) builder.memberId(payload.path("memberId").intValue());
+                if (payload.path("rt").canConvertToInt()) builder.status(payload.path("rt").intValue());
+                if (record.getType() == AuditEvent.Type.EXCEPTION && payload.path("rtMsg").isTextual()) builder.message(payload.path("rtMsg").textValue());
+            }
+
+            return objectMapper.writeValueAsBytes(builder.build());
+        } catch (Exception e) {
+            // 직렬화할 수 없는 내용은 크기를 기록하지 않음
+            try {
+                return objectMapper.writeValueAsBytes(builder.payloadSize(-1).build());
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
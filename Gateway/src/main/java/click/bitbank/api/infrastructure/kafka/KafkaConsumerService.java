@@ -0,0 +1,28 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import click.bitbank.api.infrastructure.cache.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaConsumerService {
+
+    private static final String TOKEN_REVOKED_TOPIC = "token-revoked-topic";
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * Kafka token-revoked-topic 메시지 받기
+     * 모든 Gateway 인스턴스에서 폐기해야 하므로 인스턴스마다 고유한 Consumer Group 으로 구독
+     * @param record : key - 회원 고유번호, value - 폐기 시각 (epoch ms)
+     */
+    @KafkaListener(topics = TOKEN_REVOKED_TOPIC, groupId = "gateway-token-revoked-#{T(java.util.UUID).randomUUID().toString()}")
+    public void consumeTokenRevokedTopic(ConsumerRecord<String, String> record) {
+
+        verifiedTokenCache.revoke(Integer.parseInt(record.key()), Long.parseLong(record.value()));
+    }
+}
@@ -0,0 +1,57 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 로컬 메모리 토큰 버킷 저장소
+ * 제한은 Gateway 인스턴스 별로 적용되며, 일정 시간 요청이 없는 버킷은 제거한다. (제거된 버킷은 가득 찬 상태로 다시 생성)
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    private static final String CACHE_NAME = "rateLimitBucket";
+
+    private final Cache<String, TokenBucket> buckets;
+
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimitBackend(MeterRegistry meterRegistry, long maximumSize, Duration idleTtl) {
+        this(meterRegistry, maximumSize, idleTtl, System::nanoTime);
+    }
+
+    LocalRateLimitBackend(MeterRegistry meterRegistry, long maximumSize, Duration idleTtl, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(idleTtl)
+            .recordStats()
+            .build();
+        this.nanoClock = nanoClock;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<RateLimitResult> tryConsume(String key, RateLimitPolicy policy) {
+        return Mono.just(this.consume(key, policy));
+    }
+
+    /**
+     * 토큰 1개 소비 (동기)
+     * @param key : 버킷 키
+     * @param policy : 토큰 버킷 정책
+     * @return RateLimitResult : 판정 결과
+     */
+    RateLimitResult consume(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) bucket = buckets.get(key, k -> new TokenBucket(now));
+
+        return bucket.tryConsume(policy, now);
+    }
+}
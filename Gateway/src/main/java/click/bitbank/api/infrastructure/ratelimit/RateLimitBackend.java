@@ -0,0 +1,19 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 토큰 버킷 저장소
+ * 기본은 인스턴스 로컬 메모리(LocalRateLimitBackend)이며, Redis 등 인스턴스 간 공유 저장소가 필요하면
+ * ratelimit.backend 속성을 바꾸고 해당 값으로 조건을 건 구현 Bean 을 등록해 교체한다. (RateLimitConfig 참고)
+ */
+public interface RateLimitBackend {
+
+    /**
+     * 토큰 1개 소비 시도
+     * @param key : 버킷 키 (라우트 + 회원 또는 IP)
+     * @param policy : 토큰 버킷 정책
+     * @return Mono<RateLimitResult> : 판정 결과
+     */
+    Mono<RateLimitResult> tryConsume(String key, RateLimitPolicy policy);
+}
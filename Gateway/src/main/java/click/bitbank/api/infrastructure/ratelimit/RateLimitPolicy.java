@@ -0,0 +1,46 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 정책
+ * replenishPeriod 마다 replenishRate 개의 토큰이 채워지고, 최대 burstCapacity 개까지 모아 한 번에 사용할 수 있다.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RateLimitPolicy {
+
+    private final int burstCapacity; // 버킷 최대 토큰 수
+
+    private final long emissionIntervalNanos; // 토큰 하나가 채워지는 간격
+
+    private final long burstToleranceNanos; // 버킷이 가득 찰 때까지의 시간 (emissionInterval * burstCapacity)
+
+    private RateLimitPolicy(int burstCapacity, long emissionIntervalNanos) {
+        this.burstCapacity = burstCapacity;
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.burstToleranceNanos = Math.multiplyExact(emissionIntervalNanos, (long) burstCapacity);
+    }
+
+    /**
+     * 정책 생성
+     * @param burstCapacity : 버킷 최대 토큰 수
+     * @param replenishRate : 기간 당 채워지는 토큰 수
+     * @param replenishPeriod : 토큰이 채워지는 기간
+     * @return RateLimitPolicy : 토큰 버킷 정책
+     */
+    public static RateLimitPolicy of(int burstCapacity, int replenishRate, Duration replenishPeriod) {
+        if (burstCapacity < 1) throw new IllegalArgumentException("burstCapacity 는 1 이상이어야 합니다.");
+        if (replenishRate < 1) throw new IllegalArgumentException("replenishRate 는 1 이상이어야 합니다.");
+        if (replenishPeriod == null || replenishPeriod.isNegative() || replenishPeriod.isZero()) {
+            throw new IllegalArgumentException("replenishPeriod 는 0 보다 커야 합니다.");
+        }
+
+        return new RateLimitPolicy(burstCapacity, Math.max(1, replenishPeriod.toNanos() / replenishRate));
+    }
+}
@@ -0,0 +1,39 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 요청 제한 판정 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RateLimitResult {
+
+    private static final RateLimitResult UNKNOWN = new RateLimitResult(true, -1, 0);
+
+    private final boolean allowed; // 허용 여부
+
+    private final long remaining; // 남은 토큰 수 (알 수 없으면 -1)
+
+    private final long retryAfterNanos; // 다음 요청이 허용될 때까지 남은 시간 (허용 시 0)
+
+    public static RateLimitResult allowed(long remaining) {
+        return new RateLimitResult(true, remaining, 0);
+    }
+
+    public static RateLimitResult rejected(long retryAfterNanos) {
+        return new RateLimitResult(false, 0, retryAfterNanos);
+    }
+
+    /**
+     * 판정할 수 없는 경우 (저장소 장애 등) 요청 허용
+     * @return RateLimitResult : 남은 토큰 수를 알 수 없는 허용 결과
+     */
+    public static RateLimitResult unknown() {
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,41 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷
+ * 남은 토큰 수 대신 버킷이 다시 가득 차는 이론상 시각(TAT) 하나만 AtomicLong 에 저장하고 CAS 로 갱신한다. (GCRA)
+ * 토큰 하나를 쓸 때마다 TAT 가 emissionInterval 만큼 늘어나고, TAT 가 현재 시각보다 burstTolerance 이상 앞서면 거부한다.
+ */
+class TokenBucket {
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @param policy : 토큰 버킷 정책
+     * @param nowNanos : 현재 시각 (System.nanoTime 기준)
+     * @return RateLimitResult : 판정 결과
+     */
+    RateLimitResult tryConsume(RateLimitPolicy policy, long nowNanos) {
+        long interval = policy.getEmissionIntervalNanos();
+        long tolerance = policy.getBurstToleranceNanos();
+
+        for (;;) {
+            long tat = theoreticalArrivalNanos.get();
+            long newTat = Math.max(tat, nowNanos) + interval;
+            long backlog = newTat - nowNanos;
+
+            // 거부된 요청은 TAT 를 늘리지 않음 (거부가 이어져도 대기 시간이 늘어나지 않도록)
+            if (backlog > tolerance) return RateLimitResult.rejected(backlog - tolerance);
+
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return RateLimitResult.allowed((tolerance - backlog) / interval);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package click.bitbank.api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final ResponseCache responseCache = new ResponseCache(new SimpleMeterRegistry(), 1024 * 1024);
+
+    /**
+     * 처리 중인 요청이 있으면 결과를 함께 기다림
+     */
+    @Test
+    void coalesceInFlightRequest() {
+        // given
+        CompletableFuture<CachedResponse> leader = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> follower = new CompletableFuture<>();
+        CachedResponse response = response("{\"rt\":200}");
+
+        // when
+        CompletableFuture<CachedResponse> leaderJoin = responseCache.join("card /card/popular", leader);
+        CompletableFuture<CachedResponse> followerJoin = responseCache.join("card /card/popular", follower);
+        responseCache.complete("card /card/popular", leader, response);
+
+        // then
+        assertAll(() -> {
+            assertNull(leaderJoin);
+            assertSame(leader, followerJoin);
+            assertSame(response, followerJoin.getNow(null));
+            assertSame(response, responseCache.getIfPresent("card /card/popular"));
+            assertNull(responseCache.join("card /card/popular", new CompletableFuture<>())); // 완료 후에는 새로 처리
+        });
+    }
+
+    /**
+     * 캐시할 수 없는 응답은 저장하지 않고 기다리던 요청에 null 전달
+     */
+    @Test
+    void notCacheUncacheableResponse() {
+        // given
+        CompletableFuture<CachedResponse> leader = new CompletableFuture<>();
+        responseCache.join("accountBook /statistic", leader);
+
+        // when
+        responseCache.complete("accountBook /statistic", leader, null);
+
+        // then
+        assertAll(() -> {
+            assertTrue(leader.isDone());
+            assertNull(leader.getNow(response("x")));
+            assertNull(responseCache.getIfPresent("accountBook /statistic"));
+        });
+    }
+
+    /**
+     * 같은 본문은 같은 ETag
+     */
+    @Test
+    void etagByBody() {
+        assertAll(() -> {
+            assertEquals(response("{\"rt\":200}").getEtag(), response("{\"rt\":200}").getEtag());
+            assertNotEquals(response("{\"rt\":200}").getEtag(), response("{\"rt\":500}").getEtag());
+            assertTrue(response("{\"rt\":200}").getEtag().startsWith("\""));
+        });
+    }
+
+    /**
+     * 최상위 rt 가 200 인 JSON 본문만 캐시 (오류도 HTTP 200 으로 응답)
+     */
+    @Test
+    void successBodyOnly() {
+        assertAll(() -> {
+            assertTrue(CachedResponse.isSuccessBody(bytes("{\"rt\":200,\"rtMsg\":\"OK\",\"cardDTOList\":[]}")));
+            assertTrue(CachedResponse.isSuccessBody(bytes("{\"list\":[{\"rt\":500}],\"rt\":200}")));
+            assertFalse(CachedResponse.isSuccessBody(bytes("{\"rt\":500,\"rtMsg\":\"Internal Server Error\"}")));
+            assertFalse(CachedResponse.isSuccessBody(bytes("{\"rt\":\"200\"}")));
+            assertFalse(CachedResponse.isSuccessBody(bytes("{\"rtMsg\":\"OK\"}")));
+            assertFalse(CachedResponse.isSuccessBody(bytes("[{\"rt\":200}]")));
+            assertFalse(CachedResponse.isSuccessBody(bytes("not json")));
+        });
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse(body.getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON, TimeUnit.SECONDS.toNanos(5));
+    }
+}
@@ -0,0 +1,98 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult;
+import click.bitbank.api.infrastructure.jwt.TokenVerifyResult.Reason;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache =
+        new VerifiedTokenCache(new SimpleMeterRegistry(), 1000, Duration.ofHours(1), Duration.ofHours(24), 1000, Duration.ofMinutes(1));
+
+    /**
+     * 같은 토큰은 한 번만 검증
+     */
+    @Test
+    void verifyOncePerToken() {
+        // given
+        AtomicInteger verifyCount = new AtomicInteger();
+        Function<String, TokenVerifyResult> verifier = token -> {
+            verifyCount.incrementAndGet();
+            return TokenVerifyResult.valid(claims(1, System.currentTimeMillis() - 10_000, System.currentTimeMillis() + 60_000));
+        };
+
+        // when
+        Claims first = verifiedTokenCache.get("token", verifier).getClaims();
+        Claims second = verifiedTokenCache.get("token", verifier).getClaims();
+        verifiedTokenCache.get("other-token", verifier);
+
+        // then
+        assertAll(() -> {
+            assertSame(first, second);
+            assertEquals(2, verifyCount.get());
+        });
+    }
+
+    /**
+     * 검증에 실패한 토큰은 사유를 캐시해 다시 검증하지 않음
+     */
+    @Test
+    void cacheVerifyFailure() {
+        // given
+        AtomicInteger verifyCount = new AtomicInteger();
+        Function<String, TokenVerifyResult> verifier = token -> {
+            verifyCount.incrementAndGet();
+            return TokenVerifyResult.reject(Reason.SIGNATURE);
+        };
+
+        // when
+        TokenVerifyResult first = verifiedTokenCache.get("token", verifier);
+        TokenVerifyResult second = verifiedTokenCache.get("token", verifier);
+
+        // then
+        assertAll(() -> {
+            assertEquals(Reason.SIGNATURE, first.getReason());
+            assertEquals(Reason.SIGNATURE, second.getReason());
+            assertEquals(1, verifyCount.get());
+        });
+    }
+
+    /**
+     * 폐기 시각 이전에 발급된 토큰 거부, 이후 발급된 토큰 허용
+     */
+    @Test
+    void rejectTokenIssuedBeforeRevocation() {
+        // given
+        long now = System.currentTimeMillis();
+        Claims oldClaims = claims(1, now - 10_000, now + 60_000);
+        Claims newClaims = claims(1, now + 5_000, now + 60_000);
+        verifiedTokenCache.get("old-token", token -> TokenVerifyResult.valid(oldClaims));
+
+        // when
+        verifiedTokenCache.revoke(1, now);
+
+        // then
+        assertAll(() -> {
+            assertEquals(Reason.REVOKED, verifiedTokenCache.get("old-token", token -> TokenVerifyResult.valid(oldClaims)).getReason());
+            assertSame(newClaims, verifiedTokenCache.get("new-token", token -> TokenVerifyResult.valid(newClaims)).getClaims());
+        });
+    }
+
+    private static Claims claims(int memberId, long issuedAt, long expiration) {
+        Claims claims = Jwts.claims()
+            .setIssuedAt(new Date(issuedAt))
+            .setExpiration(new Date(expiration));
+        claims.put("memberId", memberId);
+        return claims;
+    }
+}
@@ -0,0 +1,96 @@
+package click.bitbank.api.infrastructure.filter;
+
+import click.bitbank.api.infrastructure.cache.CachedResponse;
+import click.bitbank.api.infrastructure.cache.ResponseCache;
+import click.bitbank.api.infrastructure.filter.ResponseCacheFilter.CachingResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheFilterTest {
+
+    private final ResponseCache responseCache = new ResponseCache(new SimpleMeterRegistry(), 1024 * 1024);
+
+    /**
+     * 조회 단계 이전에 작성된 응답(라우트 필터의 거부 응답)은 캐시하지 않음
+     */
+    @Test
+    void notCacheBeforeLookup() {
+        // given
+        MockServerHttpResponse delegate = new MockServerHttpResponse();
+        CachingResponse response = new CachingResponse(delegate, responseCache, new ResponseCacheFilter.Config());
+        response.setStatusCode(HttpStatus.OK);
+
+        // when
+        write(response, "{\"rt\":401,\"rtMsg\":\"권한이 없습니다.\"}");
+        response.abandon();
+
+        // then
+        assertAll(() -> {
+            assertNull(responseCache.getIfPresent("card /card/popular"));
+            assertEquals("{\"rt\":401,\"rtMsg\":\"권한이 없습니다.\"}", delegate.getBodyAsString().block());
+        });
+    }
+
+    /**
+     * 조회 단계에서 캐시 키를 받은 응답은 캐시 후 기다리던 요청에 전달
+     */
+    @Test
+    void cacheAfterLookup() {
+        // given
+        MockServerHttpResponse delegate = new MockServerHttpResponse();
+        CachingResponse response = new CachingResponse(delegate, responseCache, new ResponseCacheFilter.Config());
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        responseCache.join("card /card/popular", flight);
+        response.arm("card /card/popular", flight);
+        response.setStatusCode(HttpStatus.OK);
+
+        // when
+        write(response, "{\"rt\":200,\"rtMsg\":\"OK\"}");
+
+        // then
+        assertAll(() -> {
+            assertNotNull(responseCache.getIfPresent("card /card/popular"));
+            assertSame(responseCache.getIfPresent("card /card/popular"), flight.getNow(null));
+            assertNotNull(delegate.getHeaders().getETag());
+        });
+    }
+
+    /**
+     * 오류 응답(HTTP 200, rt 500)은 캐시하지 않고 기다리던 요청에 null 전달
+     */
+    @Test
+    void notCacheErrorBody() {
+        // given
+        MockServerHttpResponse delegate = new MockServerHttpResponse();
+        CachingResponse response = new CachingResponse(delegate, responseCache, new ResponseCacheFilter.Config());
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<>();
+        responseCache.join("card /card/popular", flight);
+        response.arm("card /card/popular", flight);
+        response.setStatusCode(HttpStatus.OK);
+
+        // when
+        write(response, "{\"rt\":500,\"rtMsg\":\"Internal Server Error\"}");
+
+        // then
+        assertAll(() -> {
+            assertTrue(flight.isDone());
+            assertNull(flight.getNow(null));
+            assertNull(responseCache.getIfPresent("card /card/popular"));
+            assertNull(delegate.getHeaders().getETag());
+            assertEquals("{\"rt\":500,\"rtMsg\":\"Internal Server Error\"}", delegate.getBodyAsString().block());
+        });
+    }
+
+    private static void write(CachingResponse response, String body) {
+        response.writeWith(Mono.just(DefaultDataBufferFactory.sharedInstance.wrap(body.getBytes(StandardCharsets.UTF_8)))).block();
+    }
+}
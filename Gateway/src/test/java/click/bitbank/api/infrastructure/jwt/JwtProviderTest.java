@@ -0,0 +1,92 @@
+package click.bitbank.api.infrastructure.jwt;
+
+import click.bitbank.api.infrastructure.cache.VerifiedTokenCache;
+import click.bitbank.api.infrastructure.exception.status.UnauthorizedException;
+import click.bitbank.api.infrastructure.filter.MemberType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtProviderTest {
+
+    private static final String SECRET = "Yml0YmFuay1nYXRld2F5LWp3dC1wcm92aWRlci10ZXN0LXNlY3JldC1rZXk=";
+
+    private final JwtProvider jwtProvider = new JwtProvider(SECRET,
+        new VerifiedTokenCache(new SimpleMeterRegistry(), 1000, Duration.ofHours(1), Duration.ofHours(24), 1000, Duration.ofMinutes(1)));
+
+    /**
+     * 검증된 Claims exchange 속성 저장 및 재사용
+     */
+    @Test
+    void verifyOncePerExchange() {
+        // given
+        String token = token(MemberType.ADMIN.getName(), new Date(System.currentTimeMillis() + 60_000));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/member/alarm-count"));
+
+        // when
+        Claims first = jwtProvider.verify(exchange, token).getClaims();
+        Claims second = jwtProvider.verify(exchange, "재검증되지 않는 값").getClaims();
+
+        // then
+        assertAll(() -> {
+            assertSame(first, second);
+            assertSame(first, exchange.getAttribute(JwtProvider.CLAIMS_ATTRIBUTE));
+            assertEquals(MemberType.ADMIN.getName(), jwtProvider.getMemberType(first));
+        });
+    }
+
+    /**
+     * 만료된 토큰
+     */
+    @Test
+    void expiredToken() {
+        // given
+        String token = token(MemberType.STUDENT.getName(), new Date(System.currentTimeMillis() - 60_000));
+
+        // when
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> jwtProvider.validateToken(token));
+
+        // then
+        assertEquals("401 UNAUTHORIZED \"토큰이 만료되었습니다.\"", exception.getMessage());
+    }
+
+    /**
+     * 검증 실패는 예외 없이 사유로 반환
+     */
+    @Test
+    void rejectWithReason() {
+        // given
+        String expired = token(MemberType.STUDENT.getName(), new Date(System.currentTimeMillis() - 60_000));
+        String forged = Jwts.builder()
+            .claim("memberType", MemberType.ADMIN.getName())
+            .signWith(Keys.hmacShaKeyFor(new byte[32]))  // 다른 키로 서명
+            .compact();
+
+        // when, then
+        assertAll(() -> {
+            assertEquals(TokenVerifyResult.Reason.EXPIRED, jwtProvider.verify(expired).getReason());
+            assertEquals(TokenVerifyResult.Reason.SIGNATURE, jwtProvider.verify(forged).getReason());
+            assertEquals(TokenVerifyResult.Reason.MALFORMED, jwtProvider.verify("not-a-token").getReason());
+            assertEquals(TokenVerifyResult.Reason.ILLEGAL_ARGUMENT, jwtProvider.verify(" ").getReason());
+        });
+    }
+
+    private static String token(String memberType, Date expiration) {
+        return Jwts.builder()
+            .claim("memberId", 1)
+            .claim("memberType", memberType)
+            .setExpiration(expiration)
+            .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .compact();
+    }
+}
@@ -0,0 +1,93 @@
+package click.bitbank.api.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalRateLimitBackendTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    private final LocalRateLimitBackend backend =
+        new LocalRateLimitBackend(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10), now::get);
+
+    private final RateLimitPolicy policy = RateLimitPolicy.of(2, 1, Duration.ofSeconds(1)); // 최대 2개, 초당 1개
+
+    /**
+     * 버킷 최대치까지 허용 후 거부, 토큰이 채워지면 다시 허용
+     */
+    @Test
+    void burstThenRefill() {
+        // when
+        RateLimitResult first = backend.consume("route:member:1", policy);
+        RateLimitResult second = backend.consume("route:member:1", policy);
+        RateLimitResult third = backend.consume("route:member:1", policy);
+        RateLimitResult otherKey = backend.consume("route:member:2", policy);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        RateLimitResult afterRefill = backend.consume("route:member:1", policy);
+
+        // then
+        assertAll(() -> {
+            assertTrue(first.isAllowed());
+            assertEquals(1, first.getRemaining());
+            assertTrue(second.isAllowed());
+            assertEquals(0, second.getRemaining());
+            assertFalse(third.isAllowed());
+            assertEquals(TimeUnit.SECONDS.toNanos(1), third.getRetryAfterNanos());
+            assertTrue(otherKey.isAllowed());
+            assertTrue(afterRefill.isAllowed());
+        });
+    }
+
+    /**
+     * 동시 요청에서도 버킷 최대치만큼만 허용
+     */
+    @Test
+    void concurrentConsume() throws InterruptedException {
+        // given
+        RateLimitPolicy burst = RateLimitPolicy.of(100, 1, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (backend.consume("route:ip:127.0.0.1", burst).isAllowed()) allowed.incrementAndGet();
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(100, allowed.get());
+    }
+
+    /**
+     * 잘못된 정책 설정
+     */
+    @Test
+    void invalidPolicy() {
+        assertAll(() -> {
+            assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.of(0, 1, Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.of(1, 0, Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class, () -> RateLimitPolicy.of(1, 1, Duration.ZERO));
+        });
+    }
+}
@@ -1,12 +1,19 @@
 package click.bitbank.api.application.member;
 
-import click.bitbank.api.domain.model.alarm.Alarm;
 import click.bitbank.api.domain.repository.AlarmRepository;
 import click.bitbank.api.domain.repository.MemberRepository;
+import click.bitbank.api.infrastructure.cache.UnreadAlarmCounter;
+import click.bitbank.api.infrastructure.kafka.KafkaProducerService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -16,33 +23,86 @@ public class AlarmSchedulerService {
 
     private final MemberRepository memberRepository;
     private final AlarmRepository alarmRepository;
+    private final MeterRegistry meterRegistry;
+    private final KafkaProducerService kafkaProducerService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+    private final TransactionalOperator transactionalOperator;
 
-    @Transactional(rollbackFor = Exception.class)
-    public Mono<Void> alarmAccountBookJob() { return this.alarmMessageRegistration("오늘의 가계부를 작성을 해주세요!");}
-
-    @Transactional(rollbackFor = Exception.class)
-    public Mono<Void> alarmCardJob() { return this.alarmMessageRegistration("소비 패턴에 따른 카드 추천을 받아보세요!");}
-
-    private Mono<Void> alarmMessageRegistration(String message) {
-        // 회원 전체 조회
-        return memberRepository.findAllByDelDateIsNull()
-            .flatMap(member ->
-                // 읽지 않은 알림 메시지 갯수 조회
-                alarmRepository.countByMemberIdAndAlarmCheck(member.getMemberId(), false)
-                    .flatMap(aLong -> {
-                        // 읽지 않은 알림 메시지가 없을 경우
-                        if (aLong == 0L) {
-                            return alarmRepository.save(
-                                Alarm.builder()
-                                    .memberId(member.getMemberId())
-                                    .alarmMessage(member.getMemberName() + "님! " + message)
-                                    .alarmCheck(false)
-                                    .build()
-                            );
-                        }
-                        return Mono.empty();
-                    })
-            )
-            .thenEmpty(s -> log.info(s.toString()));
+    @Value("${alarm.scheduler.chunk-size:5000}")
+    private int chunkSize; // 한 번의 INSERT ... SELECT 로 처리할 회원 고유번호 구간 크기
+
+    // 구간마다 별도 트랜잭션으로 커밋 (작업 전체를 한 트랜잭션으로 묶지 않음)
+    public Mono<Void> alarmAccountBookJob() { return this.alarmMessageRegistration("accountBook", "오늘의 가계부를 작성을 해주세요!");}
+
+    public Mono<Void> alarmCardJob() { return this.alarmMessageRegistration("card", "소비 패턴에 따른 카드 추천을 받아보세요!");}
+
+    /**
+     * 읽지 않은 알림이 없는 회원에게 알림 일괄 생성
+     * 회원 고유번호 구간 별로 INSERT ... SELECT 한 번씩 실행 (회원 수와 무관하게 MAX(memberId) / chunkSize 번)
+     * 구간마다 별도 트랜잭션으로 커밋해 잠금과 undo 를 구간 단위로만 유지하고, 실패하면 이미 커밋된 구간은 유지한 채 중단한다.
+     * (다음 주기에는 읽지 않은 알림이 있는 회원을 건너뛰므로 같은 회원에게 중복 생성되지 않음)
+     * 알림이 생성된 구간은 GROUP BY 로 다시 집계해 커밋된 후 읽지 않은 알림 갯수에 반영하고,
+     * 모든 구간이 끝나면 다른 인스턴스에 한 번 갱신 요청
+     * @param job : 작업 이름 (메트릭 태그)
+     * @param message : 알림 메시지
+     * @return Mono<Void> : 완료
+     */
+    private Mono<Void> alarmMessageRegistration(String job, String message) {
+        int size = Math.max(1, chunkSize);
+
+        return memberRepository.findMaxMemberId()
+            .flatMapMany(maxMemberId -> Flux.range(0, maxMemberId / size + 1))
+            .concatMap(chunk -> this.registerChunk(job, message, chunk * size, chunk * size + size))
+            .reduce(0L, (total, insertedCount) -> total + insertedCount)
+            .doOnNext(total -> {
+                log.info("[{}] 알림 생성 완료 : {}건", job, total);
+                if (total > 0) kafkaProducerService.sendAlarmRefreshTopic(); // 다른 인스턴스 읽지 않은 알림 갯수 갱신 (모든 구간 커밋 후)
+            })
+            .then();
+    }
+
+    /**
+     * 회원 고유번호 구간 [fromMemberId, toMemberId) 알림 생성 (한 트랜잭션)
+     * @param job : 작업 이름 (메트릭 태그)
+     * @param message : 알림 메시지
+     * @param fromMemberId : 시작 회원 고유번호 (포함)
+     * @param toMemberId : 끝 회원 고유번호 (미포함)
+     * @return Mono<Integer> : 생성된 알림 수
+     */
+    private Mono<Integer> registerChunk(String job, String message, int fromMemberId, int toMemberId) {
+        return transactionalOperator.transactional(alarmRepository.insertAlarmForMembersWithoutUnread(message, fromMemberId, toMemberId)
+            .doOnNext(insertedCount -> {
+                meterRegistry.counter("bitbank.alarm.scheduler.chunks", "job", job).increment();
+                meterRegistry.counter("bitbank.alarm.scheduler.inserted", "job", job).increment(insertedCount);
+                log.debug("[{}] 알림 생성 회원 구간 [{}, {}) : {}건", job, fromMemberId, toMemberId, insertedCount);
+            })
+            .flatMap(insertedCount -> {
+                if (insertedCount == 0) return Mono.just(insertedCount);
+
+                // 알림이 생성된 구간의 읽지 않은 알림 갯수 (트랜잭션 안에서 조회, 조회 이후 읽음 처리된 회원은 반영하지 않음)
+                int since = unreadAlarmCounter.version();
+                return alarmRepository.findUnreadAlarmCountByMemberRange(fromMemberId, toMemberId)
+                    .collectList()
+                    .flatMap(unreadAlarmCountList -> this.afterCommit(() -> unreadAlarmCounter.setAll(unreadAlarmCountList, since)))
+                    .thenReturn(insertedCount);
+            }));
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 실행 (롤백되면 실행하지 않음)
+     * 커밋 전에 반영하면 롤백된 알림이 로컬 갯수에 남는다.
+     * @param action : 커밋 후 실행할 작업
+     * @return Mono<Void> : 등록 완료
+     */
+    private Mono<Void> afterCommit(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return Mono.fromRunnable(action);
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+            .then();
     }
 }
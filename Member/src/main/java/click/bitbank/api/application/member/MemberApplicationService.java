@@ -6,6 +6,7 @@ import click.bitbank.api.application.response.MemberLoginResponse;
 import click.bitbank.api.application.response.MemberSignupResponse;
 import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface MemberApplicationService {
@@ -26,6 +27,8 @@ public interface MemberApplicationService {
 
     Mono<AlarmListResponse> findAlarmList(ServerRequest serverRequest); // 읽지 않은 알림 목록 조회
 
+    Flux<AlarmCountResponse> alarmCountStream(ServerRequest serverRequest); // 읽지 않은 알림 갯수 변경 구독
+
     Mono<SuccessResponse> existVerify(ServerRequest serverRequest); // 회원 검증
 
 }
\ No newline at end of file
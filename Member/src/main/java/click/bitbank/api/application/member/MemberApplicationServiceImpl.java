@@ -8,7 +8,9 @@ import click.bitbank.api.domain.model.alarm.AlarmFindSpecification;
 import click.bitbank.api.domain.model.member.*;
 import click.bitbank.api.infrastructure.exception.status.BadRequestException;
 import click.bitbank.api.infrastructure.exception.status.ExceptionMessage;
+import click.bitbank.api.infrastructure.exception.status.UnauthorizedException;
 import click.bitbank.api.infrastructure.kafka.KafkaProducerService;
+import click.bitbank.api.infrastructure.util.AuthenticatedMember;
 import click.bitbank.api.presentation.member.request.*;
 import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -42,14 +45,14 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         return serverRequest.bodyToMono(MemberSignupRequest.class).flatMap(
             request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
 
                 request.verify(); // Request 유효성 검사
 
                 return memberSaveSpecification.memberExistCheckAndRegistration(request); // 회원 계정 생성
             }
         ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -63,12 +66,12 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         return serverRequest.bodyToMono(SocialLoginRequest.class).flatMap(
             request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                 request.verify(); // Request 유효성 검사
                 return memberLoginSpecification.memberExistCheckAndSocialLogin(request);
             }
         ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -82,12 +85,12 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         return serverRequest.bodyToMono(MemberLoginRequest.class).flatMap(
                 request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                     request.verify(); // Request 유효성 검사
                     return memberLoginSpecification.memberExistCheckAndLogin(request);
                 }
         ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -101,13 +104,14 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         return serverRequest.bodyToMono(MemberIdRequest.class)
             .flatMap(request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                 request.verify(); // Request 유효성 검사
 
-                return memberLoginSpecification.memberExistCheckAndLogout(request.getMemberId());
+                return memberLoginSpecification.memberExistCheckAndLogout(request.getMemberId())
+                    .doOnSuccess(response -> kafkaProducerService.sendTokenRevokedTopic(request.getMemberId())); // Gateway 검증 토큰 폐기
             }
         ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -120,13 +124,13 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
     public Mono<SuccessResponse> modification(ServerRequest serverRequest) {
         return serverRequest.bodyToMono(MemberModificationRequest.class)
             .flatMap(request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                     request.verify(); // Request 유효성 검사
 
                     return memberUpdateSpecification.memberExistCheckAndModification(request);
                 }
             ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -140,13 +144,17 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         return serverRequest.bodyToMono(MemberIdRequest.class)
             .flatMap(request -> {
-                kafkaProducerService.sendRequestTopic(serverRequest, request.toString());
+                kafkaProducerService.sendRequestTopic(serverRequest, request);
                     request.verify(); // Request 유효성 검사
 
-                    return memberDeleteSpecification.memberExistCheckAndDelete(request.getMemberId());
+                    return memberDeleteSpecification.memberExistCheckAndDelete(request.getMemberId())
+                        .doOnSuccess(response -> {
+                            kafkaProducerService.sendMemberDeletedTopic(request.getMemberId()); // 회원 검증 캐시 무효화
+                            kafkaProducerService.sendTokenRevokedTopic(request.getMemberId()); // Gateway 검증 토큰 폐기
+                        });
                 }
             ).switchIfEmpty(Mono.error(new BadRequestException(ExceptionMessage.IsRequiredRequest.getMessage())))
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -172,13 +180,13 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
 
         // 회원 고유번호 추출
         int memberId = this.getMemberIdByRequest(serverRequest);
-        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap().toString()); // Kafka Request Topic 발행
+        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap()); // Kafka Request Topic 발행
 
-        return memberFindSpecification.membmerExistVerify(memberId) // 회원 정보 검증
+        return memberFindSpecification.membmerExistVerify(memberId, AuthenticatedMember.isVerified(serverRequest, memberId)) // 회원 정보 검증
             .flatMap(member ->
                 alarmFindSpecification.unreadAlarmCountByMember(member.getMemberId())
             )
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
     /**
@@ -189,15 +197,34 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public Mono<AlarmListResponse> findAlarmList(ServerRequest serverRequest) {
-        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap().toString());
+        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap());
         // 회원 고유번호 추출
         int memberId = this.getMemberIdByRequest(serverRequest);
 
+        // 알림을 읽음 처리하므로 Gateway 에서 검증된 회원도 조회 (탈퇴한 회원의 토큰으로 변경되지 않도록)
         return memberFindSpecification.membmerExistVerify(memberId) // 회원 정보 검증
             .flatMap(member ->
                 alarmFindSpecification.unreadAlarmListByMember(member.getMemberId())
             )
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 변경 구독
+     * Gateway 에서 검증된 본인만 구독 가능 (다른 회원의 갯수 구독, 존재하지 않는 회원의 채널 생성 방지)
+     * 현재 갯수는 findAlarmCount 로 조회
+     * @param serverRequest : Params
+     * @return Flux<AlarmCountResponse> : 변경된 읽지 않은 알림 갯수
+     */
+    @Override
+    public Flux<AlarmCountResponse> alarmCountStream(ServerRequest serverRequest) {
+        // 회원 고유번호 추출
+        int memberId = this.getMemberIdByRequest(serverRequest);
+        if (!AuthenticatedMember.isVerified(serverRequest, memberId)) {
+            return Flux.error(new UnauthorizedException(ExceptionMessage.NotFoundLoginMember.getMessage()));
+        }
+
+        return alarmFindSpecification.unreadAlarmCountStream(memberId);
     }
 
     /**
@@ -208,13 +235,13 @@ public class MemberApplicationServiceImpl implements MemberApplicationService {
     @Override
     @Transactional(rollbackFor = Exception.class, readOnly = true)
     public Mono<SuccessResponse> existVerify(ServerRequest serverRequest) {
-        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap().toString());
+        kafkaProducerService.sendRequestTopic(serverRequest, serverRequest.queryParams().toSingleValueMap());
         // 회원 고유번호 추출
         int memberId = this.getMemberIdByRequest(serverRequest);
 
         return memberFindSpecification.membmerExistVerify(memberId) // 검증 처리
             .flatMap(member -> Mono.just(new SuccessResponse())) // 검증 성공 반환
-            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response.toString()));
+            .doOnSuccess(response -> kafkaProducerService.sendResponseTopic(serverRequest, response));
     }
 
 }
@@ -1,5 +1,6 @@
 package click.bitbank.api.application.response;
 
+import click.bitbank.api.domain.model.alarm.Alarm;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 
@@ -17,4 +18,14 @@ public class AlarmDTO {
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime regDate; // 생성일
+
+    /**
+     * Alarm -> AlarmDTO 변환
+     * 리플렉션 없이 필드를 직접 복사
+     * @param alarm : 알림 정보
+     * @return AlarmDTO : 알림 응답 정보
+     */
+    public static AlarmDTO of(Alarm alarm) {
+        return new AlarmDTO(alarm.getAlarmMessage(), alarm.getRegDate());
+    }
 }
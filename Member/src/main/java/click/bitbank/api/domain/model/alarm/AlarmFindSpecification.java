@@ -3,17 +3,37 @@ package click.bitbank.api.domain.model.alarm;
 import click.bitbank.api.application.response.AlarmCountResponse;
 import click.bitbank.api.application.response.AlarmListResponse;
 import click.bitbank.api.domain.repository.AlarmRepository;
+import click.bitbank.api.infrastructure.cache.UnreadAlarmCounter;
 import click.bitbank.api.infrastructure.factory.AlarmResponseFactory;
+import click.bitbank.api.infrastructure.kafka.KafkaProducerService;
+import click.bitbank.api.infrastructure.sse.AlarmStreamHub;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AlarmFindSpecification {
 
     private final AlarmRepository alarmRepository;
     private final AlarmResponseFactory alarmResponseFactory;
+    private final AlarmStreamHub alarmStreamHub;
+    private final KafkaProducerService kafkaProducerService;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+
+    @Value("${alarm.list.page-size:50}")
+    private int pageSize; // 한 번에 조회, 읽음 처리할 최대 알림 수
 
     /**
      * 읽지 않은 알림 갯수 조회
@@ -22,24 +42,112 @@ public class AlarmFindSpecification {
      */
     public Mono<AlarmCountResponse> unreadAlarmCountByMember(int memberId) {
 
-        return alarmRepository.countByMemberIdAndAlarmCheck(memberId, false)
+        return this.unreadAlarmCount(memberId)
             .flatMap(alarmResponseFactory::alarmCountResponseBuilder);
     }
 
     /**
      * 읽지 않은 알림 목록 조회
+     * 최신순으로 pageSize 건까지 조회 후 한 번의 UPDATE 로 읽음 처리
      * @param memberId : 회원 고유번호
      * @return Mono<AlarmListResponse> : 읽지 않은 알림 목록
      */
     public Mono<AlarmListResponse> unreadAlarmListByMember(int memberId) {
-        return alarmRepository.findByMemberIdAndAlarmCheck(memberId, false) // 읽지 않은 알림 목록 조회
-            .flatMap(alarm -> {
-                alarm.readAlarmCheck(); // 알림 읽음 처리
+        return alarmRepository.findUnreadAlarmPage(memberId, pageSize) // 읽지 않은 알림 목록 조회
+            .collectList()
+            .flatMap(alarmList -> {
+                if (alarmList.isEmpty()) return Mono.just(new AlarmListResponse());
+
+                List<Integer> alarmIdList = alarmList.stream().map(Alarm::getAlarmId).collect(Collectors.toList());
+
+                return alarmRepository.readAlarms(memberId, alarmIdList) // 알림 읽음 처리
+                    .flatMap(readCount -> this.afterCommit(this.publishUnreadAlarmCount(memberId, readCount)))
+                    .thenReturn(alarmResponseFactory.alarmListResponseBuilder(alarmList));
+            });
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 변경 구독
+     * @param memberId : 회원 고유번호
+     * @return Flux<AlarmCountResponse> : 변경된 읽지 않은 알림 갯수
+     */
+    public Flux<AlarmCountResponse> unreadAlarmCountStream(int memberId) {
+        return alarmStreamHub.subscribe(memberId)
+            .concatMap(alarmResponseFactory::alarmCountResponseBuilder);
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 전체 다시 조회 (warm-up)
+     * 조회를 시작한 뒤 이 인스턴스에서 변경된 회원은 조회 결과로 덮어쓰지 않음
+     * @return Mono<Void> : 완료
+     */
+    @Transactional(rollbackFor = Exception.class, readOnly = true)
+    public Mono<Void> warmUpUnreadAlarmCounter() {
+        return Mono.defer(() -> {
+            int since = unreadAlarmCounter.version();   // 조회 시작 전 변경 순번
+
+            return alarmRepository.findAllUnreadAlarmCount()
+                .collectList()
+                .doOnNext(unreadAlarmCountList -> unreadAlarmCounter.load(unreadAlarmCountList, since))
+                .then();
+        });
+    }
+
+    /**
+     * 이 인스턴스에서 구독 중인 회원에게 읽지 않은 알림 갯수 전달
+     */
+    public void publishConnectedUnreadAlarmCount() {
+        for (int memberId : alarmStreamHub.connectedMemberIds()) {
+            alarmStreamHub.publish(memberId, unreadAlarmCounter.get(memberId));
+        }
+    }
 
-                return alarmRepository.save(alarm);
+    /**
+     * 읽음 처리된 갯수만큼 읽지 않은 알림 갯수 차감 후 알림 SSE 구독자에게 전달 (warm-up 전에는 DB 조회)
+     * @param memberId : 회원 고유번호
+     * @param readCount : 읽음 처리된 알림 수
+     * @return Mono<Void> : 완료 (실패해도 읽음 처리 응답에는 영향 없음)
+     */
+    private Mono<Void> publishUnreadAlarmCount(int memberId, int readCount) {
+        return Mono.defer(() -> {
+                if (!unreadAlarmCounter.isWarmedUp()) return alarmRepository.countByMemberIdAndAlarmCheck(memberId, false);
+
+                return Mono.just(unreadAlarmCounter.decrement(memberId, readCount));
             })
-            .collectList()
-            .map(alarmResponseFactory::alarmListResponseBuilder)
-            .switchIfEmpty(Mono.just(new AlarmListResponse()));
+            .doOnNext(unreadCount -> kafkaProducerService.sendAlarmChangedTopic(memberId, unreadCount))
+            .onErrorResume(throwable -> {
+                log.warn("===== 읽지 않은 알림 갯수 갱신 실패 >>> {} =====", throwable.toString());
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후 실행 (롤백되면 실행하지 않음)
+     * 커밋 전에 차감하면 그 사이 시작된 warm-up 이 읽음 처리 전 갯수로 덮어쓰거나, 롤백된 읽음 처리가 로컬 갯수에 남는다.
+     * @param action : 커밋 후 실행할 작업
+     * @return Mono<Void> : 등록 완료
+     */
+    private Mono<Void> afterCommit(Mono<Void> action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .doOnNext(synchronizationManager -> synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public Mono<Void> afterCommit() {
+                    return action;
+                }
+            }))
+            .onErrorResume(NoTransactionException.class, e -> action.then(Mono.empty()))
+            .then();
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 (warm-up 전에는 DB 조회)
+     * @param memberId : 회원 고유번호
+     * @return Mono<Long> : 읽지 않은 알림 갯수
+     */
+    private Mono<Long> unreadAlarmCount(int memberId) {
+        if (!unreadAlarmCounter.isWarmedUp()) return alarmRepository.countByMemberIdAndAlarmCheck(memberId, false);
+
+        return Mono.just(unreadAlarmCounter.get(memberId));
     }
 }
@@ -0,0 +1,14 @@
+package click.bitbank.api.domain.model.alarm;
+
+import lombok.*;
+
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadAlarmCount {
+
+    private int memberId; // 회원 고유번호
+
+    private long unreadCount; // 읽지 않은 알림 갯수
+}
@@ -23,4 +23,17 @@ public class MemberFindSpecification {
         return memberRepository.findById(memberId)
             .switchIfEmpty(Mono.error(new NotFoundDataException(ExceptionMessage.NotFoundMember.getMessage())));
     }
+
+    /**
+     * 회원 정보 검증 (Gateway 에서 검증된 회원은 조회 생략)
+     * 조회 API 전용 (데이터를 변경하는 API 는 탈퇴한 회원의 토큰으로 변경되지 않도록 membmerExistVerify(int) 로 확인)
+     * @param memberId : 회원 고유번호
+     * @param verified : Gateway 에서 검증된 회원 여부
+     * @return Mono<Member> : 회원 정보 (조회 생략 시 회원 고유번호만 설정)
+     */
+    public Mono<Member> membmerExistVerify(int memberId, boolean verified) {
+        if (verified) return Mono.just(Member.builder().memberId(memberId).build());
+
+        return this.membmerExistVerify(memberId);
+    }
 }
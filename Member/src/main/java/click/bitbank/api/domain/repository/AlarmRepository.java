@@ -1,15 +1,73 @@
 package click.bitbank.api.domain.repository;
 
 import click.bitbank.api.domain.model.alarm.Alarm;
+import click.bitbank.api.domain.model.alarm.UnreadAlarmCount;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Repository
 public interface AlarmRepository extends ReactiveCrudRepository<Alarm, Integer> {
 
     Mono<Long> countByMemberIdAndAlarmCheck(int memberId, boolean alarmCheck);
 
-    Flux<Alarm> findByMemberIdAndAlarmCheck(int memberId, boolean alarmCheck);
+    /**
+     * 읽지 않은 알림 목록 최신순 조회
+     * @param memberId : 회원 고유번호
+     * @param limit : 최대 조회 건수
+     * @return Flux<Alarm> : 읽지 않은 알림 목록
+     */
+    @Query(value = "SELECT * FROM alarm WHERE memberId = :memberId AND alarmCheck = false ORDER BY alarmId DESC LIMIT :limit")
+    Flux<Alarm> findUnreadAlarmPage(@Param("memberId") int memberId, @Param("limit") int limit);
+
+    /**
+     * 알림 일괄 읽음 처리
+     * @param memberId : 회원 고유번호
+     * @param alarmIdList : 읽음 처리할 알림 고유번호 목록
+     * @return Mono<Integer> : 읽음 처리된 알림 수
+     */
+    @Modifying
+    @Query(value = "UPDATE alarm SET alarmCheck = true, modDate = NOW() WHERE memberId = :memberId AND alarmCheck = false AND alarmId IN (:alarmIdList)")
+    Mono<Integer> readAlarms(@Param("memberId") int memberId, @Param("alarmIdList") List<Integer> alarmIdList);
+
+    /**
+     * 회원 고유번호 구간 [fromMemberId, toMemberId) 의 탈퇴하지 않은 회원 중 읽지 않은 알림이 없는 회원에게 알림 일괄 생성
+     * @param alarmMessage : 알림 메시지 ("회원이름님! " 뒤에 붙는 내용)
+     * @param fromMemberId : 시작 회원 고유번호 (포함)
+     * @param toMemberId : 종료 회원 고유번호 (미포함)
+     * @return Mono<Integer> : 생성된 알림 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO alarm (alarmMessage, alarmCheck, regDate, modDate, memberId) " +
+        "SELECT CONCAT(m.memberName, '님! ', :alarmMessage), false, NOW(), NOW(), m.memberId " +
+        "FROM member m " +
+        "WHERE m.delDate IS NULL AND m.memberId >= :fromMemberId AND m.memberId < :toMemberId " +
+        "AND NOT EXISTS (SELECT 1 FROM alarm a WHERE a.memberId = m.memberId AND a.alarmCheck = false)")
+    Mono<Integer> insertAlarmForMembersWithoutUnread(@Param("alarmMessage") String alarmMessage,
+                                                     @Param("fromMemberId") int fromMemberId,
+                                                     @Param("toMemberId") int toMemberId);
+
+    /**
+     * 전체 회원 별 읽지 않은 알림 갯수 조회 (idx_alarm_member_check 인덱스만으로 집계)
+     * @return Flux<UnreadAlarmCount> : 회원 별 읽지 않은 알림 갯수 (읽지 않은 알림이 없는 회원은 제외)
+     */
+    @Query(value = "SELECT memberId, COUNT(*) AS unreadCount FROM alarm WHERE alarmCheck = false GROUP BY memberId")
+    Flux<UnreadAlarmCount> findAllUnreadAlarmCount();
+
+    /**
+     * 회원 고유번호 구간 [fromMemberId, toMemberId) 의 회원 별 읽지 않은 알림 갯수 조회
+     * @param fromMemberId : 시작 회원 고유번호 (포함)
+     * @param toMemberId : 종료 회원 고유번호 (미포함)
+     * @return Flux<UnreadAlarmCount> : 회원 별 읽지 않은 알림 갯수 (읽지 않은 알림이 없는 회원은 제외)
+     */
+    @Query(value = "SELECT memberId, COUNT(*) AS unreadCount FROM alarm " +
+        "WHERE memberId >= :fromMemberId AND memberId < :toMemberId AND alarmCheck = false GROUP BY memberId")
+    Flux<UnreadAlarmCount> findUnreadAlarmCountByMemberRange(@Param("fromMemberId") int fromMemberId,
+                                                            @Param("toMemberId") int toMemberId);
 }
@@ -22,4 +22,7 @@ public interface MemberRepository extends ReactiveCrudRepository<Member, Integer
     Mono<Member> findByMemberLoginIdAndMemberPasswordAndDelDateIsNull(String memberLoginId, String memberPassword);
 
     Flux<Member> findAllByDelDateIsNull();
+
+    @Query(value = "SELECT COALESCE(MAX(memberId), 0) FROM member")
+    Mono<Integer> findMaxMemberId();
 }
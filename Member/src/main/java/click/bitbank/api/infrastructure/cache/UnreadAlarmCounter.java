@@ -0,0 +1,242 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.domain.model.alarm.UnreadAlarmCount;
+import click.bitbank.api.infrastructure.util.IntIntMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 회원 별 읽지 않은 알림 갯수 (인스턴스 내)
+ * 알림 테이블 전체를 GROUP BY 로 한 번 조회해 채운 뒤(warm-up), 알림 생성 및 읽음 처리 시 함께 갱신한다.
+ * 읽지 않은 알림이 없는 회원은 저장하지 않으며, warm-up 전에는 조회하지 않도록 isWarmedUp 으로 확인한다.
+ *
+ * 회원 고유번호 기준으로 나눈 구간(stripe) 별로 잠금을 두고, 조회는 잠금 없이 낙관적 읽기 후 검증한다.
+ * DB 에서 조회한 갯수로 덮어쓸 때(warm-up, 알림 생성 후 반영)는 조회 시작 시점의 변경 순번(version)을 함께 전달해
+ * 조회 이후 이 인스턴스에서 변경된 회원(읽음 처리 등)은 현재 값을 유지한다.
+ */
+@Component
+public class UnreadAlarmCounter {
+
+    private static final int STRIPES = 64;  // 잠금 구간 수 (2의 제곱수)
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final AtomicInteger version = new AtomicInteger(); // 변경 순번
+
+    private volatile boolean warmedUp;
+
+    public UnreadAlarmCounter(MeterRegistry meterRegistry) {
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Stripe();
+
+        meterRegistry.gauge("bitbank.alarm.counter.members", Collections.emptyList(), this, UnreadAlarmCounter::size);
+    }
+
+    /**
+     * warm-up 완료 여부
+     *
+     * @return boolean : 완료 여부
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    /**
+     * 현재 변경 순번 (DB 조회 시작 전에 확인해 load, setAll 에 전달)
+     *
+     * @return int : 변경 순번
+     */
+    public int version() {
+        return version.get();
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 조회 (잠금 없음)
+     *
+     * @param memberId : 회원 고유번호
+     * @return long : 읽지 않은 알림 갯수
+     */
+    public long get(int memberId) {
+        return stripe(memberId).get(memberId);
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 저장
+     *
+     * @param memberId : 회원 고유번호
+     * @param unreadCount : 읽지 않은 알림 갯수
+     */
+    public void set(int memberId, long unreadCount) {
+        Stripe stripe = stripe(memberId);
+        long stamp = stripe.lock.writeLock();
+        try {
+            stripe.put(memberId, unreadCount, version.incrementAndGet());
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 일괄 저장
+     * 조회 시작(since) 이후 이 인스턴스에서 변경된 회원은 건너뛴다. (조회 이후 읽음 처리된 갯수를 덮어쓰지 않도록)
+     *
+     * @param unreadAlarmCountList : 회원 별 읽지 않은 알림 갯수
+     * @param since : 조회 시작 전 변경 순번
+     */
+    public void setAll(List<UnreadAlarmCount> unreadAlarmCountList, int since) {
+        for (UnreadAlarmCount unreadAlarmCount : unreadAlarmCountList) {
+            int memberId = unreadAlarmCount.getMemberId();
+            Stripe stripe = stripe(memberId);
+            long stamp = stripe.lock.writeLock();
+            try {
+                if (!stripe.isModifiedAfter(memberId, since)) stripe.put(memberId, unreadAlarmCount.getUnreadCount(), version.incrementAndGet());
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * 읽음 처리된 갯수만큼 차감
+     *
+     * @param memberId : 회원 고유번호
+     * @param readCount : 읽음 처리된 알림 수
+     * @return long : 차감 후 읽지 않은 알림 갯수
+     */
+    public long decrement(int memberId, int readCount) {
+        Stripe stripe = stripe(memberId);
+        long stamp = stripe.lock.writeLock();
+        try {
+            long unreadCount = Math.max(0, stripe.counts.get(memberId, 0) - (long) readCount);
+            stripe.put(memberId, unreadCount, version.incrementAndGet());
+            return unreadCount;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 전체 교체 (warm-up)
+     * 조회 결과로 구간 별 새 맵을 만든 뒤 구간마다 한 번에 교체해 조회 중에도 이전 값으로 응답한다.
+     * 조회 시작(since) 이후 이 인스턴스에서 변경된 회원은 현재 값을 유지한다.
+     *
+     * @param unreadAlarmCountList : 전체 회원 별 읽지 않은 알림 갯수
+     * @param since : 조회 시작 전 변경 순번
+     */
+    public void load(List<UnreadAlarmCount> unreadAlarmCountList, int since) {
+        IntIntMap[] loaded = new IntIntMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) loaded[i] = new IntIntMap(unreadAlarmCountList.size() / STRIPES + 1);
+
+        for (UnreadAlarmCount unreadAlarmCount : unreadAlarmCountList) {
+            if (unreadAlarmCount.getUnreadCount() > 0) {
+                loaded[index(unreadAlarmCount.getMemberId())].put(unreadAlarmCount.getMemberId(), toInt(unreadAlarmCount.getUnreadCount()));
+            }
+        }
+
+        for (int i = 0; i < STRIPES; i++) {
+            Stripe stripe = stripes[i];
+            IntIntMap counts = loaded[i];
+            IntIntMap modified = new IntIntMap();
+
+            long stamp = stripe.lock.writeLock();
+            try {
+                stripe.modified.forEach((memberId, modifiedVersion) -> {
+                    if (modifiedVersion - since <= 0) return;  // 조회 결과에 반영된 변경
+
+                    int current = stripe.counts.get(memberId, 0);
+                    if (current > 0) {
+                        counts.put(memberId, current);
+                    } else {
+                        counts.remove(memberId);
+                    }
+                    modified.put(memberId, modifiedVersion);
+                });
+                stripe.counts = counts;
+                stripe.modified = modified;
+            } finally {
+                stripe.lock.unlockWrite(stamp);
+            }
+        }
+        warmedUp = true;
+    }
+
+    /**
+     * 읽지 않은 알림이 있는 회원 수
+     *
+     * @return int : 회원 수
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            long stamp = stripe.lock.readLock();
+            try {
+                size += stripe.counts.size();
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(int memberId) {
+        return stripes[index(memberId)];
+    }
+
+    private static int index(int memberId) {
+        int hash = memberId * 0x9E3779B9;
+        return (hash >>> 16) & (STRIPES - 1);
+    }
+
+    private static int toInt(long unreadCount) {
+        return (int) Math.min(unreadCount, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 잠금 구간 (쓰기는 쓰기 잠금, 조회는 낙관적 읽기)
+     */
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+
+        private IntIntMap counts = new IntIntMap();   // 회원 별 읽지 않은 알림 갯수
+
+        private IntIntMap modified = new IntIntMap(); // 마지막 warm-up 이후 변경된 회원 별 변경 순번
+
+        private long get(int memberId) {
+            long stamp = lock.tryOptimisticRead();
+            int value = 0;
+            try {
+                value = counts.get(memberId, 0);
+            } catch (RuntimeException e) {
+                stamp = 0;  // 변경 중인 배열을 읽은 경우 -> 읽기 잠금으로 다시 조회
+            }
+            if (stamp != 0 && lock.validate(stamp)) return value;
+
+            stamp = lock.readLock();
+            try {
+                return counts.get(memberId, 0);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // 쓰기 잠금 안에서 호출
+        private void put(int memberId, long unreadCount, int modifiedVersion) {
+            if (unreadCount <= 0) {
+                counts.remove(memberId);
+            } else {
+                counts.put(memberId, toInt(unreadCount));
+            }
+            modified.put(memberId, modifiedVersion);
+        }
+
+        // 쓰기 잠금 안에서 호출
+        private boolean isModifiedAfter(int memberId, int since) {
+            return modified.containsKey(memberId) && modified.get(memberId, 0) - since > 0;
+        }
+    }
+}
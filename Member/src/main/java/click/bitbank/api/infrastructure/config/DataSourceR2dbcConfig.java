@@ -13,6 +13,7 @@ import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import javax.annotation.Nonnull;
 import java.util.HashMap;
@@ -71,4 +72,11 @@ public class DataSourceR2dbcConfig extends AbstractR2dbcConfiguration {
         return slaveR2dbcTransactionManager;
     }
 
+    // 한 작업을 여러 트랜잭션으로 나눠 처리할 때 사용 (예: 알림 일괄 생성의 구간 별 커밋)
+    @Bean("masterTransactionalOperator")
+    public TransactionalOperator masterTransactionalOperator(@Qualifier("masterTransactionManager") ReactiveTransactionManager transactionManager) {
+
+        return TransactionalOperator.create(transactionManager);
+    }
+
 }
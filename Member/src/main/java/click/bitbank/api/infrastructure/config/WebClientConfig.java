@@ -0,0 +1,104 @@
+package click.bitbank.api.infrastructure.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 서비스 간 호출용 WebClient 설정
+ * 모든 WebClient 가 하나의 커넥션 풀과 타임아웃 설정을 공유하며,
+ * Spring Boot 의 WebClientCustomizer(코덱, http.client.requests 메트릭)를 그대로 적용한다.
+ */
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * 서비스 간 호출 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider interServiceConnectionProvider(@Value("${msa.client.pool.max-connections:200}") int maxConnections,
+                                                             @Value("${msa.client.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+                                                             @Value("${msa.client.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+                                                             @Value("${msa.client.pool.max-idle-time:30s}") Duration maxIdleTime,
+                                                             @Value("${msa.client.pool.max-life-time:5m}") Duration maxLifeTime,
+                                                             @Value("${msa.client.pool.evict-in-background:30s}") Duration evictInBackground) {
+        return ConnectionProvider.builder("inter-service")
+            .maxConnections(maxConnections)
+            .pendingAcquireMaxCount(pendingAcquireMaxCount)
+            .pendingAcquireTimeout(pendingAcquireTimeout)
+            .maxIdleTime(maxIdleTime)   // 상대 서버가 먼저 끊은 유휴 커넥션 재사용 방지
+            .maxLifeTime(maxLifeTime)
+            .evictInBackground(evictInBackground)
+            .metrics(true)  // 대상 호스트 별 커넥션 풀 메트릭
+            .build();
+    }
+
+    /**
+     * 서비스 간 호출 HTTP 커넥터 (연결, 응답 타임아웃)
+     */
+    @Bean
+    public ReactorClientHttpConnector interServiceHttpConnector(ConnectionProvider interServiceConnectionProvider,
+                                                                @Value("${msa.client.connect-timeout:1s}") Duration connectTimeout,
+                                                                @Value("${msa.client.response-timeout:3s}") Duration responseTimeout) {
+        HttpClient httpClient = HttpClient.create(interServiceConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+            .responseTimeout(responseTimeout);
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * 기본 WebClient.Builder (고정 주소 호출)
+     * Builder 는 상태를 가지므로 주입 시마다 새로 생성
+     */
+    @Bean
+    @Primary
+    @Scope("prototype")
+    public WebClient.Builder webClientBuilder(ReactorClientHttpConnector interServiceHttpConnector,
+                                              ObjectProvider<WebClientCustomizer> customizerProvider) {
+        return customize(WebClient.builder().clientConnector(interServiceHttpConnector), customizerProvider);
+    }
+
+    /**
+     * Eureka 서비스 이름으로 호출하는 WebClient.Builder (lb://서비스이름)
+     */
+    @Bean
+    @LoadBalanced
+    @Scope("prototype")
+    public WebClient.Builder loadBalancedWebClientBuilder(ReactorClientHttpConnector interServiceHttpConnector,
+                                                          ObjectProvider<WebClientCustomizer> customizerProvider) {
+        return customize(WebClient.builder().clientConnector(interServiceHttpConnector), customizerProvider);
+    }
+
+    /**
+     * 설정된 주소에 맞는 WebClient 생성
+     * lb:// 로 시작하면 Eureka 로드밸런싱, 그 외에는 주소를 그대로 사용
+     *
+     * @param url : 대상 서비스 주소
+     * @param builder : 기본 WebClient.Builder
+     * @param loadBalancedBuilder : 로드밸런싱 WebClient.Builder
+     * @return WebClient : 대상 서비스 호출용 WebClient
+     */
+    public static WebClient create(String url, WebClient.Builder builder, WebClient.Builder loadBalancedBuilder) {
+        if (url.startsWith("lb://")) return loadBalancedBuilder.baseUrl("http://" + url.substring("lb://".length())).build();
+
+        return builder.baseUrl(url).build();
+    }
+
+    private WebClient.Builder customize(WebClient.Builder builder, ObjectProvider<WebClientCustomizer> customizerProvider) {
+        customizerProvider.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+}
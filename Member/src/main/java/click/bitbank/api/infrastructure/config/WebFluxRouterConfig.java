@@ -205,6 +205,39 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
                 }
             )
         ),
+        @RouterOperation(
+            path = "/member/alarm-stream",
+            produces = { MediaType.TEXT_EVENT_STREAM_VALUE },
+            headers = { HttpHeaders.AUTHORIZATION },
+            beanClass = MemberHandler.class,
+            method = RequestMethod.GET,
+            beanMethod = "alarm-stream",
+            operation = @Operation(
+                description = "읽지 않은 알림 갯수 실시간 구독 API (SSE, event : alarm-count, 토큰의 회원 고유번호와 같은 회원만 구독 가능)",
+                operationId = "alarm-stream",
+                parameters = {
+                    @Parameter(
+                        in = ParameterIn.QUERY,
+                        name = "memberId",
+                        description = "회원 고유번호",
+                        required = true,
+                        example = "1"
+                    )
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(
+                                implementation = AlarmCountResponse.class,
+                                required = true
+                            )
+                        )
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = "/member/logout",
             consumes = { MediaType.APPLICATION_JSON_VALUE },
@@ -350,6 +383,7 @@ public class WebFluxRouterConfig implements WebFluxConfigurer {
                 memberBuilder
                     .GET("/alarm-count", memberHandler::alarmCount) // 읽지 않은 알림 갯수 조회
                     .GET("/alarm-list", memberHandler::alarmList) // 읽지 않은 알림 목록 조회
+                    .GET("/alarm-stream", memberHandler::alarmStream) // 읽지 않은 알림 갯수 실시간 구독
                     .GET("/exist-verify", memberHandler::existVerify) // 회원 검증
             )
             .path("/member", memberBuilder ->
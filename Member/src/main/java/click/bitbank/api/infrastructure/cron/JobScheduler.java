@@ -0,0 +1,160 @@
+package click.bitbank.api.infrastructure.cron;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 클러스터 작업 스케줄러
+ * cron 주기마다 scheduler_lock 잠금을 획득한 인스턴스 하나만 작업을 실행한다.
+ * 작업이 다음 주기를 넘겨 실행되면 밀린 주기는 건너뛰며(중복 실행 없음), 실행 이력과 실행 시간을 기록한다.
+ */
+@Slf4j
+@Component
+public class JobScheduler {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+
+    private final SchedulerHistoryRepository schedulerHistoryRepository;
+
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId;    // 인스턴스 식별자
+
+    private final Duration lease;   // 잠금 유지 시간 (작업 최대 실행 시간)
+
+    private final Duration lockAtLeastFor;  // 최소 잠금 유지 시간
+
+    private final Disposable.Composite jobs = Disposables.composite();
+
+    public JobScheduler(SchedulerLockRepository schedulerLockRepository,
+                        SchedulerHistoryRepository schedulerHistoryRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${scheduler.node-id:}") String nodeId,
+                        @Value("${scheduler.lease:4m}") Duration lease,
+                        @Value("${scheduler.lock-at-least-for:30s}") Duration lockAtLeastFor) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.schedulerHistoryRepository = schedulerHistoryRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.lease = lease;
+        this.lockAtLeastFor = lockAtLeastFor;
+    }
+
+    /**
+     * 작업 등록
+     *
+     * @param jobName : 작업 이름 (잠금 이름)
+     * @param cron : 실행 주기 (cron 표현식)
+     * @param job : 실행할 작업
+     */
+    public void schedule(String jobName, String cron, Supplier<Mono<Void>> job) {
+        CronExpression cronExpression = CronExpression.parse(cron);
+
+        // 이전 실행이 끝난 뒤 다음 실행 시각을 계산하므로 같은 인스턴스에서 작업이 겹치지 않음
+        Disposable disposable = Mono.defer(() -> Mono.delay(untilNext(cronExpression), Schedulers.boundedElastic()))
+            .then(Mono.defer(() -> runWithLock(jobName, job)))
+            .onErrorResume(throwable -> {
+                log.error("[{}] 스케줄러 실행 오류 : {}", jobName, throwable.toString());
+                return Mono.empty();
+            })
+            .repeat()
+            .subscribe();
+
+        jobs.add(disposable);
+        log.info("[{}] 스케줄러 등록 (cron: {}, node: {})", jobName, cron, nodeId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.dispose();
+    }
+
+    /**
+     * 잠금 획득 시 작업 실행, 이력 저장 후 잠금 해제
+     *
+     * @param jobName : 작업 이름
+     * @param job : 실행할 작업
+     * @return Mono<Void> : 완료
+     */
+    private Mono<Void> runWithLock(String jobName, Supplier<Mono<Void>> job) {
+        return schedulerLockRepository.acquire(jobName, nodeId, lease)
+            .flatMap(acquired -> {
+                if (!acquired) {
+                    meterRegistry.counter("bitbank.scheduler.skipped", "job", jobName).increment();
+                    return Mono.empty();
+                }
+
+                LocalDateTime startDate = LocalDateTime.now();
+                long startNanos = System.nanoTime();
+
+                return Mono.defer(job)
+                    .timeout(lease) // 잠금이 만료되기 전에 종료
+                    .materialize()
+                    .flatMap(signal -> {
+                        long durationNanos = System.nanoTime() - startNanos;
+                        Throwable throwable = signal.isOnError() ? signal.getThrowable() : null;
+                        record(jobName, durationNanos, throwable);
+
+                        return schedulerHistoryRepository.save(jobName, nodeId, startDate, LocalDateTime.now(), TimeUnit.NANOSECONDS.toMillis(durationNanos), throwable)
+                            .onErrorResume(e -> {
+                                log.warn("[{}] 스케줄러 이력 저장 실패 : {}", jobName, e.toString());
+                                return Mono.empty();
+                            })
+                            .thenReturn(signal);
+                    })
+                    .flatMap(signal -> schedulerLockRepository.release(jobName, nodeId, lockAtLeastFor))
+                    .then();
+            });
+    }
+
+    /**
+     * 실행 시간 메트릭 기록
+     */
+    private void record(String jobName, long durationNanos, Throwable throwable) {
+        Timer.builder("bitbank.scheduler.run")
+            .tag("job", jobName)
+            .tag("result", throwable == null ? "success" : "fail")
+            .register(meterRegistry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        if (throwable != null) log.error("[{}] 스케줄러 작업 실패 : {}", jobName, throwable.toString());
+    }
+
+    /**
+     * 다음 실행 시각까지 대기 시간
+     */
+    private Duration untilNext(CronExpression cronExpression) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = cronExpression.next(now);
+        if (next == null) return Duration.ofDays(365);  // 다음 실행 시각이 없는 경우 사실상 중지
+
+        return Duration.between(now, next);
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
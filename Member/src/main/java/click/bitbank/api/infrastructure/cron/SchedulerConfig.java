@@ -1,32 +1,65 @@
 package click.bitbank.api.infrastructure.cron;
 
 import click.bitbank.api.application.member.AlarmSchedulerService;
+import click.bitbank.api.domain.model.alarm.AlarmFindSpecification;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.time.Duration;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SchedulerConfig {
 
     private final AlarmSchedulerService alarmSchedulerService;
+    private final JobScheduler jobScheduler;
+    private final AlarmFindSpecification alarmFindSpecification;
+
+    @Value("${scheduler.jobs.alarm-account-book.cron:0 */5 * * * *}")
+    private String alarmAccountBookCron;    // 가계부 작성 알림 생성 주기
+
+    @Value("${scheduler.jobs.alarm-card.cron:0 */5 * * * *}")
+    private String alarmCardCron;   // 카드 추천 알림 생성 주기
+
+    @Value("${alarm.counter.warm-up-interval:10m}")
+    private Duration alarmCounterWarmUpInterval;    // 읽지 않은 알림 갯수 전체 재조회 주기
+
+    private Disposable alarmCounterWarmUp;
 
     @PostConstruct
     void init() {
-        // 5분 마다 알림 생성
-        Flux.interval(Duration.ofMinutes(5))
+        // 클러스터 전체에서 주기 별 1회만 알림 생성
+        jobScheduler.schedule("alarmAccountBookJob", alarmAccountBookCron, alarmSchedulerService::alarmAccountBookJob);
+        jobScheduler.schedule("alarmCardJob", alarmCardCron, alarmSchedulerService::alarmCardJob);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void warmUpUnreadAlarmCounter() {
+        // 인스턴스마다 기동 시 1회, 이후 주기적으로 전체 재조회 (인스턴스 간 누락된 변경 보정)
+        alarmCounterWarmUp = Flux.interval(Duration.ZERO, alarmCounterWarmUpInterval, Schedulers.boundedElastic())
             .onBackpressureDrop()
-            .flatMap(aLong -> {
-                alarmSchedulerService.alarmAccountBookJob().subscribeOn(Schedulers.boundedElastic()).subscribe();
-                alarmSchedulerService.alarmCardJob().subscribeOn(Schedulers.boundedElastic()).subscribe();
-                return Mono.empty();
-            })
-            .subscribeOn(Schedulers.boundedElastic())
+            .concatMap(tick -> alarmFindSpecification.warmUpUnreadAlarmCounter()
+                .onErrorResume(throwable -> {
+                    log.warn("===== 읽지 않은 알림 갯수 재조회 실패 >>> {} =====", throwable.toString());
+                    return Mono.empty();
+                })
+            )
             .subscribe();
     }
+
+    @PreDestroy
+    void destroy() {
+        if (alarmCounterWarmUp != null) alarmCounterWarmUp.dispose();
+    }
 }
@@ -0,0 +1,57 @@
+package click.bitbank.api.infrastructure.cron;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 실행 이력 (scheduler_history)
+ */
+@Repository
+public class SchedulerHistoryRepository {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    public SchedulerHistoryRepository(@Qualifier("masterConnectionFactory") ConnectionFactory masterConnectionFactory) {
+        this.databaseClient = DatabaseClient.create(masterConnectionFactory);
+    }
+
+    /**
+     * 실행 이력 저장
+     *
+     * @param jobName : 작업 이름
+     * @param nodeId : 실행 인스턴스
+     * @param startDate : 시작 시각
+     * @param endDate : 종료 시각
+     * @param durationMs : 실행 시간 (ms)
+     * @param throwable : 실패 사유 (성공 시 null)
+     * @return Mono<Void> : 완료
+     */
+    public Mono<Void> save(String jobName, String nodeId, LocalDateTime startDate, LocalDateTime endDate, long durationMs, Throwable throwable) {
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.sql("INSERT INTO scheduler_history " +
+                "(jobName, nodeId, status, startDate, endDate, durationMs, errorMessage) " +
+                "VALUES (:jobName, :nodeId, :status, :startDate, :endDate, :durationMs, :errorMessage)")
+            .bind("jobName", jobName)
+            .bind("nodeId", nodeId)
+            .bind("status", throwable == null ? "SUCCESS" : "FAIL")
+            .bind("startDate", startDate)
+            .bind("endDate", endDate)
+            .bind("durationMs", durationMs);
+
+        executeSpec = throwable == null
+            ? executeSpec.bindNull("errorMessage", String.class)
+            : executeSpec.bind("errorMessage", truncate(throwable.toString()));
+
+        return executeSpec.fetch().rowsUpdated().then();
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+}
@@ -0,0 +1,71 @@
+package click.bitbank.api.infrastructure.cron;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 스케줄러 잠금 (scheduler_lock)
+ * 잠금은 항상 master 에서 처리하며, 잠금 만료 시각(lease)이 지나면 다른 인스턴스가 획득할 수 있다.
+ */
+@Repository
+public class SchedulerLockRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public SchedulerLockRepository(@Qualifier("masterConnectionFactory") ConnectionFactory masterConnectionFactory) {
+        this.databaseClient = DatabaseClient.create(masterConnectionFactory);
+    }
+
+    /**
+     * 잠금 획득
+     * 잠금 행이 없으면 생성 후, 만료되었거나 자신이 가진 잠금만 갱신한다.
+     *
+     * @param lockName : 작업 이름
+     * @param nodeId : 인스턴스 식별자
+     * @param lease : 잠금 유지 시간
+     * @return Mono<Boolean> : 획득 여부
+     */
+    public Mono<Boolean> acquire(String lockName, String nodeId, Duration lease) {
+        Mono<Integer> insertIfAbsent = databaseClient.sql("INSERT IGNORE INTO scheduler_lock (lockName, lockedBy, lockedUntil) VALUES (:lockName, '', NOW(3))")
+            .bind("lockName", lockName)
+            .fetch()
+            .rowsUpdated();
+
+        Mono<Integer> update = databaseClient.sql("UPDATE scheduler_lock " +
+                "SET lockedBy = :nodeId, lockedAt = NOW(3), lockedUntil = TIMESTAMPADD(MICROSECOND, :leaseMicros, NOW(3)) " +
+                "WHERE lockName = :lockName AND (lockedUntil <= NOW(3) OR lockedBy = :nodeId)")
+            .bind("nodeId", nodeId)
+            .bind("leaseMicros", lease.toNanos() / 1000)
+            .bind("lockName", lockName)
+            .fetch()
+            .rowsUpdated();
+
+        return insertIfAbsent.then(update).map(updatedCount -> updatedCount > 0);
+    }
+
+    /**
+     * 잠금 해제
+     * 다른 인스턴스가 같은 주기에 늦게 실행되어 중복 실행하지 않도록 획득 시각부터 최소 유지 시간까지는 잠금을 유지한다.
+     *
+     * @param lockName : 작업 이름
+     * @param nodeId : 인스턴스 식별자
+     * @param lockAtLeastFor : 최소 잠금 유지 시간
+     * @return Mono<Void> : 완료
+     */
+    public Mono<Void> release(String lockName, String nodeId, Duration lockAtLeastFor) {
+        return databaseClient.sql("UPDATE scheduler_lock " +
+                "SET lockedUntil = GREATEST(NOW(3), TIMESTAMPADD(MICROSECOND, :lockAtLeastForMicros, lockedAt)) " +
+                "WHERE lockName = :lockName AND lockedBy = :nodeId")
+            .bind("lockAtLeastForMicros", lockAtLeastFor.toNanos() / 1000)
+            .bind("lockName", lockName)
+            .bind("nodeId", nodeId)
+            .fetch()
+            .rowsUpdated()
+            .then();
+    }
+}
@@ -4,8 +4,6 @@ import click.bitbank.api.application.response.AlarmCountResponse;
 import click.bitbank.api.application.response.AlarmDTO;
 import click.bitbank.api.application.response.AlarmListResponse;
 import click.bitbank.api.domain.model.alarm.Alarm;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
@@ -13,11 +11,8 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class AlarmResponseFactory {
 
-    private final ModelMapper modelMapper;
-
     /**
      * 읽지 않은 알림 갯수 결과 구성
      * @param aLong : 읽지 않은 알림 갯수
@@ -37,7 +32,7 @@ public class AlarmResponseFactory {
 
         // 알림 메시지 목록
         List<AlarmDTO> alarmMessageList = alarmList.stream()
-            .map(alarm -> modelMapper.map(alarm, AlarmDTO.class))
+            .map(AlarmDTO::of)
             .collect(Collectors.toList());
 
         return new AlarmListResponse(alarmMessageList);
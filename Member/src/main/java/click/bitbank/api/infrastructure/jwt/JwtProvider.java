@@ -18,13 +18,15 @@ public class JwtProvider {
     private String secret;
 
     public String createJwtToken(Member member, long interval) {
-        Date expiration = new Date(System.currentTimeMillis() + interval);
+        long now = System.currentTimeMillis();
+        Date expiration = new Date(now + interval);
         SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
 
         return Jwts.builder()
                 .claim("memberId", member.getMemberId()) // MemberId
                 .claim("memberType", member.getMemberType()) // MemberType
                 .signWith(key, SignatureAlgorithm.HS256) // 해시값
+                .setIssuedAt(new Date(now)) // 발급시간 (로그아웃 이전 발급 토큰 폐기에 사용)
                 .setExpiration(expiration) // 만료시간
                 .compact();
     }
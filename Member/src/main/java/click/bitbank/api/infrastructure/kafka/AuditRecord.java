@@ -0,0 +1,31 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 감사 로그 레코드 (발행 대기)
+ * 요청 경로에서는 값만 담아두고, AuditEvent 변환 및 직렬화는 drainer 에서 처리한다.
+ */
+@Getter
+@Builder
+@ToString
+public class AuditRecord {
+
+    private String topic;   // 발행할 topic
+
+    private AuditEvent.Type type;   // 레코드 유형
+
+    private String route;   // 라우트 패턴 (없으면 요청 경로)
+
+    private String method;  // HTTP Method
+
+    private Integer memberId;   // 회원 고유번호 (요청 파라미터)
+
+    private Long latencyMs; // 요청 처리 시간 (ms)
+
+    private Object payload; // 요청, 응답, 예외 내용
+
+    private long timestamp; // 생성 시각 (epoch millis)
+}
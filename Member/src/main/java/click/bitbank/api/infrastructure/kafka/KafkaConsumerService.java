@@ -0,0 +1,43 @@
+package click.bitbank.api.infrastructure.kafka;
+
+import click.bitbank.api.domain.model.alarm.AlarmFindSpecification;
+import click.bitbank.api.infrastructure.cache.UnreadAlarmCounter;
+import click.bitbank.api.infrastructure.sse.AlarmStreamHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KafkaConsumerService {
+
+    private final AlarmStreamHub alarmStreamHub;
+    private final AlarmFindSpecification alarmFindSpecification;
+    private final UnreadAlarmCounter unreadAlarmCounter;
+
+    /**
+     * Kafka alarm-changed-topic 메시지 받기
+     * 모든 인스턴스의 SSE 구독자에게 전달해야 하므로 인스턴스마다 고유한 Consumer Group 으로 구독
+     * @param record : key - 회원 고유번호 (없으면 전체), value - 읽지 않은 알림 갯수
+     */
+    @KafkaListener(topics = KafkaProducerService.ALARM_CHANGED_TOPIC, groupId = "member-alarm-stream-#{T(java.util.UUID).randomUUID().toString()}")
+    public void consumeAlarmChangedTopic(ConsumerRecord<String, String> record) {
+
+        if (record.key() == null) {
+            // 알림 일괄 생성 -> 읽지 않은 알림 갯수 전체 재조회 후 이 인스턴스에서 구독 중인 회원에게 전달
+            alarmFindSpecification.warmUpUnreadAlarmCounter()
+                .doOnSuccess(unused -> alarmFindSpecification.publishConnectedUnreadAlarmCount())
+                .subscribe(null, throwable -> log.warn("===== 읽지 않은 알림 갯수 재조회 실패 >>> {} =====", throwable.toString()));
+            return;
+        }
+
+        int memberId = Integer.parseInt(record.key());
+        long unreadCount = Long.parseLong(record.value());
+
+        unreadAlarmCounter.set(memberId, unreadCount);
+        alarmStreamHub.publish(memberId, unreadCount);
+    }
+}
@@ -0,0 +1,129 @@
+package click.bitbank.api.infrastructure.sse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 별 읽지 않은 알림 갯수 전달 허브 (인스턴스 내)
+ * 회원마다 Sink 하나를 두고 해당 회원의 SSE 구독자 모두에게 변경된 갯수를 전달한다.
+ * 구독자가 없는 채널은 idle-timeout 이 지나면 제거한다.
+ */
+@Slf4j
+@Component
+public class AlarmStreamHub {
+
+    private final ConcurrentHashMap<Integer, Channel> channels = new ConcurrentHashMap<>();
+
+    private final Duration idleTimeout; // 구독자가 없는 채널 유지 시간
+
+    private Disposable evictor;
+
+    public AlarmStreamHub(MeterRegistry meterRegistry,
+                          @Value("${alarm.stream.idle-timeout:5m}") Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        meterRegistry.gaugeMapSize("bitbank.alarm.stream.channels", Collections.emptyList(), channels);
+    }
+
+    @PostConstruct
+    void init() {
+        // 구독자가 없는 채널 주기적 제거
+        evictor = Flux.interval(idleTimeout, Schedulers.boundedElastic())
+            .subscribe(tick -> evictIdleChannels());
+    }
+
+    @PreDestroy
+    void destroy() {
+        if (evictor != null) evictor.dispose();
+        channels.values().forEach(channel -> channel.sink.tryEmitComplete());
+    }
+
+    /**
+     * 회원의 읽지 않은 알림 갯수 변경 구독
+     *
+     * @param memberId : 회원 고유번호
+     * @return Flux<Long> : 변경된 읽지 않은 알림 갯수
+     */
+    public Flux<Long> subscribe(int memberId) {
+        return Flux.defer(() -> {
+            Channel channel = channels.compute(memberId, (key, current) -> {
+                Channel target = current == null ? new Channel() : current;
+                target.subscribers.incrementAndGet();
+                return target;
+            });
+
+            return channel.sink.asFlux()
+                .onBackpressureLatest() // 느린 구독자는 최신 갯수만 받음
+                .doFinally(signalType -> {
+                    channel.subscribers.decrementAndGet();
+                    channel.touch();
+                });
+        });
+    }
+
+    /**
+     * 읽지 않은 알림 갯수 전달 (구독 중인 회원만)
+     *
+     * @param memberId : 회원 고유번호
+     * @param unreadCount : 읽지 않은 알림 갯수
+     */
+    public void publish(int memberId, long unreadCount) {
+        Channel channel = channels.get(memberId);
+        if (channel == null) return;
+
+        synchronized (channel) {    // Sink 는 동시 emit 을 허용하지 않으므로 채널 단위로 직렬화
+            channel.sink.tryEmitNext(unreadCount);
+        }
+        channel.touch();
+    }
+
+    /**
+     * 구독 중인 회원 목록
+     *
+     * @return Set<Integer> : 회원 고유번호 목록
+     */
+    public Set<Integer> connectedMemberIds() {
+        return channels.keySet();
+    }
+
+    /**
+     * 구독자가 없고 idle-timeout 이 지난 채널 제거
+     */
+    void evictIdleChannels() {
+        long now = System.nanoTime();
+        for (Integer memberId : channels.keySet()) {
+            channels.computeIfPresent(memberId, (key, channel) ->
+                channel.subscribers.get() == 0 && now - channel.lastAccessNanos > idleTimeout.toNanos() ? null : channel
+            );
+        }
+    }
+
+    /**
+     * 회원 별 채널
+     */
+    private static class Channel {
+
+        private final Sinks.Many<Long> sink = Sinks.many().multicast().directBestEffort();
+
+        private final AtomicInteger subscribers = new AtomicInteger();
+
+        private volatile long lastAccessNanos = System.nanoTime();
+
+        private void touch() {
+            lastAccessNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package click.bitbank.api.infrastructure.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.Optional;
+
+/**
+ * Gateway 에서 토큰 검증 후 전달한 회원 정보
+ * Gateway 는 외부에서 전달된 X-Member-Id, X-Member-Type 헤더를 제거하고 검증된 토큰의 값으로만 설정하므로,
+ * 헤더가 있으면 토큰 검증을 통과한 회원으로 보고 조회 API 의 회원 확인을 생략할 수 있다.
+ * Gateway 의 토큰 폐기 목록은 인스턴스 메모리에만 있어 탈퇴한 회원의 토큰이 통과할 수 있으므로,
+ * 데이터를 변경하는 API 는 헤더와 관계없이 회원을 확인한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AuthenticatedMember {
+
+    public static final String MEMBER_ID_HEADER = "X-Member-Id";
+    public static final String MEMBER_TYPE_HEADER = "X-Member-Type";
+
+    private final int memberId; // 회원 고유번호
+
+    private final String memberType; // 회원 권한
+
+    /**
+     * 요청 헤더에서 검증된 회원 정보 추출
+     * @param serverRequest : 서버 요청
+     * @return Optional<AuthenticatedMember> : 검증된 회원 정보 (Gateway 를 거치지 않은 요청은 empty)
+     */
+    public static Optional<AuthenticatedMember> from(ServerRequest serverRequest) {
+        String memberId = serverRequest.headers().firstHeader(MEMBER_ID_HEADER);
+        if (memberId == null) return Optional.empty();
+
+        try {
+            return Optional.of(new AuthenticatedMember(Integer.parseInt(memberId.trim()), serverRequest.headers().firstHeader(MEMBER_TYPE_HEADER)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청한 회원 고유번호가 Gateway 에서 검증된 회원인지 확인
+     * @param serverRequest : 서버 요청
+     * @param memberId : 요청한 회원 고유번호
+     * @return boolean : 검증된 회원 여부
+     */
+    public static boolean isVerified(ServerRequest serverRequest, int memberId) {
+        return from(serverRequest)
+            .map(authenticatedMember -> authenticatedMember.getMemberId() == memberId)
+            .orElse(false);
+    }
+}
@@ -0,0 +1,228 @@
+package click.bitbank.api.infrastructure.util;
+
+/**
+ * int -> int 오픈 어드레싱(선형 탐사) 해시 맵
+ * 박싱 없이 배열 두 개로만 저장하며, 삭제 시 뒤따르는 항목을 당겨 채우므로 삭제 표시(tombstone)가 남지 않는다.
+ * 키 0 은 빈 슬롯 표시로 사용하므로 별도 필드에 저장한다.
+ * 스레드 안전하지 않으므로 외부에서 동기화해야 한다.
+ * 변경과 동시에 조회하면 잘못된 값이나 배열 범위 오류가 날 수 있지만, 채움 비율 때문에 빈 슬롯이 항상 남아 탐사는 끝나므로
+ * 낙관적 읽기 후 검증(StampedLock)하는 방식으로는 잠금 없이 조회할 수 있다.
+ */
+public class IntIntMap {
+
+    private static final int FREE_KEY = 0;
+
+    private static final float FILL_FACTOR = 0.5f;
+
+    private int[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int threshold;
+
+    private int size;   // 키 0 을 제외한 항목 수
+
+    private boolean hasFreeKey;
+
+    private int freeValue;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize : 예상 항목 수
+     */
+    public IntIntMap(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.ceil(Math.max(expectedSize, 1) / FILL_FACTOR));
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = (int) (capacity * FILL_FACTOR);
+    }
+
+    /**
+     * 값 조회
+     *
+     * @param key : 키
+     * @param defaultValue : 키가 없을 때 반환할 값
+     * @return int : 값
+     */
+    public int get(int key, int defaultValue) {
+        if (key == FREE_KEY) return hasFreeKey ? freeValue : defaultValue;
+
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * 키 존재 여부
+     *
+     * @param key : 키
+     * @return boolean : 존재 여부
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? hasFreeKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * 값 저장
+     *
+     * @param key : 키
+     * @param value : 값
+     */
+    public void put(int key, int value) {
+        if (key == FREE_KEY) {
+            hasFreeKey = true;
+            freeValue = value;
+            return;
+        }
+
+        int index = slot(key);
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size >= threshold) rehash(keys.length << 1);
+    }
+
+    /**
+     * 값 증감 (키가 없으면 0 에서 시작)
+     *
+     * @param key : 키
+     * @param delta : 증감할 값
+     * @return int : 변경된 값
+     */
+    public int addTo(int key, int delta) {
+        int value = get(key, 0) + delta;
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 항목 삭제
+     *
+     * @param key : 키
+     * @return boolean : 삭제 여부
+     */
+    public boolean remove(int key) {
+        if (key == FREE_KEY) {
+            boolean removed = hasFreeKey;
+            hasFreeKey = false;
+            freeValue = 0;
+            return removed;
+        }
+
+        int index = indexOf(key);
+        if (index < 0) return false;
+
+        shiftKeys(index);
+        size--;
+        return true;
+    }
+
+    /**
+     * 전체 항목 순회 (순서 없음, 순회 중 변경 불가)
+     *
+     * @param action : 키, 값 처리
+     */
+    public void forEach(EntryConsumer action) {
+        if (hasFreeKey) action.accept(FREE_KEY, freeValue);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * 항목 수
+     *
+     * @return int : 항목 수
+     */
+    public int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * 키 위치 조회
+     *
+     * @param key : 키 (0 제외)
+     * @return int : 배열 위치 (없으면 -1)
+     */
+    private int indexOf(int key) {
+        int index = slot(key);
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 삭제된 위치 뒤의 항목을 원래 위치에 더 가깝게 당겨 탐사 구간이 끊기지 않도록 함
+     *
+     * @param index : 삭제할 위치
+     */
+    private void shiftKeys(int index) {
+        int last = index;
+        int current = (index + 1) & mask;
+
+        while (keys[current] != FREE_KEY) {
+            int home = slot(keys[current]);
+            // home 이 (last, current] 구간 밖이면 last 로 당겨도 탐사 경로가 유지됨
+            if (((current - home) & mask) >= ((current - last) & mask)) {
+                keys[last] = keys[current];
+                values[last] = values[current];
+                last = current;
+            }
+            current = (current + 1) & mask;
+        }
+
+        keys[last] = FREE_KEY;
+        values[last] = 0;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * FILL_FACTOR);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) put(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    /**
+     * 연속된 회원 고유번호가 같은 구간에 몰리지 않도록 섞은 뒤 위치 계산
+     */
+    private int slot(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        return Math.max(size, 2);
+    }
+
+    /**
+     * 키, 값 처리 (박싱 없이 순회)
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+}
@@ -1,20 +1,20 @@
 package click.bitbank.api.infrastructure.webClient;
 
+import click.bitbank.api.infrastructure.config.WebClientConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.stereotype.Component;
-import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Component
 public class WebClientService {
 
-    private WebClient client;
+    private final WebClient client;
 
-    @Value("${msa.client.url.gateway}")
-    private String gatewayUrl;
-
-    public WebClientService(WebClient.Builder builder) {
-        this.client = builder.baseUrl(gatewayUrl).build();
+    public WebClientService(WebClient.Builder builder,
+                            @LoadBalanced WebClient.Builder loadBalancedBuilder,
+                            @Value("${msa.client.url.gateway}") String gatewayUrl) {
+        this.client = WebClientConfig.create(gatewayUrl, builder, loadBalancedBuilder);
     }
 
 }
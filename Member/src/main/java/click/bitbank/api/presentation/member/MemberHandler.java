@@ -7,13 +7,19 @@ import click.bitbank.api.application.response.MemberLoginResponse;
 import click.bitbank.api.application.response.MemberSignupResponse;
 import click.bitbank.api.presentation.shared.response.SuccessResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+
 import static org.springframework.web.reactive.function.server.ServerResponse.ok;
 
 @Component
@@ -22,6 +28,9 @@ public class MemberHandler {
 
     private final MemberApplicationService memberApplicationService;
 
+    @Value("${alarm.stream.heartbeat:15s}")
+    private Duration heartbeat; // 연결 유지용 SSE 주석 전송 간격
+
     /**
      * 소셜 로그인
      * @param request : 소셜 정보
@@ -142,6 +151,30 @@ public class MemberHandler {
             .body(response, AlarmListResponse.class);
     }
 
+    /**
+     * 읽지 않은 알림 갯수 실시간 구독 (SSE)
+     * 현재 갯수를 먼저 전달하고 이후 변경될 때마다 alarm-count 이벤트로 전달
+     * @param request : 회원 정보
+     * @return Mono<ServerResponse> : 읽지 않은 알림 갯수 스트림
+     */
+    public Mono<ServerResponse> alarmStream(ServerRequest request) {
+
+        // 허브 구독을 먼저 시작해 현재 갯수 조회 중 발생한 변경도 놓치지 않도록 함
+        Flux<AlarmCountResponse> alarmCount = Flux.merge(
+            memberApplicationService.alarmCountStream(request),
+            memberApplicationService.findAlarmCount(request).subscribeOn(Schedulers.boundedElastic())
+        );
+
+        Flux<ServerSentEvent<AlarmCountResponse>> response = Flux.merge(
+            alarmCount.map(alarmCountResponse -> ServerSentEvent.builder(alarmCountResponse).event("alarm-count").build()),
+            Flux.interval(heartbeat).map(tick -> ServerSentEvent.<AlarmCountResponse>builder().comment("heartbeat").build())
+        );
+
+        return ok()
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .body(response, new ParameterizedTypeReference<ServerSentEvent<AlarmCountResponse>>() {});
+    }
+
     /**
      * 회원 검증
      * @param request : 회원 정보
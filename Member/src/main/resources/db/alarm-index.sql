@@ -0,0 +1,3 @@
+-- 알림 일괄 생성 (NOT EXISTS), 읽지 않은 알림 조회/집계용 인덱스
+-- 회원 별 읽지 않은 알림 존재 여부를 인덱스만으로 확인
+ALTER TABLE alarm ADD INDEX idx_alarm_member_check (memberId, alarmCheck);
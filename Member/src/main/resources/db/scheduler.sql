@@ -0,0 +1,22 @@
+-- 스케줄러 잠금 (클러스터 전체에서 작업 별 1개 인스턴스만 실행)
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    lockName    VARCHAR(64)  NOT NULL COMMENT '작업 이름',
+    lockedBy    VARCHAR(255) NOT NULL DEFAULT '' COMMENT '잠금을 획득한 인스턴스',
+    lockedAt    DATETIME(3)  NULL COMMENT '잠금 획득 시각',
+    lockedUntil DATETIME(3)  NOT NULL COMMENT '잠금 만료 시각',
+    PRIMARY KEY (lockName)
+);
+
+-- 스케줄러 실행 이력
+CREATE TABLE IF NOT EXISTS scheduler_history (
+    historyId    BIGINT        NOT NULL AUTO_INCREMENT,
+    jobName      VARCHAR(64)   NOT NULL COMMENT '작업 이름',
+    nodeId       VARCHAR(255)  NOT NULL COMMENT '실행 인스턴스',
+    status       VARCHAR(16)   NOT NULL COMMENT '실행 결과 (SUCCESS, FAIL)',
+    startDate    DATETIME(3)   NOT NULL COMMENT '시작 시각',
+    endDate      DATETIME(3)   NOT NULL COMMENT '종료 시각',
+    durationMs   BIGINT        NOT NULL COMMENT '실행 시간 (ms)',
+    errorMessage VARCHAR(1000) NULL COMMENT '실패 사유',
+    PRIMARY KEY (historyId),
+    KEY idx_scheduler_history_job_start (jobName, startDate)
+);
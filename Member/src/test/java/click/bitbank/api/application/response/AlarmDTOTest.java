@@ -0,0 +1,35 @@
+package click.bitbank.api.application.response;
+
+import click.bitbank.api.domain.model.alarm.Alarm;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlarmDTOTest {
+
+    /**
+     * Alarm -> AlarmDTO 변환 (이름이 같은 필드 모두 복사)
+     */
+    @Test
+    void of() {
+        // given
+        Alarm alarm = Alarm.builder()
+            .alarmId(3)
+            .alarmMessage("알림 메시지")
+            .alarmCheck(false)
+            .regDate(LocalDateTime.of(2022, 5, 1, 9, 0))
+            .memberId(1)
+            .build();
+
+        // when
+        AlarmDTO alarmDTO = AlarmDTO.of(alarm);
+
+        // then
+        assertAll(() -> {
+            assertEquals("알림 메시지", alarmDTO.getAlarmMessage());
+            assertEquals(LocalDateTime.of(2022, 5, 1, 9, 0), alarmDTO.getRegDate());
+        });
+    }
+}
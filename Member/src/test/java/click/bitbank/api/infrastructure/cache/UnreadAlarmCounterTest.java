@@ -0,0 +1,106 @@
+package click.bitbank.api.infrastructure.cache;
+
+import click.bitbank.api.domain.model.alarm.UnreadAlarmCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnreadAlarmCounterTest {
+
+    private final UnreadAlarmCounter unreadAlarmCounter = new UnreadAlarmCounter(new SimpleMeterRegistry());
+
+    /**
+     * 저장, 차감, 0 이하면 삭제
+     */
+    @Test
+    void setAndDecrement() {
+        // when
+        unreadAlarmCounter.set(1, 3);
+        unreadAlarmCounter.set(2, 1);
+        long decremented = unreadAlarmCounter.decrement(1, 2);
+        unreadAlarmCounter.decrement(2, 5);
+
+        // then
+        assertAll(() -> {
+            assertEquals(1, decremented);
+            assertEquals(1, unreadAlarmCounter.get(1));
+            assertEquals(0, unreadAlarmCounter.get(2));
+            assertEquals(1, unreadAlarmCounter.size());
+        });
+    }
+
+    /**
+     * warm-up 조회 이후 읽음 처리된 회원은 조회 결과로 덮어쓰지 않음
+     */
+    @Test
+    void loadKeepsChangesAfterQuery() {
+        // given
+        unreadAlarmCounter.set(1, 5);
+        unreadAlarmCounter.set(2, 5);
+        int since = unreadAlarmCounter.version();   // 조회 시작
+
+        // when
+        unreadAlarmCounter.decrement(1, 5);   // 조회 중 읽음 처리
+        unreadAlarmCounter.load(List.of(new UnreadAlarmCount(1, 5), new UnreadAlarmCount(2, 7), new UnreadAlarmCount(3, 2)), since);
+
+        // then
+        assertAll(() -> {
+            assertTrue(unreadAlarmCounter.isWarmedUp());
+            assertEquals(0, unreadAlarmCounter.get(1));
+            assertEquals(7, unreadAlarmCounter.get(2));
+            assertEquals(2, unreadAlarmCounter.get(3));
+            assertEquals(2, unreadAlarmCounter.size());
+        });
+    }
+
+    /**
+     * 알림 생성 후 반영 시 조회 이후 읽음 처리된 회원은 건너뜀
+     */
+    @Test
+    void setAllSkipsChangesAfterQuery() {
+        // given
+        int since = unreadAlarmCounter.version();   // 구간 조회 시작
+
+        // when
+        unreadAlarmCounter.decrement(1, 1);   // 커밋 후 반영 전에 읽음 처리
+        unreadAlarmCounter.setAll(List.of(new UnreadAlarmCount(1, 1), new UnreadAlarmCount(2, 1)), since);
+
+        // then
+        assertAll(() -> {
+            assertEquals(0, unreadAlarmCounter.get(1));
+            assertEquals(1, unreadAlarmCounter.get(2));
+        });
+    }
+
+    /**
+     * 여러 스레드에서 동시에 변경, 조회 (낙관적 읽기 중 확장, 삭제)
+     */
+    @Test
+    void concurrentReadWrite() throws InterruptedException {
+        // given
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 100_000; i++) {
+                unreadAlarmCounter.set(i, i % 7);
+                if (i % 3 == 0) unreadAlarmCounter.decrement(i, 1);
+            }
+        });
+
+        // when
+        writer.start();
+        while (writer.isAlive()) {
+            for (int i = 1; i <= 1_000; i++) assertTrue(unreadAlarmCounter.get(i) >= 0);
+        }
+        writer.join();
+
+        // then
+        assertAll(() -> {
+            assertEquals(4, unreadAlarmCounter.get(4));
+            assertEquals(1, unreadAlarmCounter.get(9));    // 9 % 7 = 2, 3 의 배수이므로 1 차감
+            assertEquals(0, unreadAlarmCounter.get(7));
+            assertEquals(0, unreadAlarmCounter.get(100_001));
+        });
+    }
+}
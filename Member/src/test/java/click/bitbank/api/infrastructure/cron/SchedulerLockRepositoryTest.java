@@ -0,0 +1,182 @@
+package click.bitbank.api.infrastructure.cron;
+
+import dev.miku.r2dbc.mysql.MySqlConnectionConfiguration;
+import dev.miku.r2dbc.mysql.MySqlConnectionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스케줄러 잠금 테스트
+ * 실제 MySQL 에서 여러 인스턴스가 같은 주기에 잠금을 획득할 때 1개 인스턴스만 실행되는지 확인한다.
+ * Docker 가 없는 환경에서는 테스트를 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchedulerLockRepositoryTest {
+
+    private static final String LOCK_NAME = "alarmMessageRegistration";
+    private static final Duration LEASE = Duration.ofMinutes(4);
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.28");
+
+    private static DatabaseClient databaseClient;
+    private static SchedulerLockRepository schedulerLockRepository;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        MySqlConnectionFactory connectionFactory = MySqlConnectionFactory.from(MySqlConnectionConfiguration.builder()
+            .host(mysql.getHost())
+            .port(mysql.getMappedPort(MySQLContainer.MYSQL_PORT))
+            .username(mysql.getUsername())
+            .password(mysql.getPassword())
+            .database(mysql.getDatabaseName())
+            .build());
+
+        databaseClient = DatabaseClient.create(connectionFactory);
+        schedulerLockRepository = new SchedulerLockRepository(connectionFactory);
+
+        executeScript("db/scheduler.sql");
+    }
+
+    @BeforeEach
+    void clear() {
+        databaseClient.sql("DELETE FROM scheduler_lock").then().block();
+    }
+
+    /**
+     * 같은 주기에 여러 인스턴스가 동시에 획득 시도 시 1개 인스턴스만 획득
+     */
+    @Test
+    void competeForOneTick() {
+        // when
+        List<Boolean> acquired = Flux.range(0, 8)
+            .flatMap(node -> schedulerLockRepository.acquire(LOCK_NAME, "node-" + node, LEASE)
+                .subscribeOn(Schedulers.parallel()))
+            .collectList()
+            .block();
+
+        // then
+        assertNotNull(acquired);
+        assertAll(() -> {
+            assertEquals(8, acquired.size());
+            assertEquals(1, acquired.stream().filter(Boolean::booleanValue).count());
+        });
+    }
+
+    /**
+     * 잠금을 가진 인스턴스는 만료 전에도 다시 획득
+     */
+    @Test
+    void reacquireBySameNode() throws InterruptedException {
+        // given
+        assertEquals(Boolean.TRUE, schedulerLockRepository.acquire(LOCK_NAME, "node-a", LEASE).block());
+
+        // when
+        Thread.sleep(5);    // 다음 주기 (잠금 획득 시각 변경)
+        Boolean reacquired = schedulerLockRepository.acquire(LOCK_NAME, "node-a", LEASE).block();
+        Boolean other = schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block();
+
+        // then
+        assertAll(() -> {
+            assertEquals(Boolean.TRUE, reacquired);
+            assertEquals(Boolean.FALSE, other);
+        });
+    }
+
+    /**
+     * 잠금 유지 시간이 지나면 (인스턴스 장애 등으로 해제하지 못한 경우) 다른 인스턴스가 획득
+     */
+    @Test
+    void acquireExpiredLease() throws InterruptedException {
+        // given
+        assertEquals(Boolean.TRUE, schedulerLockRepository.acquire(LOCK_NAME, "node-a", Duration.ofMillis(100)).block());
+        assertEquals(Boolean.FALSE, schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block());
+
+        // when
+        Thread.sleep(200);
+        Boolean acquired = schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block();
+
+        // then
+        assertAll(() -> {
+            assertEquals(Boolean.TRUE, acquired);
+            assertEquals("node-b", lockedBy());
+        });
+    }
+
+    /**
+     * 해제 후에도 획득 시각부터 최소 잠금 유지 시간까지는 다른 인스턴스가 획득하지 못함
+     */
+    @Test
+    void releaseKeepsLockAtLeastFor() throws InterruptedException {
+        // given
+        assertEquals(Boolean.TRUE, schedulerLockRepository.acquire(LOCK_NAME, "node-a", LEASE).block());
+
+        // when
+        schedulerLockRepository.release(LOCK_NAME, "node-a", Duration.ofMillis(500)).block();
+        Boolean beforeLockAtLeastFor = schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block();
+        Thread.sleep(600);
+        Boolean afterLockAtLeastFor = schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block();
+
+        // then
+        assertAll(() -> {
+            assertEquals(Boolean.FALSE, beforeLockAtLeastFor);
+            assertEquals(Boolean.TRUE, afterLockAtLeastFor);
+        });
+    }
+
+    /**
+     * 다른 인스턴스의 잠금은 해제하지 않음
+     */
+    @Test
+    void releaseOnlyOwnLock() {
+        // given
+        assertEquals(Boolean.TRUE, schedulerLockRepository.acquire(LOCK_NAME, "node-a", LEASE).block());
+
+        // when
+        schedulerLockRepository.release(LOCK_NAME, "node-b", Duration.ZERO).block();
+        Boolean acquired = schedulerLockRepository.acquire(LOCK_NAME, "node-b", LEASE).block();
+
+        // then
+        assertAll(() -> {
+            assertEquals(Boolean.FALSE, acquired);
+            assertEquals("node-a", lockedBy());
+        });
+    }
+
+    private static String lockedBy() {
+        return databaseClient.sql("SELECT lockedBy FROM scheduler_lock WHERE lockName = :lockName")
+            .bind("lockName", LOCK_NAME)
+            .map(row -> row.get("lockedBy", String.class))
+            .one()
+            .block();
+    }
+
+    private static void executeScript(String path) throws IOException {
+        String script = new String(new ClassPathResource(path).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        Flux.fromArray(script.split(";"))
+            .map(sql -> sql.lines()
+                .filter(line -> !line.trim().startsWith("--"))
+                .reduce("", (a, b) -> a + "\n" + b)
+                .trim())
+            .filter(sql -> !sql.isEmpty())
+            .concatMap(sql -> databaseClient.sql(sql).then())
+            .then()
+            .block();
+    }
+}
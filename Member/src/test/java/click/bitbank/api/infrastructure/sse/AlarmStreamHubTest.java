@@ -0,0 +1,61 @@
+package click.bitbank.api.infrastructure.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlarmStreamHubTest {
+
+    private final AlarmStreamHub alarmStreamHub = new AlarmStreamHub(new SimpleMeterRegistry(), Duration.ofMillis(1));
+
+    /**
+     * 구독 중인 회원에게만 전달 (구독하지 않은 회원은 채널을 만들지 않음)
+     */
+    @Test
+    void publishToSubscriber() {
+        StepVerifier.create(alarmStreamHub.subscribe(1))
+            .then(() -> {
+                alarmStreamHub.publish(1, 3);
+                alarmStreamHub.publish(2, 9);
+            })
+            .expectNext(3L)
+            .then(() -> alarmStreamHub.publish(1, 2))
+            .expectNext(2L)
+            .then(() -> assertAll(() -> {
+                assertTrue(alarmStreamHub.connectedMemberIds().contains(1));
+                assertFalse(alarmStreamHub.connectedMemberIds().contains(2));
+            }))
+            .thenCancel()
+            .verify();
+    }
+
+    /**
+     * 구독자가 없고 idle-timeout 이 지난 채널만 제거
+     */
+    @Test
+    void evictIdleChannels() throws InterruptedException {
+        // given
+        Disposable connected = alarmStreamHub.subscribe(1).subscribe();
+        alarmStreamHub.subscribe(2).subscribe().dispose();   // 구독 종료
+
+        // when
+        Thread.sleep(5);
+        alarmStreamHub.evictIdleChannels();
+
+        // then
+        assertAll(() -> {
+            assertTrue(alarmStreamHub.connectedMemberIds().contains(1));
+            assertFalse(alarmStreamHub.connectedMemberIds().contains(2));
+        });
+
+        connected.dispose();
+        Thread.sleep(5);
+        alarmStreamHub.evictIdleChannels();
+        assertTrue(alarmStreamHub.connectedMemberIds().isEmpty());
+    }
+}
@@ -0,0 +1,90 @@
+package click.bitbank.api.infrastructure.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntMapTest {
+
+    /**
+     * 저장, 조회, 증감, 삭제
+     */
+    @Test
+    void putGetAddToRemove() {
+        // given
+        IntIntMap map = new IntIntMap(2);
+
+        // when
+        map.put(1, 3);
+        map.put(0, 7);  // 빈 슬롯 표시로 쓰는 키
+        map.addTo(1, -1);
+        map.addTo(2, 5);
+
+        // then
+        assertAll(() -> {
+            assertEquals(2, map.get(1, -1));
+            assertEquals(7, map.get(0, -1));
+            assertEquals(5, map.get(2, -1));
+            assertEquals(-1, map.get(3, -1));
+            assertEquals(3, map.size());
+            assertTrue(map.remove(0));
+            assertFalse(map.containsKey(0));
+            assertTrue(map.remove(1));
+            assertFalse(map.remove(1));
+            assertEquals(1, map.size());
+        });
+    }
+
+    /**
+     * 전체 항목 순회 (키 0 포함)
+     */
+    @Test
+    void forEach() {
+        // given
+        IntIntMap map = new IntIntMap();
+        map.put(0, 1);
+        map.put(5, 2);
+        map.put(9, 3);
+        map.remove(5);
+
+        // when
+        Map<Integer, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+
+        // then
+        assertEquals(Map.of(0, 1, 9, 3), entries);
+    }
+
+    /**
+     * 무작위 저장, 삭제 후 HashMap 과 결과 비교 (삭제 시 탐사 구간 유지, 확장 검증)
+     */
+    @Test
+    void matchesHashMapAfterRandomOperations() {
+        // given
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                int value = random.nextInt();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        // then
+        assertEquals(expected.size(), map.size());
+        for (int key = 0; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, Integer.MIN_VALUE), map.get(key, Integer.MIN_VALUE));
+        }
+    }
+}
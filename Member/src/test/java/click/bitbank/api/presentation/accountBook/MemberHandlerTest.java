@@ -19,9 +19,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.FluxExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.ServerRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
+
 import static click.bitbank.api.infrastructure.factory.MemberTestFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -239,6 +242,36 @@ class MemberHandlerTest {
             .verifyComplete();
     }
 
+    /**
+     * 읽지 않은 알림 갯수 실시간 구독
+     */
+    @Test
+    void alarmStream() {
+        // given
+        given(memberApplicationService.findAlarmCount(any(ServerRequest.class))).willReturn(alarmCountResponse());
+        given(memberApplicationService.alarmCountStream(any(ServerRequest.class)))
+            .willReturn(Flux.just(new AlarmCountResponse(3L)));
+
+        // when
+        FluxExchangeResult<AlarmCountResponse> result = webClient
+            .get()
+            .uri(uriBuilder ->
+                uriBuilder.path("/member/alarm-stream")
+                    .queryParam("memberId", "2")
+                    .build()
+            )
+            .accept(MediaType.TEXT_EVENT_STREAM)
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+            .returnResult(AlarmCountResponse.class);
+
+        // then
+        StepVerifier.create(result.getResponseBody().map(AlarmCountResponse::getAlarmCount).take(2).collectList())
+            .assertNext(alarmCountList -> assertTrue(alarmCountList.containsAll(List.of(1L, 3L))))
+            .verifyComplete();
+    }
+
     /**
      * 읽지 않은 알림 목록 조회
      */